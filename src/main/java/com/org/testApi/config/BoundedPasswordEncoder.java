@@ -0,0 +1,171 @@
+package com.org.testApi.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Encodeur de mots de passe qui exécute les hachages BCrypt sur un pool borné.
+ * <p>
+ * Un hachage occupe un cœur pendant des dizaines de millisecondes : sans borne, une rafale de connexions
+ * monopolise tous les cœurs et affame le reste de l'API. Au plus {@code threads} hachages s'exécutent
+ * en même temps, {@code queueCapacity} attendent ; au-delà, la demande est refusée immédiatement par une
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    // Renseigné par bindTo ; vide tant qu'aucun registre n'est lié
+    private volatile Map<String, Timers> timers = Map.of();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit("encode", () -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Hache une liste de mots de passe en parallèle sur le pool, par vagues de la taille du pool :
+     * une inscription en lot n'occupe jamais la file et les connexions concurrentes s'intercalent
+     * entre deux vagues.
+     * @param rawPasswords les mots de passe en clair
+     * @return les empreintes, dans l'ordre des mots de passe
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = executor.getMaximumPoolSize();
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            List<Future<String>> futures = new ArrayList<>(window);
+            try {
+                for (CharSequence rawPassword : rawPasswords.subList(from, Math.min(from + window, rawPasswords.size()))) {
+                    futures.add(schedule("encode", () -> delegate.encode(rawPassword)));
+                }
+                for (Future<String> future : futures) {
+                    encoded.add(await(future));
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(String operation, Callable<T> hash) {
+        Future<T> future = schedule(operation, hash);
+        try {
+            return await(future);
+        } finally {
+            future.cancel(true);
+        }
+    }
+
+    private <T> Future<T> schedule(String operation, Callable<T> hash) {
+        long submitted = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return hash.call();
+                } finally {
+                    Timers timer = timers.get(operation);
+                    if (timer != null) {
+                        timer.queued().record(started - submitted, TimeUnit.NANOSECONDS);
+                        timer.hash().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Hachages en attente d'un thread du pool")
+                .register(registry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hachages en cours d'exécution")
+                .register(registry);
+        FunctionCounter.builder("auth.password.hash.rejected", rejected, LongAdder::sum)
+                .description("Hachages refusés, pool et file saturés")
+                .register(registry);
+        timers = Map.of("encode", timers(registry, "encode"), "matches", timers(registry, "matches"));
+    }
+
+    private static Timers timers(MeterRegistry registry, String operation) {
+        return new Timers(
+                Timer.builder("auth.password.hash")
+                        .tag("operation", operation)
+                        .description("Durée d'exécution d'un hachage de mot de passe")
+                        .register(registry),
+                Timer.builder("auth.password.hash.wait")
+                        .tag("operation", operation)
+                        .description("Attente d'un hachage dans la file du pool")
+                        .register(registry));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private record Timers(Timer hash, Timer queued) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.org.testApi.config;
+
+import com.org.testApi.models.BaseEntity;
+import com.org.testApi.models.id.PooledTableIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Aligne la table des séquences utilisée par {@link PooledTableIdGenerator}
+ * (créée par la migration V1).
+ * <p>
+ * Au démarrage, la valeur du segment est portée au-delà du plus grand identifiant présent dans
+ * les tables des entités : les lignes créées avant le passage aux identifiants par blocs
+ * (ou après une transaction annulée) ne peuvent donc jamais entrer en collision.
+ * Ce bean dépend de l'EntityManagerFactory, donc des migrations, et s'exécute avant
+ * les {@code CommandLineRunner}.
+ * </p>
+ */
+@Component
+public class IdSequenceInitializer {
+
+    private static final String SEGMENT = "entity";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        long nextValue = 1;
+        for (String table : entityTables()) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId != null) {
+                nextValue = Math.max(nextValue, maxId + 1);
+            }
+        }
+
+        jdbcTemplate.update("INSERT OR IGNORE INTO " + PooledTableIdGenerator.TABLE
+                + " (sequence_name, next_val) VALUES (?, ?)", SEGMENT, nextValue);
+        jdbcTemplate.update("UPDATE " + PooledTableIdGenerator.TABLE
+                + " SET next_val = MAX(next_val, ?) WHERE sequence_name = ?", nextValue, SEGMENT);
+    }
+
+    private List<String> entityTables() {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .filter(BaseEntity.class::isAssignableFrom)
+                .map(type -> type.getAnnotation(Table.class))
+                .filter(table -> table != null && !table.name().isEmpty())
+                .map(Table::name)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.org.testApi.config;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Clés de signature des jetons JWT, chargées au démarrage depuis un keystore local.
+ * <p>
+ * Chaque clé secrète du keystore est une clé de vérification, identifiée par son alias qui sert
+ * d'en-tête {@code kid} ; seule la clé {@code jwt.keystore.signing-alias} signe les nouveaux jetons.
+ * Tous les nœuds partageant le même fichier acceptent les jetons des autres sans coordination.
+ * Pour une rotation, la nouvelle clé est ajoutée au keystore et désignée pour la signature ;
+ * l'ancienne reste présente jusqu'à l'expiration des jetons qu'elle a signés.
+ * </p>
+ * <p>
+ * Création d'une clé : {@code keytool -genseckey -alias jwt-2026-01 -keyalg HmacSHA512 -keysize 512
+ * -storetype PKCS12 -keystore jwt-keys.p12}.
+ * Sans keystore configuré, une clé éphémère est générée : les jetons ne survivent pas au redémarrage
+ * et ne sont acceptés que par ce nœud.
+ * </p>
+ */
+@Component
+public class JwtKeyManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyManager.class);
+
+    private static final String EPHEMERAL_KEY_ID = "ephemeral";
+
+    // HS512 exige une clé d'au moins 512 bits
+    private static final int MIN_KEY_BYTES = 64;
+
+    private final Map<String, SecretKey> keys;
+    private final String signingKeyId;
+    private final JwtParser parser;
+
+    public JwtKeyManager(@Value("${jwt.keystore.path:}") String path,
+                         @Value("${jwt.keystore.password:}") String password,
+                         @Value("${jwt.keystore.type:PKCS12}") String type,
+                         @Value("${jwt.keystore.signing-alias:}") String signingAlias) {
+        if (path.isBlank()) {
+            logger.warn("No JWT keystore configured: using an ephemeral signing key, tokens will not survive a restart");
+            this.keys = Map.of(EPHEMERAL_KEY_ID, Jwts.SIG.HS512.key().build());
+            this.signingKeyId = EPHEMERAL_KEY_ID;
+        } else {
+            this.keys = load(Path.of(path), password.toCharArray(), type);
+            this.signingKeyId = signingAlias.isBlank() && keys.size() == 1 ? keys.keySet().iterator().next() : signingAlias;
+            if (!keys.containsKey(signingKeyId)) {
+                throw new IllegalStateException("JWT signing key '" + signingKeyId + "' not found in keystore " + path);
+            }
+            logger.info("Loaded {} JWT verification key(s) from {}, signing with '{}'", keys.size(), path, signingKeyId);
+        }
+        // Un seul parseur, construit une fois : la clé est choisie d'après le kid de l'en-tête
+        this.parser = Jwts.parser().keyLocator(this::locate).build();
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    public SecretKey getSigningKey() {
+        return keys.get(signingKeyId);
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    private Key locate(Header header) {
+        String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        SecretKey key = keyId == null ? null : keys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+        }
+        return key;
+    }
+
+    private static Map<String, SecretKey> load(Path path, char[] password, String type) {
+        try (InputStream in = Files.newInputStream(path)) {
+            KeyStore store = KeyStore.getInstance(type);
+            store.load(in, password);
+            Map<String, SecretKey> loaded = new LinkedHashMap<>();
+            for (String alias : Collections.list(store.aliases())) {
+                if (!store.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    continue;
+                }
+                Key key = store.getKey(alias, password);
+                if (key.getEncoded() == null || key.getEncoded().length < MIN_KEY_BYTES) {
+                    throw new IllegalStateException("JWT key '" + alias + "' is shorter than 512 bits");
+                }
+                loaded.put(alias, Keys.hmacShaKeyFor(key.getEncoded()));
+            }
+            if (loaded.isEmpty()) {
+                throw new IllegalStateException("No secret key found in JWT keystore " + path);
+            }
+            return Map.copyOf(loaded);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to load JWT keystore " + path, e);
+        }
+    }
+}
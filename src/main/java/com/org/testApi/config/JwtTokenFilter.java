@@ -1,9 +1,14 @@
 package com.org.testApi.config;
 
 import com.org.testApi.services.AuthService;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,6 +20,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.lang.NonNull;
@@ -26,6 +34,13 @@ public class JwtTokenFilter extends OncePerRequestFilter implements ApplicationC
     private UserDetailsService userDetailsService;
     private ApplicationContext applicationContext;
 
+    /**
+     * En mode sans état, l'authentification est construite à partir des claims du jeton,
+     * sans lecture de l'utilisateur en base ; la révocation passe par la liste de révocation.
+     */
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     @Autowired
     public void setUserDetailsService(UserDetailsService userDetailsService) {
         this.userDetailsService = userDetailsService;
@@ -45,10 +60,12 @@ public class JwtTokenFilter extends OncePerRequestFilter implements ApplicationC
                 authService = applicationContext.getBean(AuthService.class);
             }
 
-            if (authService.validateToken(token)) {
-                String username = authService.getCurrentUsernameFromToken(token);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Une seule vérification de signature par requête
+            Claims claims = authService.verifyToken(token);
+            if (claims != null) {
+                UserDetails userDetails = stateless && claims.get(AuthService.ROLES_CLAIM) instanceof Collection<?> roles
+                        ? fromClaims(claims.getSubject(), roles)
+                        : userDetailsService.loadUserByUsername(claims.getSubject());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -61,6 +78,18 @@ public class JwtTokenFilter extends OncePerRequestFilter implements ApplicationC
         filterChain.doFilter(request, response);
     }
 
+    private static UserDetails fromClaims(String username, Collection<?> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            authorities.add(new SimpleGrantedAuthority(role.toString()));
+        }
+        // Le mot de passe n'est pas connu ici et n'est pas nécessaire : le jeton a déjà été vérifié
+        return User.withUsername(username)
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
     @Override
     public void setApplicationContext(@NonNull ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
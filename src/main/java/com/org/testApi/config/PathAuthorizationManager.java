@@ -0,0 +1,216 @@
+package com.org.testApi.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Règles d'autorisation des requêtes HTTP, compilées au démarrage en un arbre de segments de chemin.
+ * <p>
+ * Une requête descend l'arbre segment par segment au lieu d'évaluer une liste ordonnée de motifs :
+ * le coût dépend de la profondeur du chemin, pas du nombre de règles. Le motif le plus précis l'emporte
+ * (segment littéral, puis {@code *}, puis {@code **}), quel que soit l'ordre de déclaration. Les requêtes
+ * qu'aucune règle ne couvre exigent un utilisateur authentifié.
+ * </p>
+ * <p>
+ * Les décisions des règles par rôle sont mises en cache par (règle, ensemble d'autorités) : les
+ * combinaisons de rôles sont peu nombreuses et les autorités d'un jeton ne changent pas.
+ * </p>
+ */
+public final class PathAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final int MAX_CACHED_DECISIONS = 1024;
+    private static final String ANY_METHOD = "*";
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Node root;
+    private final ConcurrentMap<DecisionKey, AuthorizationDecision> decisions = new ConcurrentHashMap<>();
+
+    private PathAuthorizationManager(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context.getRequest());
+    }
+
+    /**
+     * Décide de l'accès à une requête. L'authentification n'est lue que si la règle l'exige.
+     * @param authentication fournisseur de l'authentification courante
+     * @param request la requête à autoriser
+     * @return la décision
+     */
+    public AuthorizationDecision decide(Supplier<Authentication> authentication, HttpServletRequest request) {
+        Rule rule = ruleFor(request.getMethod(), UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        if (rule.access() == Access.PERMIT_ALL) {
+            return GRANTED;
+        }
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated() || current instanceof AnonymousAuthenticationToken) {
+            return DENIED;
+        }
+        if (rule.access() == Access.AUTHENTICATED) {
+            return GRANTED;
+        }
+        Collection<? extends GrantedAuthority> authorities = current.getAuthorities();
+        DecisionKey key = new DecisionKey(rule, authorities);
+        AuthorizationDecision decision = decisions.get(key);
+        if (decision == null) {
+            if (decisions.size() >= MAX_CACHED_DECISIONS) {
+                decisions.clear();
+            }
+            boolean granted = authorities.stream().anyMatch(a -> rule.authority().equals(a.getAuthority()));
+            decision = granted ? GRANTED : DENIED;
+            decisions.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * @return la règle la plus précise pour la méthode et le chemin, jamais nulle
+     */
+    Rule ruleFor(String method, String path) {
+        Rule rule = match(root, segments(path), 0, method);
+        return rule != null ? rule : Rule.DEFAULT;
+    }
+
+    private static Rule match(Node node, String[] segments, int index, String method) {
+        if (index == segments.length) {
+            Rule rule = lookup(node.exact, method);
+            // "**" couvre aussi zéro segment : /api/users/** autorise /api/users
+            return rule != null ? rule : lookup(node.remaining, method);
+        }
+        Node child = node.children.get(segments[index]);
+        if (child != null) {
+            Rule rule = match(child, segments, index + 1, method);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        if (node.wildcard != null) {
+            Rule rule = match(node.wildcard, segments, index + 1, method);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return lookup(node.remaining, method);
+    }
+
+    private static Rule lookup(Map<String, Rule> rules, String method) {
+        if (rules.isEmpty()) {
+            return null;
+        }
+        Rule rule = rules.get(method);
+        return rule != null ? rule : rules.get(ANY_METHOD);
+    }
+
+    private static String[] segments(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    enum Access {
+        PERMIT_ALL, AUTHENTICATED, HAS_AUTHORITY
+    }
+
+    record Rule(String pattern, Access access, String authority) {
+        static final Rule DEFAULT = new Rule("/**", Access.AUTHENTICATED, null);
+    }
+
+    private record DecisionKey(Rule rule, Collection<? extends GrantedAuthority> authorities) {
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final Map<String, Rule> exact = new HashMap<>(2);
+        private final Map<String, Rule> remaining = new HashMap<>(2);
+        private Node wildcard;
+    }
+
+    /**
+     * Déclare les règles ; l'ordre des appels est sans effet. Motifs acceptés : segments littéraux,
+     * {@code *} pour un segment quelconque, {@code **} en dernier segment pour tout le sous-arbre.
+     */
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String... patterns) {
+            return add(null, Access.PERMIT_ALL, null, patterns);
+        }
+
+        public Builder authenticated(String... patterns) {
+            return add(null, Access.AUTHENTICATED, null, patterns);
+        }
+
+        public Builder hasRole(String role, String... patterns) {
+            return add(null, Access.HAS_AUTHORITY, "ROLE_" + role, patterns);
+        }
+
+        public Builder hasRole(HttpMethod method, String role, String... patterns) {
+            return add(method, Access.HAS_AUTHORITY, "ROLE_" + role, patterns);
+        }
+
+        public PathAuthorizationManager build() {
+            return new PathAuthorizationManager(root);
+        }
+
+        private Builder add(HttpMethod method, Access access, String authority, String... patterns) {
+            String methodKey = method == null ? ANY_METHOD : method.name();
+            for (String pattern : patterns) {
+                Rule rule = new Rule(pattern, access, authority);
+                String[] segments = segments(pattern);
+                Node node = root;
+                Map<String, Rule> target = null;
+                for (int i = 0; i < segments.length && target == null; i++) {
+                    String segment = segments[i];
+                    if (segment.equals("**")) {
+                        if (i != segments.length - 1) {
+                            throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+                        }
+                        target = node.remaining;
+                    } else if (segment.equals("*")) {
+                        node = node.wildcard != null ? node.wildcard : (node.wildcard = new Node());
+                    } else if (segment.contains("*")) {
+                        throw new IllegalArgumentException("Partial wildcards are not supported: " + pattern);
+                    } else {
+                        node = node.children.computeIfAbsent(segment, s -> new Node());
+                    }
+                }
+                if (target == null) {
+                    target = node.exact;
+                }
+                Rule previous = target.putIfAbsent(methodKey, rule);
+                if (previous != null && (previous.access() != access || !Objects.equals(previous.authority(), authority))) {
+                    throw new IllegalStateException("Conflicting rules for " + pattern + ": " + previous + " and " + rule);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.org.testApi.config;
+
+import com.org.testApi.config.datasource.ReadWriteRoutingDataSource;
+import com.org.testApi.config.datasource.SQLiteDataSourceMetrics;
+import com.org.testApi.config.datasource.SerializedWriterDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Configuration des sources de données SQLite.
+ * <p>
+ * La base est ouverte en mode WAL : un pool de connexions en lecture seule sert les requêtes
+ * pendant qu'une unique connexion d'écriture, protégée par une file équitable
+ * ({@link SerializedWriterDataSource}), traite les transactions d'écriture.
+ * </p>
+ * <p>
+ * Le DataSource principal aiguille chaque transaction selon son attribut read-only
+ * ({@link ReadWriteRoutingDataSource}) : les lectures ne patientent jamais derrière les écritures.
+ * </p>
+ */
+@Configuration
+public class SQLiteDataSourceConfig {
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${sqlite.read-pool.size:4}")
+    private int readPoolSize;
+
+    @Value("${sqlite.busy-timeout-ms:5000}")
+    private int busyTimeoutMillis;
+
+    @Value("${sqlite.synchronous:NORMAL}")
+    private String synchronous;
+
+    @Value("${sqlite.wal.autocheckpoint-pages:1000}")
+    private int walAutocheckpointPages;
+
+    @Value("${sqlite.writer.acquire-timeout-ms:30000}")
+    private long writerAcquireTimeoutMillis;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriterPool() {
+        HikariConfig config = baseConfig("sqlite-writer");
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(1);
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.setConnectionInitSql("PRAGMA wal_autocheckpoint = " + walAutocheckpointPages);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Les lecteurs s'ouvrent en SQLITE_OPEN_READONLY : ils dépendent des fichiers -wal/-shm
+     * créés par l'écrivain, d'où le {@link DependsOn}.
+     */
+    @Bean(destroyMethod = "close")
+    @DependsOn("sqliteWriterPool")
+    public HikariDataSource sqliteReadPool() {
+        HikariConfig config = baseConfig("sqlite-read");
+        config.setMaximumPoolSize(readPoolSize);
+        config.setMinimumIdle(1);
+        config.addDataSourceProperty("open_mode", "1");
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public SerializedWriterDataSource sqliteWriterDataSource(@Qualifier("sqliteWriterPool") HikariDataSource sqliteWriterPool) {
+        return new SerializedWriterDataSource(sqliteWriterPool, writerAcquireTimeoutMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(SerializedWriterDataSource sqliteWriterDataSource,
+                                 @Qualifier("sqliteReadPool") HikariDataSource sqliteReadPool) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(sqliteWriterDataSource, sqliteReadPool));
+        // Évite d'emprunter l'écrivain au démarrage pour détecter ces valeurs
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        return proxy;
+    }
+
+    @Bean
+    public SQLiteDataSourceMetrics sqliteDataSourceMetrics(SerializedWriterDataSource sqliteWriterDataSource,
+                                                           @Qualifier("sqliteWriterPool") HikariDataSource sqliteWriterPool,
+                                                           @Qualifier("sqliteReadPool") HikariDataSource sqliteReadPool) {
+        return new SQLiteDataSourceMetrics(sqliteWriterDataSource, sqliteWriterPool, sqliteReadPool,
+                busyTimeoutMillis, walAutocheckpointPages);
+    }
+
+    private HikariConfig baseConfig(String poolName) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.addDataSourceProperty("busy_timeout", String.valueOf(busyTimeoutMillis));
+        config.addDataSourceProperty("synchronous", synchronous);
+        return config;
+    }
+}
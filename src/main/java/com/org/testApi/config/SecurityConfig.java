@@ -1,7 +1,9 @@
 package com.org.testApi.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -9,6 +11,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,10 +25,13 @@ public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
 
+    private final UserDetailsPasswordService userDetailsPasswordService;
+
     private JwtTokenFilter jwtTokenFilter;
 
-    public SecurityConfig(UserDetailsService userDetailsService) {
+    public SecurityConfig(UserDetailsService userDetailsService, UserDetailsPasswordService userDetailsPasswordService) {
         this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
     }
 
     @Autowired
@@ -33,16 +39,24 @@ public class SecurityConfig {
         this.jwtTokenFilter = jwtTokenFilter;
     }
 
+    /**
+     * Les hachages BCrypt s'exécutent sur un pool borné. Un mot de passe haché avec un coût inférieur
+     * à {@code security.password.bcrypt-strength} est rehaché à la connexion suivante.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${security.password.hash-threads:0}") int threads,
+                                                  @Value("${security.password.hash-queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity);
     }
 
     @Bean
-   public DaoAuthenticationProvider authenticationProvider() {
+   public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -52,36 +66,35 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * Règles d'autorisation, compilées en arbre de chemins : le motif le plus précis l'emporte,
+     * toute requête non couverte exige un utilisateur authentifié.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public PathAuthorizationManager pathAuthorizationManager() {
+        return PathAuthorizationManager.builder()
+                .permitAll("/", "/api/auth/**")
+                .permitAll("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html")
+                .permitAll("/error", "/actuator/health", "/h2-console/**")
+
+                // Endpoints admin seulement
+                .hasRole("ADMIN", "/api/auth/register/batch")
+                .hasRole("ADMIN", "/api/roles/**", "/api/admin/**")
+                .hasRole(HttpMethod.POST, "ADMIN", "/api/users/*/roles/*")
+                .hasRole(HttpMethod.DELETE, "ADMIN", "/api/users/*/roles/*")
+
+                // Associations, utilisateurs, événements, membres : utilisateur connecté
+                .authenticated("/api/associations/**", "/api/users/**", "/api/events/**", "/api/members/**")
+                .build();
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider,
+                                           PathAuthorizationManager pathAuthorizationManager) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/", "/api/auth/**").permitAll()
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
-                        .requestMatchers("/error").permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
-                        .requestMatchers("/h2-console/**").permitAll()
-
-                        // Endpoints admin seulement
-                        .requestMatchers("/api/roles/**").hasRole("ADMIN")
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
-
-                        // Endpoints pour les associations
-                        .requestMatchers("/api/associations/**").authenticated() // Ajout explicite
-
-                        // Endpoints pour utilisateurs connectés
-                        .requestMatchers("/api/users/**").authenticated()
-                        .requestMatchers("/api/users/payload", "/api/users/payload/**").authenticated()
-                        .requestMatchers("/api/events/**").authenticated()
-
-                        // Member endpoints
-                        .requestMatchers("/api/members/**").authenticated()
-                        .requestMatchers("/api/members/payload", "/api/members/payload/**").authenticated()
-
-                        .anyRequest().authenticated()
-                )
-                .authenticationProvider(authenticationProvider())
+                .authorizeHttpRequests(authz -> authz.anyRequest().access(pathAuthorizationManager))
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
@@ -0,0 +1,36 @@
+package com.org.testApi.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Route les connexions vers le pool de lecture ou vers l'écrivain SQLite.
+ * <p>
+ * Les transactions {@code @Transactional(readOnly = true)} sont servies par le pool de lecture,
+ * tout le reste passe par la connexion d'écriture. La décision est prise au moment où la connexion
+ * est réellement demandée : ce DataSource doit donc être enveloppé dans un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} pour que l'attribut
+ * read-only de la transaction soit déjà connu.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITER,
+        READER
+    }
+
+    public ReadWriteRoutingDataSource(DataSource writer, DataSource reader) {
+        setTargetDataSources(Map.<Object, Object>of(Route.WRITER, writer, Route.READER, reader));
+        setDefaultTargetDataSource(writer);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.READER : Route.WRITER;
+    }
+}
@@ -0,0 +1,74 @@
+package com.org.testApi.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expose la configuration et l'état du sous-système SQLite sous forme de métriques Micrometer.
+ * <p>
+ * Les métriques détaillées des pools ({@code hikaricp.*}) sont publiées par Spring Boot ;
+ * celles-ci complètent avec la file d'écriture, le délai {@code busy_timeout}
+ * et la politique de checkpoint WAL.
+ * </p>
+ */
+public class SQLiteDataSourceMetrics implements MeterBinder {
+
+    private final SerializedWriterDataSource writer;
+    private final HikariDataSource writerPool;
+    private final HikariDataSource readPool;
+    private final int busyTimeoutMillis;
+    private final int walAutocheckpointPages;
+
+    public SQLiteDataSourceMetrics(SerializedWriterDataSource writer,
+                                   HikariDataSource writerPool,
+                                   HikariDataSource readPool,
+                                   int busyTimeoutMillis,
+                                   int walAutocheckpointPages) {
+        this.writer = writer;
+        this.writerPool = writerPool;
+        this.readPool = readPool;
+        this.busyTimeoutMillis = busyTimeoutMillis;
+        this.walAutocheckpointPages = walAutocheckpointPages;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sqlite.pool.size", writerPool, HikariDataSource::getMaximumPoolSize)
+                .tag("pool", "writer")
+                .description("Taille maximale du pool SQLite")
+                .register(registry);
+        Gauge.builder("sqlite.pool.size", readPool, HikariDataSource::getMaximumPoolSize)
+                .tag("pool", "read")
+                .description("Taille maximale du pool SQLite")
+                .register(registry);
+
+        Gauge.builder("sqlite.busy.timeout", () -> busyTimeoutMillis)
+                .baseUnit("milliseconds")
+                .description("Valeur de PRAGMA busy_timeout appliquée à chaque connexion")
+                .register(registry);
+        Gauge.builder("sqlite.wal.autocheckpoint", () -> walAutocheckpointPages)
+                .baseUnit("pages")
+                .description("Seuil de PRAGMA wal_autocheckpoint de la connexion d'écriture")
+                .register(registry);
+
+        Gauge.builder("sqlite.writer.queue", writer, SerializedWriterDataSource::getQueueLength)
+                .description("Transactions en attente de la connexion d'écriture")
+                .register(registry);
+        Gauge.builder("sqlite.writer.busy", writer, w -> w.isWriterBusy() ? 1 : 0)
+                .description("1 si la connexion d'écriture est détenue")
+                .register(registry);
+        FunctionCounter.builder("sqlite.writer.acquired", writer, SerializedWriterDataSource::getAcquiredCount)
+                .description("Nombre de connexions d'écriture accordées")
+                .register(registry);
+        FunctionCounter.builder("sqlite.writer.timeouts", writer, SerializedWriterDataSource::getTimeoutCount)
+                .description("Demandes d'écriture abandonnées après le délai d'acquisition")
+                .register(registry);
+        FunctionCounter.builder("sqlite.writer.wait", writer, SerializedWriterDataSource::getTotalWaitMillis)
+                .baseUnit("milliseconds")
+                .description("Temps cumulé passé dans la file d'écriture")
+                .register(registry);
+    }
+}
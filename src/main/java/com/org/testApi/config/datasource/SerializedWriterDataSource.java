@@ -0,0 +1,138 @@
+package com.org.testApi.config.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource d'écriture SQLite sérialisée par une file d'attente équitable.
+ * <p>
+ * SQLite n'accepte qu'un seul écrivain à la fois : plutôt que de laisser les transactions
+ * concurrentes se heurter à {@code SQLITE_BUSY}, chaque demande de connexion prend un jeton
+ * dans un {@link Semaphore} équitable (FIFO) et le rend à la fermeture de la connexion.
+ * Les écritures sont donc servies dans l'ordre d'arrivée.
+ * </p>
+ * <p>
+ * Un même thread ne doit pas demander une seconde connexion d'écriture tant qu'il en détient une
+ * (par exemple {@code REQUIRES_NEW} imbriqué) : la demande attendrait jusqu'au délai d'acquisition.
+ * </p>
+ */
+public class SerializedWriterDataSource extends DelegatingDataSource {
+
+    private final Semaphore writePermit = new Semaphore(1, true);
+    private final long acquireTimeoutMillis;
+
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    public SerializedWriterDataSource(DataSource targetDataSource, long acquireTimeoutMillis) {
+        super(targetDataSource);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            writePermit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            writePermit.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!writePermit.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                throw new SQLTimeoutException("Délai d'attente dépassé pour la connexion d'écriture SQLite ("
+                        + acquireTimeoutMillis + " ms, " + writePermit.getQueueLength() + " en attente)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompu en attente de la connexion d'écriture SQLite", e);
+        } finally {
+            totalWaitNanos.add(System.nanoTime() - start);
+        }
+        acquiredCount.increment();
+    }
+
+    /**
+     * Enveloppe la connexion pour rendre le jeton d'écriture exactement une fois, à la fermeture.
+     */
+    private Connection guard(Connection target) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                writePermit.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    /**
+     * @return le nombre de transactions en attente du jeton d'écriture
+     */
+    public int getQueueLength() {
+        return writePermit.getQueueLength();
+    }
+
+    /**
+     * @return true si une connexion d'écriture est actuellement détenue
+     */
+    public boolean isWriterBusy() {
+        return writePermit.availablePermits() == 0;
+    }
+
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    public double getTotalWaitMillis() {
+        return totalWaitNanos.sum() / 1_000_000.0;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+}
@@ -0,0 +1,147 @@
+package com.org.testApi.config.migration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Applique au démarrage les scripts SQL versionnés {@code V<n>__<description>.sql}.
+ * <p>
+ * Chaque script est exécuté une seule fois, dans sa propre transaction, et enregistré dans la table
+ * {@value #HISTORY_TABLE} avec sa somme de contrôle. Un script déjà appliqué puis modifié bloque
+ * le démarrage : il faut ajouter une nouvelle version plutôt que réécrire l'historique.
+ * Hibernate ne touche plus au schéma ({@code hbm2ddl.auto=none}) ; l'EntityManagerFactory dépend
+ * de ce bean pour démarrer sur un schéma à jour.
+ * </p>
+ */
+@Slf4j
+@Component("schemaMigrator")
+public class SchemaMigrator {
+
+    public static final String HISTORY_TABLE = "schema_version";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.migration.locations:classpath*:db/migration/*.sql}")
+    private String locations;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                + "version INTEGER NOT NULL PRIMARY KEY, "
+                + "description VARCHAR(200) NOT NULL, "
+                + "checksum BIGINT NOT NULL, "
+                + "installed_on TIMESTAMP NOT NULL)");
+
+        Map<Integer, Long> applied = jdbcTemplate.query("SELECT version, checksum FROM " + HISTORY_TABLE,
+                        (rs, rowNum) -> Map.entry(rs.getInt(1), rs.getLong(2)))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        int pending = 0;
+        for (Migration migration : loadMigrations()) {
+            Long checksum = applied.get(migration.version());
+            if (checksum == null) {
+                apply(migration);
+                pending++;
+            } else if (checksum != migration.checksum()) {
+                throw new IllegalStateException("La migration V" + migration.version()
+                        + " a été modifiée après son application : " + migration.resource().getFilename());
+            }
+        }
+        log.info("Schéma à jour : {} migration(s) appliquée(s), {} déjà présente(s)", pending, applied.size());
+    }
+
+    private void apply(Migration migration) {
+        log.info("Application de la migration V{} - {}", migration.version(), migration.description());
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                ScriptUtils.executeSqlScript(connection, migration.resource());
+                try (var statement = connection.prepareStatement("INSERT INTO " + HISTORY_TABLE
+                        + " (version, description, checksum, installed_on) VALUES (?, ?, ?, ?)")) {
+                    statement.setInt(1, migration.version());
+                    statement.setString(2, migration.description());
+                    statement.setLong(3, migration.checksum());
+                    statement.setObject(4, LocalDateTime.now());
+                    statement.executeUpdate();
+                }
+                connection.commit();
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Échec de la migration V" + migration.version(), e);
+        }
+    }
+
+    private List<Migration> loadMigrations() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(locations);
+            List<Migration> migrations = new ArrayList<>();
+            for (Resource resource : resources) {
+                Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                migrations.add(new Migration(Integer.parseInt(matcher.group(1)),
+                        matcher.group(2).replace('_', ' '), checksum(resource), resource));
+            }
+            // Deux scripts de même version seraient appliqués dans un ordre arbitraire
+            migrations.stream()
+                    .collect(Collectors.groupingBy(Migration::version, Collectors.counting()))
+                    .forEach((version, count) -> {
+                        if (count > 1) {
+                            throw new IllegalStateException("Version de migration en double : V" + version);
+                        }
+                    });
+            migrations.sort(Comparator.comparingInt(Migration::version));
+            return migrations;
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible de lire les scripts de migration " + locations, e);
+        }
+    }
+
+    private static long checksum(Resource resource) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = resource.getInputStream()) {
+            crc.update(in.readAllBytes());
+        }
+        return crc.getValue();
+    }
+
+    private record Migration(int version, String description, long checksum, Resource resource) {
+    }
+}
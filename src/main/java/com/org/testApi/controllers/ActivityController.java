@@ -9,6 +9,7 @@ import com.org.testApi.services.ActivityService;
 import com.org.testApi.services.AssociationService;
 import com.org.testApi.services.ProjectService;
 import com.org.testApi.mapper.ActivityMapper;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -55,6 +57,26 @@ private ActivityMapper activityMapper;
         return ResponseEntity.ok(activities);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les activités par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<Activity>> getActivitiesByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(activityService.getActivitiesByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer une activité par ID", description ="Retourne une activité spécifique en fonctionde sonID")
     @ApiResponses(value = {
@@ -389,11 +411,24 @@ if(payload.getStatus() != null) {
     public ResponseEntity<?>softDeleteActivity(
             @Parameter(description= "ID del'activité à supprimerlogiquement") @PathVariable Long id) {
         try {
-            activityService.softDeleteActivity(id);
+            if (activityService.softDeleteActivities(List.of(id)) == 0) {
+                return ResponseEntity.notFound().build();
+            }
             return ResponseEntity.noContent().build();
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(500).body("Error softdeleting activity: " + e.getMessage());
         }
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs activités", description = "Supprime logiquement, en une seule requête, les activités dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteActivities(
+            @Parameter(description = "IDs des activités à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(activityService.softDeleteActivities(ids));
+    }
 }
\ No newline at end of file
@@ -3,8 +3,10 @@ package com.org.testApi.controllers;
 import com.org.testApi.dto.AssociationDTO;
 import com.org.testApi.models.Association;
 import com.org.testApi.payload.AssociationPayload;
+import com.org.testApi.services.AssociationAccess;
 import com.org.testApi.services.AssociationService;
 import com.org.testApi.mapper.AssociationMapper;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +16,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +35,10 @@ public class AssociationController {
     @Autowired
     private AssociationMapper associationMapper;
 
+    // Adhésions de l'appelant, lues une fois par requête
+    @Autowired
+    private AssociationAccess associationAccess;
+
     @GetMapping
     @Operation(summary = "Récupérer toutes les associations", description = "Retourne une liste de toutes les associations")
     @ApiResponses(value = {
@@ -52,6 +60,26 @@ public class AssociationController {
         }
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les associations par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<AssociationDTO>> getAssociationsByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(associationService.getAssociationsByKeyset(sort, direction, size, token).map(associationMapper::toDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
 
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer une association par ID", description = "Retourne une association spécifique en fonction de son ID")
@@ -149,6 +177,7 @@ public class AssociationController {
             @ApiResponse(responseCode = "200", description = "Association mise à jour avec succès",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Association.class))}),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'administre pas l'association"),
             @ApiResponse(responseCode = "404", description = "Association non trouvée"),
             @ApiResponse(responseCode = "400", description = "Données de requête invalides"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
@@ -173,6 +202,9 @@ public class AssociationController {
                             )
                     ))
             @RequestBody Association association) {
+        if (!associationAccess.isAdmin(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         try {
             Association updatedAssociation = associationService.updateAssociation(id, association);
             return ResponseEntity.ok(updatedAssociation);
@@ -187,6 +219,7 @@ public class AssociationController {
             @ApiResponse(responseCode = "200", description = "Association mise à jour avec succès à partir du payload",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Association.class))}),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'administre pas l'association"),
             @ApiResponse(responseCode = "404", description = "Association non trouvée"),
             @ApiResponse(responseCode = "400", description = "Données de payload invalides"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
@@ -211,6 +244,9 @@ public class AssociationController {
                             )
                     ))
             @RequestBody AssociationPayload payload) {
+        if (!associationAccess.isAdmin(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         return associationService.getAssociationById(id)
                 .map(association -> {
                     associationMapper.updateEntityFromPayload(payload, association);
@@ -224,11 +260,15 @@ public class AssociationController {
     @Operation(summary = "Supprimer une association", description = "Supprime définitivement une association")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Association supprimée avec succès"),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'administre pas l'association"),
             @ApiResponse(responseCode = "404", description = "Association non trouvée"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<Void> deleteAssociation(
             @Parameter(description = "ID de l'association à supprimer") @PathVariable Long id) {
+        if (!associationAccess.isAdmin(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         associationService.deleteAssociation(id);
         return ResponseEntity.noContent().build();
     }
@@ -237,12 +277,33 @@ public class AssociationController {
     @Operation(summary = "Supprimer logiquement une association", description = "Marque une association comme supprimée sans la retirer de la base de données")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Association supprimée logiquement avec succès"),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'administre pas l'association"),
             @ApiResponse(responseCode = "404", description = "Association non trouvée"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<Void> softDeleteAssociation(
             @Parameter(description = "ID de l'association à supprimer logiquement") @PathVariable Long id) {
-        associationService.softDeleteAssociation(id);
+        if (!associationAccess.isAdmin(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (associationService.softDeleteAssociations(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs associations", description = "Supprime logiquement, en une seule requête, les associations dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'administre pas toutes les associations"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteAssociations(
+            @Parameter(description = "IDs des associations à supprimer logiquement") @RequestBody List<Long> ids) {
+        if (!associationAccess.isAdminOfAll(ids)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(associationService.softDeleteAssociations(ids));
+    }
 }
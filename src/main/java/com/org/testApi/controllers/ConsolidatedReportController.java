@@ -0,0 +1,90 @@
+package com.org.testApi.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.testApi.dto.response.ConsolidatedReportDTO;
+import com.org.testApi.services.ConsolidatedReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rapport consolidé de toutes les associations, réservé aux administrateurs.
+ * La réponse est un flux NDJSON : une ligne {@code association} par association terminée, dans l'ordre
+ * d'achèvement, puis une ligne {@code report} avec le rapport fusionné.
+ */
+@RestController
+@RequestMapping("/api/admin/reports/consolidated")
+@Tag(name = "Consolidated Report", description = "Rapport consolidé multi-associations")
+public class ConsolidatedReportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+
+    @Autowired
+    private ConsolidatedReportService consolidatedReportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    @Operation(summary = "Générer le rapport consolidé",
+            description = "Calcule en parallèle le rapport de chaque association active et transmet l'avancement au fil de l'eau")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rapport en cours d'écriture"),
+            @ApiResponse(responseCode = "400", description = "Période invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> generate(
+            @Parameter(description = "Date de début") @RequestParam LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "End date must not be before start date"));
+        }
+        StreamingResponseBody body = out -> {
+            ConsolidatedReportDTO report = consolidatedReportService.generate(startDate, endDate,
+                    (association, completed, total) -> {
+                        Map<String, Object> line = new LinkedHashMap<>();
+                        line.put("event", "association");
+                        line.put("completed", completed);
+                        line.put("total", total);
+                        line.put("association", association);
+                        writeLine(out, line);
+                    });
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("event", "report");
+            line.put("report", report);
+            writeLine(out, line);
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    // Appelé depuis les threads du pool : une ligne à la fois, vidée aussitôt
+    private void writeLine(OutputStream out, Object line) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(line);
+            synchronized (out) {
+                out.write(json);
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.org.testApi.models.Document;
 import com.org.testApi.payload.DocumentPayload;
 import com.org.testApi.services.DocumentService;
 import com.org.testApi.mapper.DocumentMapper;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,6 +43,26 @@ public class DocumentController {
         return ResponseEntity.ok(documents);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les documents par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<Document>> getDocumentsByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(documentService.getDocumentsByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer un document par ID", description = "Retourne un document spécifique en fonction de son ID")
     @ApiResponses(value = {
@@ -226,7 +248,20 @@ content = {@Content(mediaType = "application/json",
    })
     public ResponseEntity<Void> softDeleteDocument(
             @Parameter(description = "ID du document à supprimer logiquement") @PathVariable Long id) {
-        documentService.softDeleteDocument(id);
+        if (documentService.softDeleteDocuments(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs documents", description = "Supprime logiquement, en une seule requête, les documents dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteDocuments(
+            @Parameter(description = "IDs des documents à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(documentService.softDeleteDocuments(ids));
+    }
 }
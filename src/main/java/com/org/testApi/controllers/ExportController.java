@@ -0,0 +1,99 @@
+package com.org.testApi.controllers;
+
+import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.models.Loan;
+import com.org.testApi.models.MembershipFee;
+import com.org.testApi.services.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Exports en flux (NDJSON ou CSV) des transactions financières, cotisations et prêts.
+ * Le corps de la réponse est écrit au fil de la lecture : la mémoire utilisée ne dépend pas du volume exporté.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@Tag(name = "Export", description = "Exports comptables en flux")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/financial-transactions")
+    @Operation(summary = "Exporter les transactions financières",
+            description = "Exporte en flux les transactions financières, avec les filtres de la recherche multicritère")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export en cours d'écriture"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<StreamingResponseBody> exportFinancialTransactions(
+            @Parameter(description = "Format d'export") @RequestParam(defaultValue = "NDJSON") ExportService.Format format,
+            @Parameter(description = "Type de transaction (optionnel)") @RequestParam(required = false) FinancialTransaction.TransactionType type,
+            @Parameter(description = "Montant minimum (optionnel)") @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "Montant maximum (optionnel)") @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "Date de début (optionnel)") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "Date de fin (optionnel)") @RequestParam(required = false) LocalDate endDate,
+            @Parameter(description = "ID de l'association (optionnel)") @RequestParam(required = false) Long associationId) {
+        return export(format, "financial-transactions", out -> exportService.exportFinancialTransactions(
+                format, type, minAmount, maxAmount, startDate, endDate, associationId, out));
+    }
+
+    @GetMapping("/membership-fees")
+    @Operation(summary = "Exporter les cotisations",
+            description = "Exporte en flux les cotisations, avec les filtres de la recherche multicritère")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export en cours d'écriture"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<StreamingResponseBody> exportMembershipFees(
+            @Parameter(description = "Format d'export") @RequestParam(defaultValue = "NDJSON") ExportService.Format format,
+            @Parameter(description = "Montant minimum (optionnel)") @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "Montant maximum (optionnel)") @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "Mode de paiement (optionnel)") @RequestParam(required = false) MembershipFee.PaymentMethod paymentMethod,
+            @Parameter(description = "ID du membre (optionnel)") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Date de début (optionnel)") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "Date de fin (optionnel)") @RequestParam(required = false) LocalDate endDate) {
+        return export(format, "membership-fees", out -> exportService.exportMembershipFees(
+                format, minAmount, maxAmount, paymentMethod, memberId, startDate, endDate, out));
+    }
+
+    @GetMapping("/loans")
+    @Operation(summary = "Exporter les prêts",
+            description = "Exporte en flux les prêts, avec les filtres de la recherche multicritère")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export en cours d'écriture"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<StreamingResponseBody> exportLoans(
+            @Parameter(description = "Format d'export") @RequestParam(defaultValue = "NDJSON") ExportService.Format format,
+            @Parameter(description = "ID du membre (optionnel)") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Montant minimum (optionnel)") @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "Montant maximum (optionnel)") @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "Statut du prêt (optionnel)") @RequestParam(required = false) Loan.LoanStatus status,
+            @Parameter(description = "Date de début (optionnel)") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "Date de fin (optionnel)") @RequestParam(required = false) LocalDate endDate) {
+        return export(format, "loans", out -> exportService.exportLoans(
+                format, memberId, minAmount, maxAmount, status, startDate, endDate, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ExportService.Format format, String name,
+                                                         StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "-" + LocalDate.now() + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
@@ -1,5 +1,6 @@
 package com.org.testApi.controllers;
 
+import com.org.testApi.dto.response.FinancialTransactionResponseDTO;
 import com.org.testApi.models.FinancialTransaction;
 import com.org.testApi.payload.FinancialTransactionPayload;
 import com.org.testApi.services.FinancialTransactionService;
@@ -8,6 +9,7 @@ import com.org.testApi.services.AssociationService;
 import com.org.testApi.services.ActivityService;
 import com.org.testApi.services.ProjectService;
 import com.org.testApi.services.FinancialCategoryService;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,7 +18,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -50,26 +54,46 @@ public class FinancialTransactionController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des transactions financières récupérée avec succès",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = FinancialTransaction.class))}),
+                            schema = @Schema(implementation = FinancialTransactionResponseDTO.class))}),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<List<FinancialTransaction>> getAllFinancialTransactions() {
-        List<FinancialTransaction> transactions =financialTransactionService.getAllFinancialTransactions();
+    public ResponseEntity<List<FinancialTransactionResponseDTO>> getAllFinancialTransactions() {
+        List<FinancialTransactionResponseDTO> transactions = financialTransactionService.getAllFinancialTransactionResponses();
 return ResponseEntity.ok(transactions);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les transactions financières par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<FinancialTransaction>> getFinancialTransactionsByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(financialTransactionService.getFinancialTransactionsByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer une transaction financière par ID", description = "Retourne une transaction financière spécifique en fonction de son ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Transactionfinancière trouvée",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = FinancialTransaction.class))}),
+                            schema = @Schema(implementation = FinancialTransactionResponseDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Transaction financière non trouvée"),
 @ApiResponse(responseCode = "500", description="Erreur interne du serveur")
     })
-    public ResponseEntity<FinancialTransaction> getFinancialTransactionById(
+    public ResponseEntity<FinancialTransactionResponseDTO> getFinancialTransactionById(
             @Parameter(description = "ID de la transaction financière à récupérer") @PathVariable Long id) {
-        return financialTransactionService.getFinancialTransactionById(id)
+        return financialTransactionService.getFinancialTransactionResponseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -187,7 +211,7 @@ examples= @ExampleObject(value = "{\"id\": 1,\"amount\": 500.00,\"transactionDat
                     )
                 )
             )
-            @RequestBody FinancialTransactionPayload payload) {
+            @Valid @RequestBody FinancialTransactionPayload payload) {
         FinancialTransaction transaction = financialTransactionMapper.toEntityFromPayload(payload);
         
         // Set the related entities based on the IDs in the payload
@@ -327,7 +351,7 @@ value = "{\n" +
                     )
                 )
             )
-            @RequestBody FinancialTransactionPayload payload) {
+            @Valid @RequestBody FinancialTransactionPayload payload) {
         return financialTransactionService.getFinancialTransactionById(id)
                 .map(transaction -> {
                     financialTransactionMapper.updateEntityFromPayload(payload, transaction);
@@ -372,7 +396,20 @@ value = "{\n" +
     })
     public ResponseEntity<Void> softDeleteFinancialTransaction(
             @Parameter(description = "ID de la transaction financière à supprimerlogiquement") @PathVariable Long id) {
-        financialTransactionService.softDeleteFinancialTransaction(id);
+        if (financialTransactionService.softDeleteFinancialTransactions(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
    }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs transactions financières", description = "Supprime logiquement, en une seule requête, les transactions financières dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteFinancialTransactions(
+            @Parameter(description = "IDs des transactions financières à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(financialTransactionService.softDeleteFinancialTransactions(ids));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.org.testApi.controllers;
+
+import com.org.testApi.services.LedgerDiscrepancy;
+import com.org.testApi.services.LedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/ledger")
+@Tag(name = "Grand livre", description = "Administration des agrégats du grand livre")
+public class LedgerController {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Reconstruire les agrégats", description = "Recalcule tous les agrégats du grand livre à partir des transactions actives")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'agrégats écrits"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        return ResponseEntity.ok(Map.of("buckets", ledgerService.rebuild()));
+    }
+
+    @GetMapping("/verify")
+    @Operation(summary = "Vérifier les agrégats", description = "Compare les agrégats du grand livre à un parcours complet des transactions et retourne les écarts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des écarts, vide si les agrégats sont exacts"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<List<LedgerDiscrepancy>> verify() {
+        return ResponseEntity.ok(ledgerService.verify());
+    }
+}
@@ -10,6 +10,7 @@ import com.org.testApi.repository.DocumentRepository;
 import com.org.testApi.repository.LoanRepository;
 import com.org.testApi.repository.MemberRepository;
 import com.org.testApi.dto.response.LoanResponseDTO;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,7 +21,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -158,6 +163,26 @@ throw new RuntimeException("Statut de prêt invalide: " + payload.getStatus());
         }
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les prêts par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<Loan>> getLoansByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(loanService.getLoansByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Récupère un prêt par son identifiant.
      */
@@ -166,13 +191,13 @@ throw new RuntimeException("Statut de prêt invalide: " + payload.getStatus());
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Prêt trouvé",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Loan.class))}),
+                            schema = @Schema(implementation = LoanResponseDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Prêt non trouvé"),
 @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<Loan> getLoan(
+    public ResponseEntity<LoanResponseDTO> getLoan(
             @Parameter(description = "ID du prêt à récupérer") @PathVariable Long id) {
-        return loanService.findLoanById(id)
+        return loanService.findLoanResponseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -185,12 +210,12 @@ throw new RuntimeException("Statut de prêt invalide: " + payload.getStatus());
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des prêts du membre récupérée avec succès",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Loan.class))}),
+                            schema = @Schema(implementation = LoanResponseDTO.class))}),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<List<Loan>> getLoansByMember(
+    public ResponseEntity<List<LoanResponseDTO>> getLoansByMember(
             @Parameter(description = "ID du membre") @PathVariable Long memberId){
-        List<Loan> loans = loanService.findLoansByMemberId(memberId);
+        List<LoanResponseDTO> loans = loanService.findLoanResponsesByMemberId(memberId);
         return ResponseEntity.ok(loans);
     }
 
@@ -258,11 +283,11 @@ throw new RuntimeException("Statut de prêt invalide: " + payload.getStatus());
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des prêtsenretard récupérée avec succès",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Loan.class))}),
+                            schema = @Schema(implementation = LoanResponseDTO.class))}),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<List<Loan>> getOverdueLoans() {
-        List<Loan> overdueLoans = loanService.findOverdueLoans();
+    public ResponseEntity<List<LoanResponseDTO>> getOverdueLoans() {
+        List<LoanResponseDTO> overdueLoans = loanService.findOverdueLoanResponses();
         return ResponseEntity.ok(overdueLoans);
     }
 
@@ -274,11 +299,11 @@ throw new RuntimeException("Statut de prêt invalide: " + payload.getStatus());
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des prêts actifs récupérée avec succès",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Loan.class))}),
+                            schema = @Schema(implementation = LoanResponseDTO.class))}),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<List<Loan>> getActiveLoans() {
-        List<Loan> activeLoans = loanService.findActiveLoans();
+    public ResponseEntity<List<LoanResponseDTO>> getActiveLoans() {
+        List<LoanResponseDTO> activeLoans = loanService.findActiveLoanResponses();
         return ResponseEntity.ok(activeLoans);
     }
 
@@ -304,6 +329,33 @@ throw new RuntimeException("Statut de prêt invalide: " + payload.getStatus());
         return ResponseEntity.ok(loans);
     }
 
+    /**
+     * Recherche paginée des prêts avec des filtres complexes.
+     */
+    @GetMapping("/search/page")
+    @Operation(summary = "Rechercher des prêts (paginé)",
+            description = "Recherche paginée des prêts ; tri possible sur dueDate, loanDate, amount et status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page de résultats récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Propriété de tri non autorisée"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Page<Loan>> searchLoansPage(
+            @Parameter(description = "ID du membre (optionnel)") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Montant minimum (optionnel)") @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "Montant maximum (optionnel)") @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "Statut du prêt (optionnel)") @RequestParam(required = false) Loan.LoanStatus status,
+            @Parameter(description = "Date de début (optionnel)") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "Date de fin (optionnel)") @RequestParam(required = false) LocalDate endDate,
+            @ParameterObject Pageable pageable) {
+        try {
+            return ResponseEntity.ok(loanService.searchLoansComplexQuery(
+                    memberId, minAmount, maxAmount, status, startDate, endDate, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Calcule le montant total des prêtspour un membre.
      */
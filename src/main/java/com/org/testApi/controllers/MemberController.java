@@ -9,6 +9,8 @@ import com.org.testApi.services.AssociationService;
 import com.org.testApi.models.User;
 import com.org.testApi.models.Association;
 import com.org.testApi.dto.MemberDTO;
+import com.org.testApi.dto.response.MemberResponseDTO;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +22,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -52,15 +55,31 @@ public class MemberController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des membres récupérée avec succès",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MemberDTO.class))}),
+                            schema = @Schema(implementation = MemberResponseDTO.class))}),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<List<MemberDTO>> getAllMembers() {
-        List<Member> members = memberService.getAllMembers();
-        List<MemberDTO> memberDTOs = members.stream()
-                .map(memberMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(memberDTOs);
+    public ResponseEntity<List<MemberResponseDTO>> getAllMembers() {
+        return ResponseEntity.ok(memberService.getAllMemberResponses());
+    }
+
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les membres par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<MemberDTO>> getMembersByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(memberService.getMembersByKeyset(sort, direction, size, token).map(memberMapper::toDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -68,14 +87,14 @@ public class MemberController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Membre trouvé",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MemberDTO.class))}),
+                            schema = @Schema(implementation = MemberResponseDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Membre non trouvé"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<MemberDTO> getMemberById(
+    public ResponseEntity<MemberResponseDTO> getMemberById(
             @Parameter(description = "ID du membre à récupérer") @PathVariable Long id) {
-        return memberService.getMemberById(id)
-                .map(member -> ResponseEntity.ok(memberMapper.toDto(member)))
+        return memberService.getMemberResponseById(id)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -85,14 +104,14 @@ public class MemberController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Membre trouvé",
                     content = {@Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MemberDTO.class))}),
+                            schema = @Schema(implementation = MemberResponseDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Membre non trouvé"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<MemberDTO> getMemberByMemberCode(
+    public ResponseEntity<MemberResponseDTO> getMemberByMemberCode(
             @Parameter(description = "Code du membre à récupérer") @PathVariable String memberCode) {
-        return memberService.findByMemberCode(memberCode)
-                .map(member -> ResponseEntity.ok(memberMapper.toDto(member)))
+        return memberService.getMemberResponseByMemberCode(memberCode)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -345,10 +364,23 @@ public class MemberController {
     })
     public ResponseEntity<Void> softDeleteMember(
             @Parameter(description = "ID du membre à supprimer logiquement") @PathVariable Long id) {
-        memberService.softDeleteMember(id);
+        if (memberService.softDeleteMembers(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs membres", description = "Supprime logiquement, en une seule requête, les membres dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteMembers(
+            @Parameter(description = "IDs des membres à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(memberService.softDeleteMembers(ids));
+    }
+
     /**
      * Recherche des membres avec des filtres complexes.
      */
@@ -366,8 +398,7 @@ public class MemberController {
             @Parameter(description = "Type de membre (optionnel)") @RequestParam(required = false) Member.MemberType memberType,
             @Parameter(description = "ID de l'association (optionnel)") @RequestParam(required = false) Long associationId,
             @Parameter(description = "Statut d'activité (optionnel)") @RequestParam(required = false) Boolean isActive) {
-        // Note: Pour une implémentation complète, vous devriez ajouter cette méthode au service
-        List<Member> members = memberService.getAllMembers();
+        List<Member> members = memberService.searchMembersComplexQuery(name, email, memberType, associationId, isActive);
         List<MemberDTO> memberDTOs = members.stream()
                 .map(memberMapper::toDto)
                 .collect(Collectors.toList());
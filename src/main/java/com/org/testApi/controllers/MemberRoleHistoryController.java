@@ -6,6 +6,7 @@ import com.org.testApi.services.MemberRoleHistoryService;
 import com.org.testApi.services.MemberService;
 import com.org.testApi.mapper.MemberRoleHistoryMapper;
 import com.org.testApi.models.Member;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -48,6 +50,26 @@ public class MemberRoleHistoryController {
         return ResponseEntity.ok(memberRoleHistories);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les historiques de rôles par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<MemberRoleHistory>> getMemberRoleHistoriesByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(memberRoleHistoryService.getMemberRoleHistoriesByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer un historique de rôle de membre par ID", description = "Retourne un historique de rôle de membre spécifique en fonction de son ID")
     @ApiResponses(value = {
@@ -223,7 +245,20 @@ public class MemberRoleHistoryController {
     })
     public ResponseEntity<Void> softDeleteMemberRoleHistory(
             @Parameter(description = "ID de l'historique de rôle de membre à supprimer logiquement") @PathVariable Long id) {
-        memberRoleHistoryService.softDeleteMemberRoleHistory(id);
+        if (memberRoleHistoryService.softDeleteMemberRoleHistories(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs historiques de rôle", description = "Supprime logiquement, en une seule requête, les historiques de rôle dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteMemberRoleHistories(
+            @Parameter(description = "IDs des historiques de rôle à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(memberRoleHistoryService.softDeleteMemberRoleHistories(ids));
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.org.testApi.payload.MembershipFeePayload;
 import com.org.testApi.services.MembershipFeeService;
 import com.org.testApi.mapper.MembershipFeeMapper;
 import com.org.testApi.repository.MemberRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -51,6 +53,26 @@ public class MembershipFeeController {
         return ResponseEntity.ok(membershipFees);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les cotisations par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<MembershipFee>> getMembershipFeesByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(membershipFeeService.getMembershipFeesByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer une cotisation par ID", description = "Retourne une cotisation spécifique en fonction de son ID")
     @ApiResponses(value = {
@@ -291,7 +313,20 @@ MembershipFee existingFee = existingFeeOpt.get();
     public ResponseEntity<Void> softDeleteMembershipFee(
             @Parameter(description = "ID de la cotisation à supprimer logiquement") @PathVariable Long id) {
         logger.info("Soft deleting membership fee with id: {}", id);
-        membershipFeeService.softDeleteMembershipFee(id);
+        if (membershipFeeService.softDeleteMembershipFees(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs cotisations", description = "Supprime logiquement, en une seule requête, les cotisations dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteMembershipFees(
+            @Parameter(description = "IDs des cotisations à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(membershipFeeService.softDeleteMembershipFees(ids));
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.org.testApi.models.Project;
 import com.org.testApi.payload.ProjectPayload;
 import com.org.testApi.services.ProjectService;
 import com.org.testApi.mapper.ProjectMapper;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -42,6 +44,26 @@ content ={@Content(mediaType = "application/json",
 return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les projets par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<Project>> getProjectsByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(projectService.getProjectsByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer un projet par ID", description = "Retourne un projet spécifique en fonction de son ID")
     @ApiResponses(value = {
@@ -190,7 +212,20 @@ content= {@Content(mediaType = "application/json",
     })
     public ResponseEntity<Void> softDeleteProject(
             @Parameter(description = "ID du projet à supprimer logiquement") @PathVariable Long id) {
-        projectService.softDeleteProject(id);
+        if (projectService.softDeleteProjects(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs projets", description = "Supprime logiquement, en une seule requête, les projets dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteProjects(
+            @Parameter(description = "IDs des projets à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(projectService.softDeleteProjects(ids));
+    }
 }
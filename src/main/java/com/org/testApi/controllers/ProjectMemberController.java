@@ -6,6 +6,7 @@ import com.org.testApi.services.ProjectMemberService;
 import com.org.testApi.mapper.ProjectMemberMapper;
 import com.org.testApi.services.ProjectService;
 import com.org.testApi.services.MemberService;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -49,6 +51,26 @@ public class ProjectMemberController {
         return ResponseEntity.ok(projectMembers);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les membres de projet par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<ProjectMember>> getProjectMembersByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(projectMemberService.getProjectMembersByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer un membre de projet par ID", description = "Retourne un membre de projet spécifique en fonction de son ID")
     @ApiResponses(value = {
@@ -237,7 +259,20 @@ public class ProjectMemberController {
     })
     public ResponseEntity<Void> softDeleteProjectMember(
             @Parameter(description = "ID du membre de projet à supprimer logiquement") @PathVariable Long id) {
-        projectMemberService.softDeleteProjectMember(id);
+        if (projectMemberService.softDeleteProjectMembers(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs membres de projet", description = "Supprime logiquement, en une seule requête, les membres de projet dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteProjectMembers(
+            @Parameter(description = "IDs des membres de projet à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(projectMemberService.softDeleteProjectMembers(ids));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.org.testApi.controllers;
+
+import com.org.testApi.dto.response.ReportJobResponseDTO;
+import com.org.testApi.models.ReportJob;
+import com.org.testApi.payload.ReportJobRequest;
+import com.org.testApi.services.AssociationAccess;
+import com.org.testApi.services.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Rapports exécutés en arrière-plan : la soumission répond aussitôt avec l'identifiant de la demande,
+ * dont l'état est ensuite interrogé jusqu'à ce que le résultat soit téléchargeable.
+ * Un rapport d'association est accessible à ses membres ; un rapport sur toutes les associations
+ * est réservé aux administrateurs.
+ */
+@RestController
+@RequestMapping("/api/reports/jobs")
+@Tag(name = "Rapports", description = "Rapports d'activité, financiers et d'adhésion exécutés en arrière-plan")
+public class ReportJobController {
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private AssociationAccess associationAccess;
+
+    @PostMapping
+    @Operation(summary = "Soumettre une demande de rapport",
+            description = "Place la demande dans la file de son association ; une demande identique en cours est renvoyée au lieu d'être dupliquée")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Demande acceptée, à suivre via l'en-tête Location"),
+            @ApiResponse(responseCode = "400", description = "Type de rapport ou période invalide"),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'a pas accès à l'association"),
+            @ApiResponse(responseCode = "503", description = "File d'attente des rapports pleine")
+    })
+    public ResponseEntity<?> submit(@RequestBody ReportJobRequest request, Authentication authentication) {
+        if (request.getType() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Report type is required"));
+        }
+        if (!canAccess(request.getAssociationId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            ReportJobResponseDTO job = reportJobService.submit(request.getType(),
+                    request.getFormat() != null ? request.getFormat() : ReportJob.ReportFormat.JSON,
+                    request.getAssociationId(), request.getStartDate(), request.getEndDate(), authentication.getName());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reports/jobs/" + job.getId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(Map.of("error", "Too many pending reports, try again later"));
+        }
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Consulter une demande de rapport", description = "Retourne l'état de la demande, sans le rapport")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "État de la demande"),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'a pas accès à l'association"),
+            @ApiResponse(responseCode = "404", description = "Demande non trouvée")
+    })
+    public ResponseEntity<ReportJobResponseDTO> getStatus(
+            @Parameter(description = "ID de la demande") @PathVariable Long id) {
+        return reportJobService.getStatus(id)
+                .map(job -> canAccess(job.getAssociationId())
+                        ? ResponseEntity.ok(job)
+                        : ResponseEntity.status(HttpStatus.FORBIDDEN).<ReportJobResponseDTO>build())
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/result")
+    @Operation(summary = "Télécharger un rapport", description = "Retourne le rapport produit, dans le format demandé")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rapport"),
+            @ApiResponse(responseCode = "403", description = "L'appelant n'a pas accès à l'association"),
+            @ApiResponse(responseCode = "404", description = "Demande non trouvée"),
+            @ApiResponse(responseCode = "409", description = "Rapport pas encore produit, ou demande en échec")
+    })
+    public ResponseEntity<?> getResult(@Parameter(description = "ID de la demande") @PathVariable Long id) {
+        return reportJobService.getJob(id)
+                .<ResponseEntity<?>>map(job -> {
+                    if (!canAccess(job.getAssociationId())) {
+                        return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                    }
+                    if (job.getStatus() != ReportJob.JobStatus.COMPLETED) {
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                                .body(new ReportJobResponseDTO(job));
+                    }
+                    ReportJob.ReportFormat format = job.getFormat();
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
+                                    + job.getType().name().toLowerCase() + "-report-" + job.getId() + "."
+                                    + format.getExtension() + "\"")
+                            .body(job.getResult());
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private boolean canAccess(Long associationId) {
+        return associationId == null ? associationAccess.isGlobalAdmin() : associationAccess.isMember(associationId);
+    }
+}
@@ -4,6 +4,7 @@ import com.org.testApi.models.Role;
 import com.org.testApi.payload.RolePayload;
 import com.org.testApi.services.RoleService;
 import com.org.testApi.mapper.RoleMapper;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,6 +43,26 @@ public class RoleController {
         return ResponseEntity.ok(roles);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les rôles par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<Role>> getRolesByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(roleService.getRolesByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer un rôle par ID", description = "Retourne un rôle spécifique en fonction de son ID")
     @ApiResponses(value = {
@@ -153,7 +175,20 @@ public class RoleController {
     })
     public ResponseEntity<Void> softDeleteRole(
             @Parameter(description = "ID du rôle à supprimer logiquement") @PathVariable Long id) {
-        roleService.softDeleteRole(id);
+        if (roleService.softDeleteRoles(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs rôles", description = "Supprime logiquement, en une seule requête, les rôles dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteRoles(
+            @Parameter(description = "IDs des rôles à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(roleService.softDeleteRoles(ids));
+    }
 }
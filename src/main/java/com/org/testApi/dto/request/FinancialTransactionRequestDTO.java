@@ -3,6 +3,7 @@ package com.org.testApi.dto.request;
 import com.org.testApi.dto.BaseEntityDTO;
 import lombok.Getter;
 import lombok.Setter;
+import jakarta.validation.constraints.Digits;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -13,6 +14,7 @@ import java.time.LocalDate;
 @Setter
 public class FinancialTransactionRequestDTO extends BaseEntityDTO {
 
+    @Digits(integer = 36, fraction = 2, message = "Le montant ne peut pas avoir plus de deux décimales")
     private BigDecimal amount;
     private LocalDate transactionDate;
     private String description;
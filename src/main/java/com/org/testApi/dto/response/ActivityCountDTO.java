@@ -0,0 +1,36 @@
+package com.org.testApi.dto.response;
+
+import com.org.testApi.models.Activity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Nombre d'activités et de participations pour une combinaison (type, statut, lieu, projet), agrégé en SQL.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ActivityCountDTO {
+
+    private String type;
+    private String status;
+    private String location;
+    private String project;
+    private long activities;
+    private long participants;
+
+    /**
+     * Constructeur de projection, voir {@code ActivityRepository#countByTypeStatusLocationAndProject}.
+     */
+    public ActivityCountDTO(Activity.ActivityType type, Activity.ActivityStatus status, String location,
+                            Long projectId, String projectName, Long activities, Long participants) {
+        this.type = type != null ? type.name() : "UNKNOWN";
+        this.status = status != null ? status.name() : "UNKNOWN";
+        this.location = location != null && !location.isBlank() ? location : "UNSPECIFIED";
+        // L'identifiant distingue deux projets homonymes d'associations différentes
+        this.project = projectId == null ? "NONE" : (projectName != null ? projectName : "Project") + " #" + projectId;
+        this.activities = activities != null ? activities : 0L;
+        this.participants = participants != null ? participants : 0L;
+    }
+}
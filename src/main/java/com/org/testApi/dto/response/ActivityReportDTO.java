@@ -0,0 +1,78 @@
+package com.org.testApi.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rapport des activités d'une période : nombre d'activités et de participations par type, statut, lieu
+ * et projet. Construit à partir de comptes agrégés en SQL, sans charger les activités ni leurs participants.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ActivityReportDTO {
+
+    private String reportType = "Activity Report";
+    private Long associationId;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private long totalActivities;
+    private long totalParticipants;
+    private Map<String, ActivityTotalsDTO> byType = new TreeMap<>();
+    private Map<String, ActivityTotalsDTO> byStatus = new TreeMap<>();
+    private Map<String, ActivityTotalsDTO> byLocation = new TreeMap<>();
+    private Map<String, ActivityTotalsDTO> byProject = new TreeMap<>();
+
+    public ActivityReportDTO(Long associationId, LocalDateTime periodStart, LocalDateTime periodEnd,
+                             List<ActivityCountDTO> counts) {
+        this.associationId = associationId;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        for (ActivityCountDTO count : counts) {
+            totalActivities += count.getActivities();
+            totalParticipants += count.getParticipants();
+            add(byType, count.getType(), count);
+            add(byStatus, count.getStatus(), count);
+            add(byLocation, count.getLocation(), count);
+            add(byProject, count.getProject(), count);
+        }
+    }
+
+    private static void add(Map<String, ActivityTotalsDTO> totals, String key, ActivityCountDTO count) {
+        totals.computeIfAbsent(key, k -> new ActivityTotalsDTO()).add(count);
+    }
+
+    /**
+     * @return la moyenne de participants par activité
+     */
+    public double getAverageParticipants() {
+        return totalActivities == 0 ? 0 : (double) totalParticipants / totalActivities;
+    }
+
+    /**
+     * Activités et participations d'un groupe (un type, un statut, un lieu ou un projet).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ActivityTotalsDTO {
+
+        private long activities;
+        private long participants;
+
+        private void add(ActivityCountDTO count) {
+            activities += count.getActivities();
+            participants += count.getParticipants();
+        }
+
+        public double getAverageParticipants() {
+            return activities == 0 ? 0 : (double) participants / activities;
+        }
+    }
+}
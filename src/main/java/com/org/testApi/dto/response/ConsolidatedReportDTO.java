@@ -0,0 +1,136 @@
+package com.org.testApi.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rapport consolidé de toutes les associations sur une période : activités, finances et adhésions,
+ * totalisés puis détaillés par association.
+ * <p>
+ * Un rapport partiel couvre une partie des associations ; {@link #merge} en combine deux. La fusion est
+ * associative et conserve l'ordre des associations : les rapports partiels peuvent être calculés en
+ * parallèle et combinés dans n'importe quel regroupement.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ConsolidatedReportDTO {
+
+    private String reportType = "Consolidated Report";
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private int associationCount;
+    private TotalsDTO totals = new TotalsDTO();
+    private Map<String, Long> activitiesByType = new TreeMap<>();
+    private Map<String, Long> membersByType = new TreeMap<>();
+    private List<AssociationSummaryDTO> associations = new ArrayList<>();
+
+    /**
+     * Rapport vide de la période, élément neutre de la fusion.
+     */
+    public ConsolidatedReportDTO(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    /**
+     * Rapport partiel d'une seule association.
+     */
+    public ConsolidatedReportDTO(LocalDate periodStart, LocalDate periodEnd, AssociationSummaryDTO association,
+                                 ActivityReportDTO activity, MembershipReportDTO membership) {
+        this(periodStart, periodEnd);
+        associationCount = 1;
+        totals = association.getTotals();
+        activity.getByType().forEach((type, total) -> activitiesByType.put(type, total.getActivities()));
+        membersByType.putAll(membership.getMembersByType());
+        associations.add(association);
+    }
+
+    /**
+     * @return un nouveau rapport couvrant les associations des deux rapports, celles de {@code left} en premier
+     */
+    public static ConsolidatedReportDTO merge(ConsolidatedReportDTO left, ConsolidatedReportDTO right) {
+        ConsolidatedReportDTO merged = new ConsolidatedReportDTO(left.periodStart, left.periodEnd);
+        merged.associationCount = left.associationCount + right.associationCount;
+        merged.totals = left.totals.plus(right.totals);
+        merged.activitiesByType.putAll(left.activitiesByType);
+        right.activitiesByType.forEach((type, count) -> merged.activitiesByType.merge(type, count, Long::sum));
+        merged.membersByType.putAll(left.membersByType);
+        right.membersByType.forEach((type, count) -> merged.membersByType.merge(type, count, Long::sum));
+        merged.associations.addAll(left.associations);
+        merged.associations.addAll(right.associations);
+        return merged;
+    }
+
+    /**
+     * Totaux d'une association, transmis dès qu'ils sont calculés.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class AssociationSummaryDTO {
+
+        private Long associationId;
+        private String associationName;
+        private TotalsDTO totals;
+
+        public AssociationSummaryDTO(Long associationId, String associationName, ActivityReportDTO activity,
+                                     FinancialReportDTO financial, MembershipReportDTO membership) {
+            this.associationId = associationId;
+            this.associationName = associationName;
+            this.totals = new TotalsDTO(activity, financial, membership);
+        }
+    }
+
+    /**
+     * Totaux additifs d'un ensemble d'associations.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TotalsDTO {
+
+        private long activities;
+        private long participants;
+        private BigDecimal totalIncome = BigDecimal.ZERO.setScale(2);
+        private BigDecimal totalExpenses = BigDecimal.ZERO.setScale(2);
+        private long transactionCount;
+        private long members;
+        private long activeMembers;
+
+        public TotalsDTO(ActivityReportDTO activity, FinancialReportDTO financial, MembershipReportDTO membership) {
+            this.activities = activity.getTotalActivities();
+            this.participants = activity.getTotalParticipants();
+            this.totalIncome = financial.getTotalIncome();
+            this.totalExpenses = financial.getTotalExpenses();
+            this.transactionCount = financial.getTransactionCount();
+            this.members = membership.getTotalMembers();
+            this.activeMembers = membership.getActiveMembers();
+        }
+
+        public TotalsDTO plus(TotalsDTO other) {
+            TotalsDTO sum = new TotalsDTO();
+            sum.activities = activities + other.activities;
+            sum.participants = participants + other.participants;
+            sum.totalIncome = totalIncome.add(other.totalIncome);
+            sum.totalExpenses = totalExpenses.add(other.totalExpenses);
+            sum.transactionCount = transactionCount + other.transactionCount;
+            sum.members = members + other.members;
+            sum.activeMembers = activeMembers + other.activeMembers;
+            return sum;
+        }
+
+        public BigDecimal getNetIncome() {
+            return totalIncome.subtract(totalExpenses);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.org.testApi.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Total des transactions d'une catégorie pour un type (revenu ou dépense), agrégé en SQL.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FinancialCategoryTotalDTO {
+
+    private Long categoryId;
+    private String categoryName;
+    private String type;
+    private BigDecimal total;
+    private long transactionCount;
+
+    /**
+     * Constructeur de projection, voir {@code FinancialTransactionRepository#sumByCategoryAndType}.
+     * Les montants sont sommés en centimes entiers : SQLite stocke les {@code numeric} en virgule flottante.
+     */
+    public FinancialCategoryTotalDTO(Long categoryId, String categoryName, String type, Long totalCents,
+                                     Long transactionCount) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName != null ? categoryName : "Uncategorized";
+        this.type = type;
+        this.total = BigDecimal.valueOf(totalCents != null ? totalCents : 0L, 2);
+        this.transactionCount = transactionCount != null ? transactionCount : 0L;
+    }
+}
@@ -0,0 +1,48 @@
+package com.org.testApi.dto.response;
+
+import com.org.testApi.models.FinancialTransaction;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rapport financier d'une période : totaux exacts par catégorie et par type, puis totaux généraux.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FinancialReportDTO {
+
+    private String reportType = "Financial Report";
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private List<FinancialCategoryTotalDTO> incomeByCategory = new ArrayList<>();
+    private List<FinancialCategoryTotalDTO> expensesByCategory = new ArrayList<>();
+    private BigDecimal totalIncome = BigDecimal.ZERO.setScale(2);
+    private BigDecimal totalExpenses = BigDecimal.ZERO.setScale(2);
+    private long transactionCount;
+
+    public FinancialReportDTO(LocalDate periodStart, LocalDate periodEnd, List<FinancialCategoryTotalDTO> totals) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        for (FinancialCategoryTotalDTO total : totals) {
+            if (FinancialTransaction.TransactionType.EXPENSE.name().equals(total.getType())) {
+                expensesByCategory.add(total);
+                totalExpenses = totalExpenses.add(total.getTotal());
+            } else {
+                incomeByCategory.add(total);
+                totalIncome = totalIncome.add(total.getTotal());
+            }
+            transactionCount += total.getTransactionCount();
+        }
+    }
+
+    public BigDecimal getNetIncome() {
+        return totalIncome.subtract(totalExpenses);
+    }
+}
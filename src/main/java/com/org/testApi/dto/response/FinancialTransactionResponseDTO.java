@@ -1,16 +1,20 @@
 package com.org.testApi.dto.response;
 
 import com.org.testApi.dto.BaseEntityDTO;
+import com.org.testApi.models.FinancialTransaction;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * DTO de réponse pour l'entité FinancialTransaction.
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public class FinancialTransactionResponseDTO extends BaseEntityDTO {
 
     private BigDecimal amount;
@@ -21,4 +25,23 @@ public class FinancialTransactionResponseDTO extends BaseEntityDTO {
     private Long projectId;
     private Long associationId;
     private Long categoryId;
+
+    /**
+     * Constructeur de projection, voir {@code FinancialTransactionRepository#RESPONSE_PROJECTION}.
+     */
+    public FinancialTransactionResponseDTO(Long id, LocalDateTime createdDate, LocalDateTime lastModifiedDate,
+                                           String createdBy, String lastModifiedBy, boolean active, BigDecimal amount,
+                                           LocalDate transactionDate, String description,
+                                           FinancialTransaction.TransactionType type, Long activityId, Long projectId,
+                                           Long associationId, Long categoryId) {
+        super(id, createdDate, lastModifiedDate, createdBy, lastModifiedBy, active);
+        this.amount = amount;
+        this.transactionDate = transactionDate;
+        this.description = description;
+        this.type = type != null ? type.name() : null;
+        this.activityId = activityId;
+        this.projectId = projectId;
+        this.associationId = associationId;
+        this.categoryId = categoryId;
+    }
 }
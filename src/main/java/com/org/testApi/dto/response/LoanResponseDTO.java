@@ -1,16 +1,20 @@
 package com.org.testApi.dto.response;
 
 import com.org.testApi.dto.BaseEntityDTO;
+import com.org.testApi.models.Loan;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * DTO de réponse pour l'entité Loan.
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public class LoanResponseDTO extends BaseEntityDTO {
 
     private Long memberId;
@@ -18,8 +22,38 @@ public class LoanResponseDTO extends BaseEntityDTO {
     private BigDecimal amount;
     private BigDecimal interestRate;
     private BigDecimal penaltyRate;
+    private LocalDate loanDate;
     private LocalDate dueDate;
+    private LocalDate returnDate;
     private LocalDate repaymentDate;
     private BigDecimal amountRepaid;
     private String status;
-}
\ No newline at end of file
+    private BigDecimal depositAmount;
+    private Boolean depositRefunded;
+    private String notes;
+
+    /**
+     * Constructeur de projection, voir {@code LoanRepository#RESPONSE_PROJECTION}.
+     */
+    public LoanResponseDTO(Long id, LocalDateTime createdDate, LocalDateTime lastModifiedDate, String createdBy,
+                           String lastModifiedBy, boolean active, Long memberId, Long documentId, BigDecimal amount,
+                           BigDecimal interestRate, BigDecimal penaltyRate, LocalDate loanDate, LocalDate dueDate,
+                           LocalDate returnDate, LocalDate repaymentDate, BigDecimal amountRepaid,
+                           Loan.LoanStatus status, BigDecimal depositAmount, Boolean depositRefunded, String notes) {
+        super(id, createdDate, lastModifiedDate, createdBy, lastModifiedBy, active);
+        this.memberId = memberId;
+        this.documentId = documentId;
+        this.amount = amount;
+        this.interestRate = interestRate;
+        this.penaltyRate = penaltyRate;
+        this.loanDate = loanDate;
+        this.dueDate = dueDate;
+        this.returnDate = returnDate;
+        this.repaymentDate = repaymentDate;
+        this.amountRepaid = amountRepaid;
+        this.status = status != null ? status.name() : null;
+        this.depositAmount = depositAmount;
+        this.depositRefunded = depositRefunded;
+        this.notes = notes;
+    }
+}
@@ -1,16 +1,20 @@
 package com.org.testApi.dto.response;
 
 import com.org.testApi.dto.BaseEntityDTO;
+import com.org.testApi.models.Member;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * DTO de réponse pour l'entité Member.
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public class MemberResponseDTO extends BaseEntityDTO {
 
     private Long userId;
@@ -20,4 +24,21 @@ public class MemberResponseDTO extends BaseEntityDTO {
     private String type;
     private boolean isAdmin;
     private String memberCode;
-}
\ No newline at end of file
+
+    /**
+     * Constructeur de projection, voir {@code MemberRepository#RESPONSE_PROJECTION}.
+     */
+    public MemberResponseDTO(Long id, LocalDateTime createdDate, LocalDateTime lastModifiedDate, String createdBy,
+                             String lastModifiedBy, boolean active, Long userId, Long associationId,
+                             LocalDate joinDate, LocalDate leaveDate, Member.MemberType type, boolean isAdmin,
+                             String memberCode) {
+        super(id, createdDate, lastModifiedDate, createdBy, lastModifiedBy, active);
+        this.userId = userId;
+        this.associationId = associationId;
+        this.joinDate = joinDate;
+        this.leaveDate = leaveDate;
+        this.type = type != null ? type.name() : null;
+        this.isAdmin = isAdmin;
+        this.memberCode = memberCode;
+    }
+}
@@ -0,0 +1,46 @@
+package com.org.testApi.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Cohorte d'adhésion : membres entrés pendant un mois et membres encore présents.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MembershipCohortDTO {
+
+    /**
+     * Mois d'adhésion (AAAA-MM), {@code UNKNOWN} sans date d'adhésion.
+     */
+    private String cohort;
+    private long joined;
+    private long stillActive;
+
+    public MembershipCohortDTO(String cohort, long joined, long stillActive) {
+        this.cohort = cohort;
+        this.joined = joined;
+        this.stillActive = stillActive;
+    }
+
+    /**
+     * Constructeur de projection, voir {@code MemberRepository#countByJoinDate} : une ligne par jour
+     * d'adhésion, regroupée ensuite par mois.
+     */
+    public MembershipCohortDTO(LocalDate joinDate, Long joined, Long stillActive) {
+        this(joinDate != null ? YearMonth.from(joinDate).toString() : "UNKNOWN",
+                joined != null ? joined : 0L, stillActive != null ? stillActive : 0L);
+    }
+
+    /**
+     * @return la part des membres de la cohorte encore présents, entre 0 et 1
+     */
+    public double getRetentionRate() {
+        return joined == 0 ? 0 : (double) stillActive / joined;
+    }
+}
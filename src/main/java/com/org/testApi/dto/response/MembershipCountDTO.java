@@ -0,0 +1,30 @@
+package com.org.testApi.dto.response;
+
+import com.org.testApi.models.Member;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Nombre de membres d'une association pour un type et un statut, agrégé en SQL.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MembershipCountDTO {
+
+    private Long associationId;
+    private String type;
+    private boolean active;
+    private long count;
+
+    /**
+     * Constructeur de projection, voir {@code MemberRepository#countByAssociationTypeAndStatus}.
+     */
+    public MembershipCountDTO(Long associationId, Member.MemberType type, Boolean active, Long count) {
+        this.associationId = associationId;
+        this.type = type != null ? type.name() : "UNKNOWN";
+        this.active = Boolean.TRUE.equals(active);
+        this.count = count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,80 @@
+package com.org.testApi.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rapport des adhésions : totaux par type et par statut, détail par association et cohortes d'adhésion.
+ * Construit à partir de comptes agrégés en SQL, sans charger les membres.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MembershipReportDTO {
+
+    private String reportType = "Membership Report";
+    private LocalDateTime reportDate;
+    private long totalMembers;
+    private long activeMembers;
+    private long inactiveMembers;
+    private Map<String, Long> membersByType = new TreeMap<>();
+    private List<AssociationMembershipDTO> associations = new ArrayList<>();
+    private List<MembershipCohortDTO> cohorts = new ArrayList<>();
+
+    public MembershipReportDTO(LocalDateTime reportDate, List<MembershipCountDTO> counts,
+                               List<MembershipCohortDTO> cohortsByDay) {
+        this.reportDate = reportDate;
+        Map<Long, AssociationMembershipDTO> byAssociation = new TreeMap<>();
+        for (MembershipCountDTO count : counts) {
+            totalMembers += count.getCount();
+            if (count.isActive()) {
+                activeMembers += count.getCount();
+            }
+            membersByType.merge(count.getType(), count.getCount(), Long::sum);
+            byAssociation.computeIfAbsent(count.getAssociationId(), AssociationMembershipDTO::new).add(count);
+        }
+        inactiveMembers = totalMembers - activeMembers;
+        associations.addAll(byAssociation.values());
+
+        // Les comptes par jour d'adhésion sont regroupés par mois
+        Map<String, MembershipCohortDTO> byMonth = new TreeMap<>();
+        for (MembershipCohortDTO day : cohortsByDay) {
+            byMonth.merge(day.getCohort(), day, (month, other) -> new MembershipCohortDTO(month.getCohort(),
+                    month.getJoined() + other.getJoined(), month.getStillActive() + other.getStillActive()));
+        }
+        cohorts.addAll(byMonth.values());
+    }
+
+    /**
+     * Adhésions d'une association.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class AssociationMembershipDTO {
+
+        private Long associationId;
+        private long totalMembers;
+        private long activeMembers;
+        private Map<String, Long> membersByType = new TreeMap<>();
+
+        public AssociationMembershipDTO(Long associationId) {
+            this.associationId = associationId;
+        }
+
+        private void add(MembershipCountDTO count) {
+            totalMembers += count.getCount();
+            if (count.isActive()) {
+                activeMembers += count.getCount();
+            }
+            membersByType.merge(count.getType(), count.getCount(), Long::sum);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.org.testApi.dto.response;
+
+import com.org.testApi.models.ReportJob;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * État d'une demande de rapport, sans le rapport produit.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReportJobResponseDTO {
+
+    private Long id;
+    private ReportJob.ReportType type;
+    private ReportJob.ReportFormat format;
+    private Long associationId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private ReportJob.JobStatus status;
+    private String requestedBy;
+    private LocalDateTime createdDate;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String errorMessage;
+
+    /**
+     * Vrai si la soumission a rejoint une demande identique déjà en cours au lieu d'en créer une.
+     */
+    private boolean deduplicated;
+
+    /**
+     * Constructeur de projection, voir {@code ReportJobRepository#findStatusById} : le rapport produit
+     * n'est pas lu.
+     */
+    public ReportJobResponseDTO(Long id, ReportJob.ReportType type, ReportJob.ReportFormat format, Long associationId,
+                                LocalDate periodStart, LocalDate periodEnd, ReportJob.JobStatus status,
+                                String requestedBy, LocalDateTime createdDate, LocalDateTime startedAt,
+                                LocalDateTime completedAt, String errorMessage) {
+        this.id = id;
+        this.type = type;
+        this.format = format;
+        this.associationId = associationId;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.status = status;
+        this.requestedBy = requestedBy;
+        this.createdDate = createdDate;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+        this.errorMessage = errorMessage;
+    }
+
+    public ReportJobResponseDTO(ReportJob job) {
+        this(job.getId(), job.getType(), job.getFormat(), job.getAssociationId(), job.getPeriodStart(),
+                job.getPeriodEnd(), job.getStatus(), job.getRequestedBy(), job.getCreatedDate(), job.getStartedAt(),
+                job.getCompletedAt(), job.getErrorMessage());
+    }
+}
@@ -110,8 +110,9 @@ public class Activity extends BaseEntity {
 
     /**
      * Liste des transactions financières associées à cette activité.
+     * Créées par FinancialTransactionService, qui tient le grand livre à jour : seule la suppression est propagée.
      */
-    @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "activity", cascade = CascadeType.REMOVE)
     @Builder.Default
     @ToString.Exclude
     private List<FinancialTransaction> transactions = new ArrayList<>();
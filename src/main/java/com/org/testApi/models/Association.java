@@ -83,8 +83,9 @@ public class Association extends BaseEntity {
 
     /**
      * Liste des transactions financières associées à l'association.
+     * Créées par FinancialTransactionService, qui tient le grand livre à jour : seule la suppression est propagée.
      */
-    @OneToMany(mappedBy = "association", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "association", cascade = CascadeType.REMOVE)
     @Builder.Default
     @ToString.Exclude
     @JsonIgnore
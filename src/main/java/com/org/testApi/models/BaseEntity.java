@@ -1,5 +1,6 @@
 package com.org.testApi.models;
 
+import com.org.testApi.models.id.PooledTableId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -32,10 +33,10 @@ public abstract class BaseEntity {
 
     /**
      * Identifiant unique de l’entité.
-     * Généré automatiquement par la base de données.
+     * Attribué par blocs depuis la table des séquences, ce qui permet les INSERT en batch.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId
     private Long id;
 
     /**
@@ -1,8 +1,10 @@
 package com.org.testApi.models;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Digits;
 import lombok.*;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 /**
@@ -23,10 +25,11 @@ import java.time.LocalDate;
 public class FinancialTransaction extends BaseEntity {
 
     /**
-     * Montant de la transaction.
+     * Montant de la transaction, au centime près.
      * Ce champ est obligatoire.
      */
     @Column(nullable = false)
+    @Digits(integer = 36, fraction = 2, message = "Le montant ne peut pas avoir plus de deux décimales")
     private BigDecimal amount;
 
     /**
@@ -91,6 +94,22 @@ public class FinancialTransaction extends BaseEntity {
         if (this.transactionDate == null) {
             this.transactionDate = LocalDate.now();
         }
+        normalizeAmount();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        normalizeAmount();
+    }
+
+    /**
+     * Arrondit le montant au centime (HALF_UP) : le grand livre, tenu en Java, et les agrégats recalculés
+     * en SQL lisent alors la même valeur.
+     */
+    private void normalizeAmount() {
+        if (this.amount != null) {
+            this.amount = this.amount.setScale(2, RoundingMode.HALF_UP);
+        }
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.org.testApi.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Agrégat du grand livre : total et nombre des transactions actives d'une association
+ * pour une catégorie, un type et un jour.
+ * <p>
+ * Tenu à jour dans la transaction de chaque écriture de {@link FinancialTransaction} ; les soldes
+ * se lisent alors sur quelques lignes par jour au lieu de parcourir les transactions. Les lignes
+ * ne sont jamais écrites par l'EntityManager mais par des requêtes d'ajout atomiques.
+ * </p>
+ */
+@Entity
+@Table(name = "ledger_aggregates")
+@IdClass(LedgerAggregate.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerAggregate {
+
+    /**
+     * Catégorie enregistrée pour les transactions sans catégorie.
+     */
+    public static final long UNCATEGORIZED = 0L;
+
+    @Id
+    @Column(name = "association_id")
+    private Long associationId;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    /**
+     * INCOME ou EXPENSE.
+     */
+    @Id
+    @Column(length = 16)
+    private String type;
+
+    @Id
+    private LocalDate bucketDate;
+
+    /**
+     * Somme des montants, en valeur absolue et en centimes.
+     */
+    @Column(nullable = false)
+    private long totalCents;
+
+    @Column(nullable = false)
+    private long transactionCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long associationId;
+        private Long categoryId;
+        private String type;
+        private LocalDate bucketDate;
+    }
+}
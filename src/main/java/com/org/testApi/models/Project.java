@@ -87,8 +87,9 @@ public class Project extends BaseEntity {
 
 /**
     * Liste des transactions financières liées au projet.
+     * Créées par FinancialTransactionService, qui tient le grand livre à jour : seule la suppression est propagée.
      */
-   @OneToMany(mappedBy = "project", cascade = CascadeType.ALL)
+   @OneToMany(mappedBy = "project", cascade = CascadeType.REMOVE)
     @Builder.Default@ToString.Exclude
     private List<FinancialTransaction> transactions = new ArrayList<>();
 
@@ -0,0 +1,62 @@
+package com.org.testApi.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jeton de rafraîchissement d'une session d'authentification.
+ * <p>
+ * Seule l'empreinte SHA-256 du jeton est conservée. Chaque rafraîchissement révoque le jeton présenté
+ * et en émet un nouveau pour la même session : présenter un jeton déjà révoqué signale un vol
+ * et révoque toute la session.
+ * </p>
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class RefreshToken extends BaseEntity {
+
+    /**
+     * Empreinte SHA-256 (base64) du jeton remis au client.
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * Identifiant de la session, repris dans le claim {@code sid} des jetons d'accès.
+     */
+    @Column(nullable = false, length = 36)
+    private String sessionId;
+
+    /**
+     * Utilisateur propriétaire de la session.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    private User user;
+
+    /**
+     * Date au-delà de laquelle le jeton n'est plus accepté.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Indique si le jeton a été utilisé ou révoqué.
+     */
+    @Column(nullable = false)
+    private boolean revoked;
+
+    /**
+     * Date de la révocation, nulle tant que le jeton est valide.
+     */
+    private LocalDateTime revokedAt;
+}
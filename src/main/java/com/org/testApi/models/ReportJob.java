@@ -0,0 +1,117 @@
+package com.org.testApi.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Demande de rapport exécutée en arrière-plan.
+ * <p>
+ * La demande est enregistrée à la soumission puis prise en charge par un exécuteur borné ; le rapport
+ * produit est conservé avec la demande jusqu'à sa purge, pour être téléchargé plus tard. Deux demandes
+ * identiques (même {@link #dedupKey}) ne sont pas exécutées en parallèle : la seconde reçoit la
+ * première tant que celle-ci n'est pas terminée.
+ * </p>
+ */
+@Entity
+@Table(name = "report_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ReportJob extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReportType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private ReportFormat format;
+
+    /**
+     * Association couverte par le rapport, nulle pour toutes les associations.
+     */
+    private Long associationId;
+
+    /**
+     * Premier jour de la période, nul pour le rapport des adhésions.
+     */
+    private LocalDate periodStart;
+
+    /**
+     * Dernier jour de la période, inclus, nul pour le rapport des adhésions.
+     */
+    private LocalDate periodEnd;
+
+    /**
+     * Type, format et paramètres normalisés de la demande.
+     */
+    @Column(nullable = false)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobStatus status;
+
+    /**
+     * Utilisateur ayant soumis la demande. Une demande identique d'un autre membre la rejoint : l'accès
+     * dépend de l'association couverte, pas de l'auteur.
+     */
+    @Column(nullable = false)
+    private String requestedBy;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    /**
+     * Cause de l'échec, nulle sauf pour le statut {@link JobStatus#FAILED}.
+     */
+    @Column(length = 1000)
+    private String errorMessage;
+
+    /**
+     * Rapport produit, dans le format demandé ; nul tant que la demande n'est pas terminée.
+     */
+    @Column(columnDefinition = "text")
+    @ToString.Exclude
+    private String result;
+
+    public enum ReportType {
+        ACTIVITY, FINANCIAL, MEMBERSHIP
+    }
+
+    public enum ReportFormat {
+        JSON("application/json", "json"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ReportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    public enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.org.testApi.models.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Génère l'identifiant par blocs réservés dans la table {@value PooledTableIdGenerator#TABLE}
+ * (optimiseur pooled-lo), ce qui laisse Hibernate regrouper les INSERT en batch JDBC.
+ */
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledTableId {
+
+    /**
+     * Nom du segment (ligne) de la table des séquences.
+     */
+    String segment() default "entity";
+
+    /**
+     * Nombre d'identifiants réservés à chaque aller-retour en base.
+     */
+    int allocationSize() default 50;
+}
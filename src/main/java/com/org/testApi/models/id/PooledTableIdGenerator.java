@@ -0,0 +1,124 @@
+package com.org.testApi.models.id;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Générateur pooled-lo adossé à la table {@value #TABLE}.
+ * <p>
+ * Le générateur table standard d'Hibernate réserve ses blocs sur une seconde connexion isolée ;
+ * avec l'écrivain SQLite unique, cette connexion attendrait celle que la transaction courante
+ * détient déjà. Ici le bloc est réservé sur la connexion de la transaction courante, et un plafond
+ * conservé en mémoire garantit qu'un bloc n'est jamais redistribué, même si cette transaction
+ * est annulée. Au démarrage, {@code IdSequenceInitializer} réaligne la table sur les identifiants
+ * existants.
+ * </p>
+ * <p>
+ * Ce schéma suppose un seul processus écrivain sur le fichier SQLite, ce qui est le cas ici.
+ * </p>
+ */
+public class PooledTableIdGenerator implements IdentifierGenerator {
+
+    public static final String TABLE = "id_sequences";
+
+    private static final String SELECT_SQL = "SELECT next_val FROM " + TABLE + " WHERE sequence_name = ?";
+    private static final String UPDATE_SQL = "UPDATE " + TABLE + " SET next_val = MAX(next_val, ?) WHERE sequence_name = ?";
+
+    // Un allocateur par segment, partagé par toutes les entités qui héritent de l'annotation
+    private static final ConcurrentMap<String, Allocator> ALLOCATORS = new ConcurrentHashMap<>();
+
+    private final Allocator allocator;
+
+    public PooledTableIdGenerator(PooledTableId config) {
+        this.allocator = ALLOCATORS.computeIfAbsent(config.segment(),
+                segment -> new Allocator(segment, config.allocationSize()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return allocator.next(session);
+    }
+
+    private static final class Allocator {
+
+        private final String segment;
+        private final int allocationSize;
+
+        // Bloc courant [next, limit)
+        private long next;
+        private long limit;
+
+        Allocator(String segment, int allocationSize) {
+            this.segment = segment;
+            this.allocationSize = allocationSize;
+        }
+
+        long next(SharedSessionContractImplementor session) {
+            synchronized (this) {
+                if (next < limit) {
+                    return next++;
+                }
+            }
+            // Lecture hors verrou : elle peut attendre la connexion d'écriture
+            long stored = readStoredValue(session);
+            long reservedLimit;
+            long id;
+            synchronized (this) {
+                if (next < limit) {
+                    return next++;
+                }
+                long low = Math.max(stored, limit);
+                next = low + 1;
+                limit = low + allocationSize;
+                reservedLimit = limit;
+                id = low;
+            }
+            writeStoredValue(session, reservedLimit);
+            return id;
+        }
+
+        private long readStoredValue(SharedSessionContractImplementor session) {
+            JdbcCoordinator jdbc = session.getJdbcCoordinator();
+            PreparedStatement statement = jdbc.getStatementPreparer().prepareStatement(SELECT_SQL);
+            try {
+                statement.setString(1, segment);
+                ResultSet resultSet = jdbc.getResultSetReturn().extract(statement, SELECT_SQL);
+                if (!resultSet.next()) {
+                    throw new IdentifierGenerationException("Segment d'identifiants introuvable dans "
+                            + TABLE + ": " + segment);
+                }
+                return resultSet.getLong(1);
+            } catch (SQLException e) {
+                throw session.getJdbcServices().getSqlExceptionHelper()
+                        .convert(e, "Impossible de lire le segment d'identifiants " + segment, SELECT_SQL);
+            } finally {
+                jdbc.getLogicalConnection().getResourceRegistry().release(statement);
+                jdbc.afterStatementExecution();
+            }
+        }
+
+        private void writeStoredValue(SharedSessionContractImplementor session, long value) {
+            JdbcCoordinator jdbc = session.getJdbcCoordinator();
+            PreparedStatement statement = jdbc.getStatementPreparer().prepareStatement(UPDATE_SQL);
+            try {
+                statement.setLong(1, value);
+                statement.setString(2, segment);
+                jdbc.getResultSetReturn().executeUpdate(statement, UPDATE_SQL);
+            } catch (SQLException e) {
+                throw session.getJdbcServices().getSqlExceptionHelper()
+                        .convert(e, "Impossible de réserver un bloc d'identifiants " + segment, UPDATE_SQL);
+            } finally {
+                jdbc.getLogicalConnection().getResourceRegistry().release(statement);
+                jdbc.afterStatementExecution();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.org.testApi.payload;
 
+import jakarta.validation.constraints.Digits;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import java.math.BigDecimal;
@@ -9,6 +10,7 @@ import java.time.LocalDate;
 @EqualsAndHashCode(callSuper = true)
 public class FinancialTransactionPayload extends BasePayload {
     private Long id;
+    @Digits(integer = 36, fraction = 2, message = "Le montant ne peut pas avoir plus de deux décimales")
     private BigDecimal amount;
     private LocalDate transactionDate;
     private String description;
@@ -1,6 +1,9 @@
 package com.org.testApi.payload;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,20 +12,30 @@ import lombok.Setter;
 @Setter
 public class RegistrationRequest {
     @Schema(description = "Nom d'utilisateur unique", example = "elishamavayanza")
+    @NotBlank(message = "Le nom d'utilisateur ne peut pas être vide")
+    @Size(min = 3, max = 50, message = "Le nom d'utilisateur doit contenir entre 3 et 50 caractères")
     private String username;
 
     @Schema(description = "Adresse email unique", example = "elishama.vayanza@example.com")
+    @NotBlank(message = "L'email ne peut pas être vide")
+    @Email(message = "L'email doit être une adresse valide")
+    @Size(max = 100, message = "L'email ne doit pas dépasser 100 caractères")
     private String email;
 
     @Schema(description = "Mot de passe de l'utilisateur", example = "motdepasse123")
+    @NotBlank(message = "Le mot de passe ne peut pas être vide")
+    @Size(min = 6, message = "Le mot de passe doit contenir au moins 6 caractères")
     private String password;
 
     @Schema(description = "Prénom de l'utilisateur", example = "Elishama")
+    @Size(max = 50, message = "Le prénom ne doit pas dépasser 50 caractères")
     private String firstName;
 
     @Schema(description = "Nom de famille de l'utilisateur", example = "VAYANZA")
+    @Size(max = 50, message = "Le nom de famille ne doit pas dépasser 50 caractères")
     private String lastName;
 
     @Schema(description = "Numéro de téléphone de l'utilisateur", example = "+234991471988")
+    @Size(max = 20, message = "Le numéro de téléphone ne doit pas dépasser 20 caractères")
     private String phoneNumber;
 }
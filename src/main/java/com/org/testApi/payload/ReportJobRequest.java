@@ -0,0 +1,28 @@
+package com.org.testApi.payload;
+
+import com.org.testApi.models.ReportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Schema(description = "Demande de rapport exécuté en arrière-plan")
+@Getter
+@Setter
+public class ReportJobRequest {
+    @Schema(description = "Rapport demandé", example = "FINANCIAL")
+    private ReportJob.ReportType type;
+
+    @Schema(description = "Format du résultat", example = "JSON", defaultValue = "JSON")
+    private ReportJob.ReportFormat format = ReportJob.ReportFormat.JSON;
+
+    @Schema(description = "ID de l'association couverte ; absent pour toutes les associations (administrateurs)", example = "1")
+    private Long associationId;
+
+    @Schema(description = "Premier jour de la période (rapports d'activité et financier)", example = "2025-01-01")
+    private LocalDate startDate;
+
+    @Schema(description = "Dernier jour de la période, inclus (rapports d'activité et financier)", example = "2025-12-31")
+    private LocalDate endDate;
+}
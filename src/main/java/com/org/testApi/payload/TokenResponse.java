@@ -0,0 +1,21 @@
+package com.org.testApi.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Jetons remis à la connexion et à chaque rafraîchissement.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    /**
+     * Durée de validité du jeton d'accès, en secondes.
+     */
+    private long expiresIn;
+}
@@ -1,5 +1,6 @@
 package com.org.testApi.repository;
 
+import com.org.testApi.dto.response.ActivityCountDTO;
 import com.org.testApi.models.Activity;
 import com.org.testApi.repository.base.BaseRepository;
 import com.org.testApi.repository.custom.ActivityRepositoryCustom;
@@ -39,6 +40,25 @@ public interface ActivityRepository extends BaseRepository<Activity, Long>, Acti
     // Méthodes ajoutées pour le ReportService
     List<Activity> findByStartDateTimeBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Activités et participations par type, statut, lieu et projet, en une seule requête agrégée :
+     * les participants sont comptés par la jointure sur activity_participants, sans charger les collections.
+     *
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @param startDate début de la période
+     * @param endDate fin de la période
+     * @return une ligne par combinaison (type, statut, lieu, projet) présente dans la période
+     */
+    @Query("SELECT new com.org.testApi.dto.response.ActivityCountDTO(a.type, a.status, a.location, pr.id, pr.name, "
+            + "COUNT(DISTINCT a.id), COUNT(p.id)) "
+            + "FROM Activity a LEFT JOIN a.project pr LEFT JOIN a.participants p "
+            + "WHERE a.startDateTime BETWEEN :startDate AND :endDate AND a.active = true "
+            + "AND (:associationId IS NULL OR a.association.id = :associationId) "
+            + "GROUP BY a.type, a.status, a.location, pr.id, pr.name")
+    List<ActivityCountDTO> countByTypeStatusLocationAndProject(@Param("associationId") Long associationId,
+                                                               @Param("startDate") LocalDateTime startDate,
+                                                               @Param("endDate") LocalDateTime endDate);
+
     @Query("SELECT COUNT(a) FROM Activity a WHERE a.startDateTime BETWEEN :startDate AND :endDate")
     long countByStartDateTimeBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.org.testApi.repository;
+
+/**
+ * Adhésion en cours d'un utilisateur à une association, lue sans charger l'entité {@code Member}.
+ *
+ * @param memberId      identifiant du membre
+ * @param associationId identifiant de l'association
+ * @param admin         {@code true} si le membre administre l'association
+ */
+public record AssociationMembership(Long memberId, Long associationId, boolean admin) {
+}
@@ -0,0 +1,10 @@
+package com.org.testApi.repository;
+
+/**
+ * Identifiant et nom d'une association, lus sans charger l'entité {@code Association}.
+ *
+ * @param id   identifiant de l'association
+ * @param name nom de l'association
+ */
+public record AssociationRef(Long id, String name) {
+}
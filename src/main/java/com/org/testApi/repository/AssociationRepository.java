@@ -28,4 +28,13 @@ public interface AssociationRepository extends BaseRepository<Association, Long>
 
     @Query("SELECT a FROM Association a JOIN FETCH a.members WHERE a.id = :id")
     Optional<Association> findByIdWithMembers(@Param("id") Long id);
+
+    /**
+     * Associations actives, dans l'ordre des identifiants, pour le rapport consolidé.
+     *
+     * @return identifiant et nom de chaque association active
+     */
+    @Query("SELECT new com.org.testApi.repository.AssociationRef(a.id, a.name) FROM Association a "
+            + "WHERE a.active = true ORDER BY a.id")
+    List<AssociationRef> findActiveRefs();
 }
@@ -1,21 +1,41 @@
 package com.org.testApi.repository;
 
+import com.org.testApi.dto.response.FinancialCategoryTotalDTO;
+import com.org.testApi.dto.response.FinancialTransactionResponseDTO;
 import com.org.testApi.models.FinancialTransaction;
 import com.org.testApi.repository.base.BaseRepository;
+import com.org.testApi.repository.custom.FinancialTransactionRepositoryCustom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FinancialTransactionRepository extends BaseRepository<FinancialTransaction, Long> {
+public interface FinancialTransactionRepository extends BaseRepository<FinancialTransaction, Long>, FinancialTransactionRepositoryCustom {
+
+    // Projection des colonnes de FinancialTransactionResponseDTO : les entités liées sont lues dans les clés étrangères
+    String RESPONSE_PROJECTION = "SELECT new com.org.testApi.dto.response.FinancialTransactionResponseDTO("
+            + "ft.id, ft.createdDate, ft.lastModifiedDate, ft.createdBy, ft.lastModifiedBy, ft.active, "
+            + "ft.amount, ft.transactionDate, ft.description, ft.type, "
+            + "ft.activity.id, ft.project.id, ft.association.id, ft.category.id) "
+            + "FROM FinancialTransaction ft";
+
+    @Query(RESPONSE_PROJECTION + " ORDER BY ft.id")
+    List<FinancialTransactionResponseDTO> findAllResponses();
+
+    @Query(RESPONSE_PROJECTION + " WHERE ft.id = :id")
+    Optional<FinancialTransactionResponseDTO> findResponseById(@Param("id") Long id);
 
     List<FinancialTransaction> findByType(FinancialTransaction.TransactionType type);
 
@@ -35,11 +55,81 @@ public interface FinancialTransactionRepository extends BaseRepository<Financial
 
     Page<FinancialTransaction> findByAssociationId(Long associationId, Pageable pageable);
 
-    @Query("SELECT SUM(ft.amount) FROM FinancialTransaction ft WHERE ft.association.id = :associationId AND ft.type = 'INCOME'")
-    BigDecimal sumIncomeByAssociationId(@Param("associationId") Long associationId);
-
-    @Query("SELECT SUM(ft.amount) FROM FinancialTransaction ft WHERE ft.association.id = :associationId AND ft.type = 'EXPENSE'")
-    BigDecimal sumExpenseByAssociationId(@Param("associationId") Long associationId);
+    // Totaux lus dans les agrégats du grand livre (ledger_aggregates), en centimes. Comme le rapport financier
+    // et calculateBalanceForPeriod : transactions actives seulement, montants en valeur absolue, une transaction
+    // sans type classée par son signe (auparavant : SUM(amount) signée sur le type exact, désactivées comprises)
+    @Query("SELECT SUM(la.totalCents) FROM LedgerAggregate la WHERE la.associationId = :associationId AND la.type = 'INCOME'")
+    Long sumIncomeCentsByAssociationId(@Param("associationId") Long associationId);
+
+    @Query("SELECT SUM(la.totalCents) FROM LedgerAggregate la WHERE la.associationId = :associationId AND la.type = 'EXPENSE'")
+    Long sumExpenseCentsByAssociationId(@Param("associationId") Long associationId);
+
+    default BigDecimal sumIncomeByAssociationId(Long associationId) {
+        Long cents = sumIncomeCentsByAssociationId(associationId);
+        return cents == null ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    default BigDecimal sumExpenseByAssociationId(Long associationId) {
+        Long cents = sumExpenseCentsByAssociationId(associationId);
+        return cents == null ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    // Revenu ou dépense : le type de la transaction, à défaut le signe du montant
+    String TYPE_BUCKET = "CASE WHEN ft.type = 'EXPENSE' OR (ft.type IS NULL AND ft.amount < 0) "
+            + "THEN 'EXPENSE' ELSE 'INCOME' END";
+
+    /**
+     * Totaux des transactions d'une période par catégorie et par type, en une seule requête agrégée.
+     * Les montants sont sommés en centimes entiers pour rester exacts sous SQLite.
+     *
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @param startDate premier jour de la période
+     * @param endDate dernier jour de la période
+     * @return une ligne par couple (catégorie, type) présent dans la période
+     */
+    @Query("SELECT new com.org.testApi.dto.response.FinancialCategoryTotalDTO(c.id, c.name, " + TYPE_BUCKET + ", "
+            + "SUM(CAST(ROUND(ABS(ft.amount) * 100, 0) AS Long)), COUNT(ft)) "
+            + "FROM FinancialTransaction ft LEFT JOIN ft.category c "
+            + "WHERE ft.transactionDate BETWEEN :startDate AND :endDate AND ft.active = true "
+            + "AND (:associationId IS NULL OR ft.association.id = :associationId) "
+            + "GROUP BY c.id, c.name, " + TYPE_BUCKET + " ORDER BY c.name")
+    List<FinancialCategoryTotalDTO> sumByCategoryAndType(@Param("associationId") Long associationId,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+
+    // Contribution d'une transaction à son agrégat : association, catégorie (0 sans), type, jour, centimes
+    String LEDGER_KEY = "ft.association.id, COALESCE(ft.category.id, 0L), " + TYPE_BUCKET + ", ft.transactionDate";
+
+    /**
+     * Contributions des transactions actives parmi les identifiants, une par transaction, telles
+     * qu'enregistrées en base : la requête ne vide pas le contexte de persistance, une entité déjà modifiée
+     * en mémoire n'est pas prise pour son état précédent.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT new com.org.testApi.repository.LedgerEntry(" + LEDGER_KEY + ", "
+            + "CAST(ROUND(ABS(ft.amount) * 100, 0) AS Long), 1L) "
+            + "FROM FinancialTransaction ft WHERE ft.id IN :ids AND ft.active = true")
+    List<LedgerEntry> findLedgerEntriesByIds(@Param("ids") Collection<Long> ids);
+
+    // Transactions supprimées en cascade avec leur activité, leur projet ou leur association, à retirer du grand livre
+    @Query("SELECT ft.id FROM FinancialTransaction ft WHERE ft.activity.id = :activityId")
+    List<Long> findIdsByActivityId(@Param("activityId") Long activityId);
+
+    @Query("SELECT ft.id FROM FinancialTransaction ft LEFT JOIN ft.activity a "
+            + "WHERE ft.project.id = :projectId OR a.project.id = :projectId")
+    List<Long> findIdsCascadedFromProject(@Param("projectId") Long projectId);
+
+    @Query("SELECT ft.id FROM FinancialTransaction ft LEFT JOIN ft.activity a "
+            + "WHERE ft.association.id = :associationId OR a.association.id = :associationId")
+    List<Long> findIdsCascadedFromAssociation(@Param("associationId") Long associationId);
+
+    /**
+     * Agrégats recalculés par un parcours complet des transactions actives, pour vérification.
+     */
+    @Query("SELECT new com.org.testApi.repository.LedgerEntry(" + LEDGER_KEY + ", "
+            + "SUM(CAST(ROUND(ABS(ft.amount) * 100, 0) AS Long)), COUNT(ft)) "
+            + "FROM FinancialTransaction ft WHERE ft.active = true GROUP BY " + LEDGER_KEY)
+    List<LedgerEntry> aggregateLedgerEntries();
 
     @Query("SELECT ft FROM FinancialTransaction ft JOIN FETCH ft.association WHERE ft.id = :id")
     Optional<FinancialTransaction> findByIdWithAssociation(@Param("id") Long id);
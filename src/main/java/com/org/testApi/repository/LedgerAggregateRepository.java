@@ -0,0 +1,62 @@
+package com.org.testApi.repository;
+
+import com.org.testApi.models.LedgerAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Agrégats du grand livre. Les écritures passent par des requêtes d'ajout atomiques
+ * ({@code INSERT ... ON CONFLICT DO UPDATE}) : deux transactions du même jour ne s'écrasent pas.
+ */
+@Repository
+public interface LedgerAggregateRepository extends JpaRepository<LedgerAggregate, LedgerAggregate.Key> {
+
+    // Même classement que FinancialTransactionRepository.TYPE_BUCKET, en SQL natif
+    String SQL_TYPE_BUCKET = "CASE WHEN type = 'EXPENSE' OR (type IS NULL AND amount < 0) THEN 'EXPENSE' ELSE 'INCOME' END";
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_aggregates (association_id, category_id, type, bucketDate, totalCents, transactionCount) "
+            + "VALUES (:associationId, :categoryId, :type, :bucketDate, :totalCents, :transactionCount) "
+            + "ON CONFLICT (association_id, category_id, type, bucketDate) DO UPDATE SET "
+            + "totalCents = totalCents + excluded.totalCents, "
+            + "transactionCount = transactionCount + excluded.transactionCount",
+            nativeQuery = true)
+    int add(@Param("associationId") Long associationId, @Param("categoryId") Long categoryId,
+            @Param("type") String type, @Param("bucketDate") LocalDate bucketDate,
+            @Param("totalCents") long totalCents, @Param("transactionCount") long transactionCount);
+
+    default int add(LedgerEntry entry) {
+        return add(entry.associationId(), entry.categoryId(), entry.type(), entry.bucketDate(),
+                entry.totalCents(), entry.transactionCount());
+    }
+
+    /**
+     * Retire les agrégats vidés par la suppression ou la modification de leurs transactions.
+     */
+    @Modifying
+    @Query("DELETE FROM LedgerAggregate la WHERE la.transactionCount <= 0")
+    int deleteEmpty();
+
+    @Modifying
+    @Query("DELETE FROM LedgerAggregate la")
+    int deleteAllBuckets();
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_aggregates (association_id, category_id, type, bucketDate, totalCents, transactionCount) "
+            + "SELECT association_id, COALESCE(category_id, 0), " + SQL_TYPE_BUCKET + ", transactionDate, "
+            + "SUM(CAST(ROUND(ABS(amount) * 100, 0) AS INTEGER)), COUNT(*) "
+            + "FROM financial_transactions WHERE is_active = 1 "
+            + "GROUP BY association_id, COALESCE(category_id, 0), " + SQL_TYPE_BUCKET + ", transactionDate",
+            nativeQuery = true)
+    int rebuildFromTransactions();
+
+    @Query("SELECT new com.org.testApi.repository.LedgerEntry(la.associationId, la.categoryId, la.type, la.bucketDate, "
+            + "la.totalCents, la.transactionCount) FROM LedgerAggregate la")
+    List<LedgerEntry> findAllEntries();
+}
@@ -0,0 +1,54 @@
+package com.org.testApi.repository;
+
+import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.models.LedgerAggregate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Contribution de transactions à un agrégat du grand livre.
+ *
+ * @param associationId    identifiant de l'association
+ * @param categoryId       identifiant de la catégorie, {@code 0} sans catégorie
+ * @param type             INCOME ou EXPENSE
+ * @param bucketDate       jour des transactions
+ * @param totalCents       somme des montants en valeur absolue, en centimes
+ * @param transactionCount nombre de transactions
+ */
+public record LedgerEntry(Long associationId, Long categoryId, String type, LocalDate bucketDate,
+                          long totalCents, long transactionCount) {
+
+    /**
+     * Contribution d'une transaction, calculée comme {@code FinancialTransactionRepository#findLedgerEntriesByIds}.
+     */
+    public static LedgerEntry of(FinancialTransaction transaction) {
+        BigDecimal amount = transaction.getAmount();
+        boolean expense = transaction.getType() == FinancialTransaction.TransactionType.EXPENSE
+                || (transaction.getType() == null && amount.signum() < 0);
+        return new LedgerEntry(transaction.getAssociation().getId(),
+                transaction.getCategory() != null ? transaction.getCategory().getId() : LedgerAggregate.UNCATEGORIZED,
+                expense ? "EXPENSE" : "INCOME",
+                transaction.getTransactionDate(),
+                amount.abs().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact(),
+                1L);
+    }
+
+    public Key key() {
+        return new Key(associationId, categoryId, type, bucketDate);
+    }
+
+    /**
+     * @return la contribution opposée, pour retirer des transactions d'un agrégat
+     */
+    public LedgerEntry negate() {
+        return new LedgerEntry(associationId, categoryId, type, bucketDate, -totalCents, -transactionCount);
+    }
+
+    /**
+     * Agrégat auquel contribue l'entrée.
+     */
+    public record Key(Long associationId, Long categoryId, String type, LocalDate bucketDate) {
+    }
+}
@@ -1,17 +1,29 @@
 package com.org.testApi.repository;
 
+import com.org.testApi.dto.response.LoanResponseDTO;
 import com.org.testApi.models.Loan;
+import com.org.testApi.repository.base.BaseRepository;
 import com.org.testApi.repository.custom.LoanRepositoryCustom;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.time.LocalDate;
 
 @Repository
-public interface LoanRepository extends JpaRepository<Loan, Long>, LoanRepositoryCustom {
+public interface LoanRepository extends BaseRepository<Loan, Long>, LoanRepositoryCustom {
+
+    /**
+     * Projection des colonnes de {@link LoanResponseDTO} : les identifiants du membre et du document
+     * sont lus dans les clés étrangères, sans jointure ni chargement des entités.
+     */
+    String RESPONSE_PROJECTION = "SELECT new com.org.testApi.dto.response.LoanResponseDTO("
+            + "l.id, l.createdDate, l.lastModifiedDate, l.createdBy, l.lastModifiedBy, l.active, "
+            + "l.member.id, l.document.id, l.amount, l.interestRate, l.penaltyRate, l.loanDate, l.dueDate, "
+            + "l.returnDate, l.repaymentDate, l.amountRepaid, l.status, l.depositAmount, l.depositRefunded, l.notes) "
+            + "FROM Loan l";
 
     /**
      * Trouve tous les prêts d'un membre spécifique.
@@ -27,7 +39,7 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, LoanRepositor
      * @param currentDate la date de référence pour déterminer si un prêt est en retard
      * @return la liste des prêts en retard
      */
-    @Query("SELECT l FROM Loan l WHERE l.dueDate < :currentDate AND l.status != 'REPAID'")
+    @Query("SELECT l FROM Loan l WHERE l.status IN ('ACTIVE', 'OVERDUE') AND l.dueDate < :currentDate")
     List<Loan> findOverdueLoans(@Param("currentDate") LocalDate currentDate);
 
     /**
@@ -35,6 +47,41 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, LoanRepositor
      *
      * @return la liste des prêts actifs
      */
-    @Query("SELECT l FROM Loan l WHERE l.status != 'REPAID'")
+    @Query("SELECT l FROM Loan l WHERE l.status IN ('ACTIVE', 'OVERDUE')")
     List<Loan> findActiveLoans();
+
+    /**
+     * Trouve un prêt par son identifiant, projeté en DTO de réponse.
+     *
+     * @param id l'identifiant du prêt
+     * @return le prêt s'il existe
+     */
+    @Query(RESPONSE_PROJECTION + " WHERE l.id = :id")
+    Optional<LoanResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Trouve tous les prêts d'un membre, projetés en DTO de réponse.
+     *
+     * @param memberId l'identifiant du membre
+     * @return la liste des prêts du membre
+     */
+    @Query(RESPONSE_PROJECTION + " WHERE l.member.id = :memberId ORDER BY l.dueDate, l.id")
+    List<LoanResponseDTO> findResponsesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * Trouve tous les prêts en retard, projetés en DTO de réponse.
+     *
+     * @param currentDate la date de référence pour déterminer si un prêt est en retard
+     * @return la liste des prêts en retard
+     */
+    @Query(RESPONSE_PROJECTION + " WHERE l.status IN ('ACTIVE', 'OVERDUE') AND l.dueDate < :currentDate ORDER BY l.dueDate, l.id")
+    List<LoanResponseDTO> findOverdueResponses(@Param("currentDate") LocalDate currentDate);
+
+    /**
+     * Trouve tous les prêts actifs (non remboursés), projetés en DTO de réponse.
+     *
+     * @return la liste des prêts actifs
+     */
+    @Query(RESPONSE_PROJECTION + " WHERE l.status IN ('ACTIVE', 'OVERDUE') ORDER BY l.dueDate, l.id")
+    List<LoanResponseDTO> findActiveResponses();
 }
@@ -1,5 +1,8 @@
 package com.org.testApi.repository;
 
+import com.org.testApi.dto.response.MemberResponseDTO;
+import com.org.testApi.dto.response.MembershipCohortDTO;
+import com.org.testApi.dto.response.MembershipCountDTO;
 import com.org.testApi.models.Member;
 import com.org.testApi.repository.base.BaseRepository;
 import com.org.testApi.repository.custom.MemberRepositoryCustom;
@@ -17,8 +20,33 @@ import java.util.Optional;
 @Repository
 public interface MemberRepository extends BaseRepository<Member, Long>, MemberRepositoryCustom {
 
+    // Projection des colonnes de MemberResponseDTO : user et association sont lus dans les clés étrangères
+    String RESPONSE_PROJECTION = "SELECT new com.org.testApi.dto.response.MemberResponseDTO("
+            + "m.id, m.createdDate, m.lastModifiedDate, m.createdBy, m.lastModifiedBy, m.active, "
+            + "m.user.id, m.association.id, m.joinDate, m.leaveDate, m.type, m.isAdmin, m.memberCode) "
+            + "FROM Member m";
+
+    @Query(RESPONSE_PROJECTION + " ORDER BY m.id")
+    List<MemberResponseDTO> findAllResponses();
+
+    @Query(RESPONSE_PROJECTION + " WHERE m.id = :id")
+    Optional<MemberResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + " WHERE m.memberCode = :memberCode")
+    Optional<MemberResponseDTO> findResponseByMemberCode(@Param("memberCode") String memberCode);
+
     List<Member> findByUserId(Long userId);
 
+    /**
+     * Adhésions en cours d'un utilisateur, dans toutes les associations, en une seule requête.
+     *
+     * @param username le nom de l'utilisateur
+     * @return une adhésion par association dont l'utilisateur est membre actif
+     */
+    @Query("SELECT new com.org.testApi.repository.AssociationMembership(m.id, m.association.id, m.isAdmin) "
+            + "FROM Member m WHERE m.user.username = :username AND m.leaveDate IS NULL AND m.active = true")
+    List<AssociationMembership> findActiveMembershipsByUsername(@Param("username") String username);
+
     List<Member> findByAssociationId(Long associationId);
 
     List<Member> findByType(Member.MemberType type);
@@ -56,6 +84,32 @@ public interface MemberRepository extends BaseRepository<Member, Long>, MemberRe
 
     @Query("SELECT COUNT(m) FROM Member m WHERE m.leaveDate IS NULL")
     long countByIsActiveTrue();
+
+    /**
+     * Nombre de membres par association, type et statut (actif tant que leaveDate est nulle),
+     * calculé sur l'index ix_members_report sans charger les membres.
+     *
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @return une ligne par (association, type, statut) présent
+     */
+    @Query("SELECT new com.org.testApi.dto.response.MembershipCountDTO(m.association.id, m.type, "
+            + "CASE WHEN m.leaveDate IS NULL THEN true ELSE false END, COUNT(m)) "
+            + "FROM Member m WHERE m.active = true "
+            + "AND (:associationId IS NULL OR m.association.id = :associationId) "
+            + "GROUP BY m.association.id, m.type, CASE WHEN m.leaveDate IS NULL THEN true ELSE false END")
+    List<MembershipCountDTO> countByAssociationTypeAndStatus(@Param("associationId") Long associationId);
+
+    /**
+     * Membres entrés et encore présents par jour d'adhésion, calculé sur l'index ix_members_join_date.
+     *
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @return une ligne par jour d'adhésion
+     */
+    @Query("SELECT new com.org.testApi.dto.response.MembershipCohortDTO(m.joinDate, COUNT(m), "
+            + "SUM(CASE WHEN m.leaveDate IS NULL THEN 1L ELSE 0L END)) "
+            + "FROM Member m WHERE m.active = true "
+            + "AND (:associationId IS NULL OR m.association.id = :associationId) GROUP BY m.joinDate")
+    List<MembershipCohortDTO> countByJoinDate(@Param("associationId") Long associationId);
     
     @EntityGraph(attributePaths = {"user", "association"})
     Optional<Member> findWithUserAndAssociationById(Long id);
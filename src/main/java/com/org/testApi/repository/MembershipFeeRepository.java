@@ -2,6 +2,7 @@ package com.org.testApi.repository;
 
 import com.org.testApi.models.MembershipFee;
 import com.org.testApi.repository.base.BaseRepository;
+import com.org.testApi.repository.custom.MembershipFeeRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
@@ -14,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MembershipFeeRepository extends BaseRepository<MembershipFee, Long> {
+public interface MembershipFeeRepository extends BaseRepository<MembershipFee, Long>, MembershipFeeRepositoryCustom {
 
     List<MembershipFee> findByMemberId(Long memberId);
 
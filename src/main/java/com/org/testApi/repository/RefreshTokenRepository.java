@@ -0,0 +1,68 @@
+package com.org.testApi.repository;
+
+import com.org.testApi.models.RefreshToken;
+import com.org.testApi.repository.base.BaseRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends BaseRepository<RefreshToken, Long> {
+
+    /**
+     * Trouve un jeton de rafraîchissement par son empreinte, avec son utilisateur et ses rôles.
+     *
+     * @param tokenHash l'empreinte SHA-256 du jeton
+     * @return le jeton s'il existe
+     */
+    @EntityGraph(attributePaths = {"user", "user.roles"})
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Consomme un jeton s'il n'a pas déjà été utilisé.
+     *
+     * @param id l'identifiant du jeton
+     * @param revokedAt la date d'utilisation
+     * @return 1 si le jeton a été consommé, 0 s'il l'était déjà
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true, r.revokedAt = :revokedAt WHERE r.id = :id AND r.revoked = false")
+    int consume(@Param("id") Long id, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Révoque tous les jetons encore valides d'une session.
+     *
+     * @param sessionId l'identifiant de la session
+     * @param revokedAt la date de révocation
+     * @return le nombre de jetons révoqués
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true, r.revokedAt = :revokedAt "
+            + "WHERE r.sessionId = :sessionId AND r.revoked = false")
+    int revokeSession(@Param("sessionId") String sessionId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Supprime tous les jetons d'un utilisateur.
+     *
+     * @param userId l'identifiant de l'utilisateur
+     * @return le nombre de jetons supprimés
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Supprime les jetons expirés.
+     *
+     * @param now la date de référence
+     * @return le nombre de jetons supprimés
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,75 @@
+package com.org.testApi.repository;
+
+import com.org.testApi.dto.response.ReportJobResponseDTO;
+import com.org.testApi.models.ReportJob;
+import com.org.testApi.repository.base.BaseRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportJobRepository extends BaseRepository<ReportJob, Long> {
+
+    /**
+     * État d'une demande, sans lire le rapport produit.
+     *
+     * @param id l'identifiant de la demande
+     * @return l'état de la demande si elle existe
+     */
+    @Query("SELECT new com.org.testApi.dto.response.ReportJobResponseDTO(j.id, j.type, j.format, j.associationId, "
+            + "j.periodStart, j.periodEnd, j.status, j.requestedBy, j.createdDate, j.startedAt, j.completedAt, "
+            + "j.errorMessage) FROM ReportJob j WHERE j.id = :id")
+    Optional<ReportJobResponseDTO> findStatusById(@Param("id") Long id);
+
+    /**
+     * Demandes non terminées, dans l'ordre de soumission, pour reprise au démarrage.
+     */
+    @Query("SELECT j FROM ReportJob j WHERE j.status IN ('QUEUED', 'RUNNING') ORDER BY j.id")
+    List<ReportJob> findUnfinished();
+
+    /**
+     * Remet en attente les demandes interrompues par un arrêt de l'application.
+     *
+     * @return le nombre de demandes remises en attente
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.status = 'QUEUED', j.startedAt = null WHERE j.status = 'RUNNING'")
+    int requeueRunning();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.status = 'RUNNING', j.startedAt = :startedAt "
+            + "WHERE j.id = :id AND j.status = 'QUEUED'")
+    int markRunning(@Param("id") Long id, @Param("startedAt") LocalDateTime startedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.status = 'COMPLETED', j.result = :result, j.completedAt = :completedAt "
+            + "WHERE j.id = :id")
+    int complete(@Param("id") Long id, @Param("result") String result, @Param("completedAt") LocalDateTime completedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.status = 'FAILED', j.errorMessage = :errorMessage, j.completedAt = :completedAt "
+            + "WHERE j.id = :id")
+    int fail(@Param("id") Long id, @Param("errorMessage") String errorMessage,
+             @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Supprime les demandes terminées avant la date donnée, rapports compris.
+     *
+     * @param cutoff la date de référence
+     * @return le nombre de demandes supprimées
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReportJob j WHERE j.status IN ('COMPLETED', 'FAILED') AND j.completedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -5,10 +5,14 @@ import com.org.testApi.repository.custom.UserRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,12 +26,43 @@ public interface UserRepository extends BaseRepository<User, Long>, UserReposito
     @EntityGraph(attributePaths = {"roles"})
     Optional<User> findWithRolesByUsername(String username);
 
+    @Query("SELECT u.loginAttempts FROM User u WHERE u.username = :username")
+    Optional<Integer> findLoginAttemptsByUsername(@Param("username") String username);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.loginAttempts = u.loginAttempts + 1 WHERE u.username = :username")
+    int incrementLoginAttempts(@Param("username") String username);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.loginAttempts = 0, u.lastLogin = :loginTime WHERE u.username = :username")
+    int recordSuccessfulLogin(@Param("username") String username, @Param("loginTime") LocalDateTime loginTime);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
+
     @Query("SELECT u FROM User u WHERE u.lastLogin < :date")
     List<User> findInactiveUsersSince(LocalDateTime date);
 
     Page<User> findAllByOrderByLastNameAsc(Pageable pageable);
 
     boolean existsByUsernameOrEmail(String username, String email);
+
+    /**
+     * Noms d'utilisateur et adresses email déjà enregistrés parmi ceux d'une inscription en lot,
+     * lus sur les index uniques ux_users_username et ux_users_email.
+     *
+     * @return une paire (username, email) par utilisateur en conflit
+     */
+    @Query("SELECT u.username, u.email FROM User u WHERE u.username IN :usernames OR u.email IN :emails")
+    List<Object[]> findRegisteredIdentities(@Param("usernames") Collection<String> usernames,
+                                            @Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.username FROM User u WHERE u.id IN :ids")
+    List<String> findUsernamesByIds(@Param("ids") Collection<Long> ids);
     
     boolean existsByUsername(String username);
 
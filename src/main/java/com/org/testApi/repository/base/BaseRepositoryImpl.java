@@ -1,30 +1,49 @@
 package com.org.testApi.repository.base;
 
+import com.org.testApi.repository.base.QueryShapeCache.MatchMode;
+import com.org.testApi.repository.base.QueryShapeCache.QueryShape;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.util.ClassUtils;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 public class BaseRepositoryImpl<T, ID extends Serializable> extends SimpleJpaRepository<T, ID> implements CustomJpaRepository<T, ID> {
 
+    // Reste sous la limite de paramètres liés par requête de SQLite
+    private static final int SOFT_DELETE_CHUNK_SIZE = 500;
+    private static final int KEYSET_MAX_PAGE_SIZE = 500;
+
     @PersistenceContext
     private EntityManager entityManager;
     private final Class<T> domainClass;
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final SoftDeleteStrategy softDeleteStrategy;
+    private final QueryShapeCache queryShapeCache = QueryShapeCache.getInstance();
 
     public BaseRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
         super(entityInformation, entityManager);
         this.entityManager = entityManager;
         this.domainClass = entityInformation.getJavaType();
+        this.entityInformation = entityInformation;
+        this.softDeleteStrategy = SoftDeleteStrategy.resolve(entityManager.getMetamodel().entity(domainClass),
+                entityInformation.getIdAttribute().getName());
     }
 
     // Implémentation des méthodes CustomJpaRepository...
@@ -51,58 +70,126 @@ public class BaseRepositoryImpl<T, ID extends Serializable> extends SimpleJpaRep
 
     @Override
     public List<T> findByAttributes(Map<String, Object> attributes) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<T> query = cb.createQuery(domainClass);
-        Root<T> root = query.from(domainClass);
-
-        List<Predicate> predicates = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-            predicates.add(cb.equal(root.get(entry.getKey()), entry.getValue()));
+        List<String> names = attributes.keySet().stream().sorted().toList();
+        List<String> nullNames = names.stream().filter(name -> attributes.get(name) == null).toList();
+        String jpql = queryShapeCache.getQuery(entityManager,
+                new QueryShape(domainClass, names, nullNames, MatchMode.EQUALS));
+
+        TypedQuery<T> query = entityManager.createQuery(jpql, domainClass);
+        for (int i = 0; i < names.size(); i++) {
+            Object value = attributes.get(names.get(i));
+            if (value != null) {
+                query.setParameter("p" + i, value);
+            }
         }
-
-        query.where(predicates.toArray(new Predicate[0]));
-        return entityManager.createQuery(query).getResultList();
+        return query.getResultList();
     }
 
     @Override
     public List<T> findByAttributeContains(String attribute, String value) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<T> query = cb.createQuery(domainClass);
-        Root<T> root = query.from(domainClass);
+        String jpql = queryShapeCache.getQuery(entityManager,
+                new QueryShape(domainClass, List.of(attribute), List.of(), MatchMode.CONTAINS));
+        return entityManager.createQuery(jpql, domainClass)
+                .setParameter("p0", "%" + value.toLowerCase() + "%")
+                .getResultList();
+    }
+
+    @Override
+    public List<T> findByAttributeStartsWith(String attribute, String prefix) {
+        String jpql = queryShapeCache.getQuery(entityManager,
+                new QueryShape(domainClass, List.of(attribute), List.of(), MatchMode.PREFIX));
+        return entityManager.createQuery(jpql, domainClass)
+                .setParameter("p0_lo", prefix)
+                .setParameter("p0_hi", QueryShapeCache.prefixUpperBound(prefix))
+                .getResultList();
+    }
+
+    @Override
+    public KeysetPage<T> findAllByKeyset(String sortProperty, Sort.Direction direction, int size,
+                                         String continuationToken) {
+        if (size < 1 || size > KEYSET_MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("La taille de page doit être comprise entre 1 et " + KEYSET_MAX_PAGE_SIZE);
+        }
+        EntityType<T> entityType = entityManager.getMetamodel().entity(domainClass);
+        String idAttribute = entityInformation.getIdAttribute().getName();
+        String property = sortProperty == null || sortProperty.isBlank() ? idAttribute : sortProperty;
+        Sort.Direction effectiveDirection = direction == null ? Sort.Direction.ASC : direction;
+        boolean sortedById = property.equals(idAttribute);
+        Class<?> keyType = keysetKeyType(entityType, property);
+
+        KeysetCursor cursor = continuationToken == null || continuationToken.isBlank() ? null
+                : KeysetCursor.decode(continuationToken, property, effectiveDirection, keyType,
+                ClassUtils.resolvePrimitiveIfNecessary(entityInformation.getIdType()));
+
+        TypedQuery<T> query = entityManager.createQuery(
+                KeysetCursor.query(entityType.getName(), idAttribute, property, effectiveDirection, cursor), domainClass);
+        if (cursor != null) {
+            query.setParameter("lastId", cursor.lastId());
+            if (!sortedById && cursor.key() != null) {
+                query.setParameter("key", cursor.key());
+            }
+        }
+        // Un élément de plus que demandé indique s'il existe une page suivante, sans COUNT
+        List<T> rows = query.setMaxResults(size + 1).getResultList();
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
 
-        Predicate condition = cb.like(cb.lower(root.get(attribute)), "%" + value.toLowerCase() + "%");
-        query.where(condition);
+        List<T> content = List.copyOf(rows.subList(0, size));
+        T last = content.get(size - 1);
+        Object key = sortedById ? null : PropertyAccessorFactory.forDirectFieldAccess(Hibernate.unproxy(last))
+                .getPropertyValue(property);
+        KeysetCursor next = new KeysetCursor(key, entityInformation.getRequiredId(last));
+        return new KeysetPage<>(content, next.encode(property, effectiveDirection));
+    }
 
-        return entityManager.createQuery(query).getResultList();
+    private static Class<?> keysetKeyType(EntityType<?> entityType, String property) {
+        Attribute<?, ?> attribute;
+        try {
+            attribute = entityType.getAttribute(property);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Propriété de tri inconnue : " + entityType.getName() + "." + property, e);
+        }
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType());
+        if (!(attribute instanceof SingularAttribute<?, ?>)
+                || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                || !KeysetCursor.isSupported(type)) {
+            throw new IllegalArgumentException("Tri par clé impossible sur " + entityType.getName() + "." + property);
+        }
+        return type;
     }
 
     @Override
     @Transactional
     public void softDelete(ID id) {
-        T entity = findById(id).orElse(null);
-        if (entity != null) {
-            softDelete(entity);
-        }
+        softDeleteAll(List.of(id));
     }
 
     @Override
     @Transactional
     public void softDelete(T entity) {
-        // Implémentation générique du soft delete
-        try {
-            // Essaye d'appeler setActive(false) si la méthode existe
-            entity.getClass().getMethod("setActive", boolean.class).invoke(entity, false);
-            save(entity);
-        } catch (Exception e) {
-            try {
-                // Essaye d'appeler setDeleted(true) si la méthode existe
-                entity.getClass().getMethod("setDeleted", boolean.class).invoke(entity, true);
-                save(entity);
-            } catch (Exception ex) {
-                // Fallback: suppression physique
-                entityManager.remove(entity);
-            }
+        softDeleteAll(List.of(entityInformation.getRequiredId(entity)));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteAll(Collection<ID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
         }
+        // Les modifications en attente doivent précéder l'UPDATE groupé
         entityManager.flush();
+
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += SOFT_DELETE_CHUNK_SIZE) {
+            List<ID> chunk = distinctIds.subList(from, Math.min(from + SOFT_DELETE_CHUNK_SIZE, distinctIds.size()));
+            Query query = entityManager.createQuery(softDeleteStrategy.statement()).setParameter("ids", chunk);
+            if (softDeleteStrategy.touchesLastModifiedDate()) {
+                query.setParameter("now", LocalDateTime.now());
+            }
+            updated += query.executeUpdate();
+        }
+        return updated;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,10 @@
 package com.org.testApi.repository.base;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -11,8 +13,18 @@ public interface CustomJpaRepository<T, ID extends Serializable> {
 
     List<T> findByAttributes(Map<String, Object> attributes);
     List<T> findByAttributeContains(String attribute, String value);
+    List<T> findByAttributeStartsWith(String attribute, String prefix);
+
+    /**
+     * Pagination par clé sur {@code (sortProperty, id)} : chaque page coûte le même prix quelle que
+     * soit sa profondeur. {@code continuationToken} est le {@link KeysetPage#nextToken()} de la page
+     * précédente, ou {@code null} pour la première ; il n'est valable qu'avec le même tri.
+     */
+    KeysetPage<T> findAllByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
+
     void softDelete(ID id);
     void softDelete(T entity);
+    int softDeleteAll(Collection<ID> ids);
     T refresh(T entity);
     void detach(T entity);
     <S extends T> S saveAndRefresh(S entity);
@@ -0,0 +1,207 @@
+package com.org.testApi.repository.base;
+
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Position d'une pagination par clé : la valeur de la clé de tri et l'identifiant du dernier élément lu.
+ * <p>
+ * Le jeton transmis au client encode aussi la propriété et le sens du tri ; il est refusé s'il est
+ * présenté avec un autre tri. La page suivante est lue par
+ * {@code WHERE (cle, id) > (:key, :lastId) ORDER BY cle, id}, ce qui coûte le même prix
+ * quelle que soit la profondeur, contrairement à un OFFSET.
+ * </p>
+ * <p>
+ * Les valeurs {@code NULL} de la clé sont traitées comme les plus petites, ainsi que le fait SQLite :
+ * en tête en tri croissant, en fin en tri décroissant.
+ * </p>
+ */
+final class KeysetCursor {
+
+    private static final byte VERSION = 1;
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+            String.class, Long.class, Integer.class, Short.class, BigDecimal.class, BigInteger.class,
+            Double.class, Float.class, Boolean.class, LocalDate.class, LocalDateTime.class, LocalTime.class,
+            Instant.class);
+
+    private static final ConcurrentMap<QueryKey, String> QUERIES = new ConcurrentHashMap<>();
+
+    private final Object key;
+    private final Object lastId;
+
+    KeysetCursor(Object key, Object lastId) {
+        this.key = key;
+        this.lastId = lastId;
+    }
+
+    Object key() {
+        return key;
+    }
+
+    Object lastId() {
+        return lastId;
+    }
+
+    static boolean isSupported(Class<?> type) {
+        return type.isEnum() || SUPPORTED_TYPES.contains(type);
+    }
+
+    /**
+     * JPQL de la page demandée ; {@code cursor} vaut {@code null} pour la première page.
+     * Les paramètres sont {@code :key} (absent si la clé est nulle ou est l'identifiant) et {@code :lastId}.
+     */
+    static String query(String entityName, String idAttribute, String property, Sort.Direction direction,
+                        KeysetCursor cursor) {
+        Position position = cursor == null ? Position.FIRST
+                : cursor.key == null && !property.equals(idAttribute) ? Position.AFTER_NULL : Position.AFTER_VALUE;
+        return QUERIES.computeIfAbsent(new QueryKey(entityName, idAttribute, property, direction, position),
+                KeysetCursor::buildQuery);
+    }
+
+    private static String buildQuery(QueryKey query) {
+        String k = "e." + query.property();
+        String id = "e." + query.idAttribute();
+        boolean asc = query.direction().isAscending();
+        String after = asc ? " > " : " < ";
+
+        StringBuilder jpql = new StringBuilder("SELECT e FROM ").append(query.entityName()).append(" e");
+        if (query.position() != Position.FIRST) {
+            jpql.append(" WHERE ");
+            if (query.property().equals(query.idAttribute())) {
+                jpql.append(id).append(after).append(":lastId");
+            } else if (query.position() == Position.AFTER_VALUE) {
+                jpql.append("(").append(k).append(after).append(":key OR (")
+                        .append(k).append(" = :key AND ").append(id).append(after).append(":lastId)");
+                if (!asc) {
+                    jpql.append(" OR ").append(k).append(" IS NULL");
+                }
+                jpql.append(")");
+            } else if (asc) {
+                jpql.append("(").append(k).append(" IS NOT NULL OR ").append(id).append(" > :lastId)");
+            } else {
+                jpql.append(k).append(" IS NULL AND ").append(id).append(" < :lastId");
+            }
+        }
+        String order = asc ? " ASC" : " DESC";
+        jpql.append(" ORDER BY ");
+        if (!query.property().equals(query.idAttribute())) {
+            jpql.append(k).append(order).append(", ");
+        }
+        return jpql.append(id).append(order).toString();
+    }
+
+    String encode(String property, Sort.Direction direction) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(property);
+            out.writeUTF(direction.name());
+            out.writeBoolean(key != null);
+            if (key != null) {
+                out.writeUTF(key instanceof Enum<?> constant ? constant.name() : key.toString());
+            }
+            out.writeUTF(lastId.toString());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    static KeysetCursor decode(String token, String property, Sort.Direction direction,
+                               Class<?> keyType, Class<?> idType) {
+        String tokenProperty;
+        String tokenDirection;
+        String keyValue;
+        String idValue;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION) {
+                throw new IOException("Version de jeton inconnue");
+            }
+            tokenProperty = in.readUTF();
+            tokenDirection = in.readUTF();
+            keyValue = in.readBoolean() ? in.readUTF() : null;
+            idValue = in.readUTF();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Jeton de continuation invalide", e);
+        }
+        if (!tokenProperty.equals(property) || !tokenDirection.equals(direction.name())) {
+            throw new IllegalArgumentException("Jeton de continuation émis pour un autre tri");
+        }
+        try {
+            return new KeysetCursor(keyValue == null ? null : parse(keyValue, keyType), parse(idValue, idType));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Jeton de continuation invalide", e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parse(String value, Class<?> type) {
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        if (type == String.class) {
+            return value;
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Short.class) {
+            return Short.valueOf(value);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+        if (type == BigInteger.class) {
+            return new BigInteger(value);
+        }
+        if (type == Double.class) {
+            return Double.valueOf(value);
+        }
+        if (type == Float.class) {
+            return Float.valueOf(value);
+        }
+        if (type == Boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == LocalTime.class) {
+            return LocalTime.parse(value);
+        }
+        if (type == Instant.class) {
+            return Instant.parse(value);
+        }
+        throw new IllegalArgumentException("Type de clé non supporté : " + type.getName());
+    }
+
+    private enum Position {
+        FIRST, AFTER_VALUE, AFTER_NULL
+    }
+
+    private record QueryKey(String entityName, String idAttribute, String property, Sort.Direction direction,
+                            Position position) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.org.testApi.repository.base;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page obtenue par pagination par clé (keyset) : le contenu et le jeton opaque permettant
+ * de lire la page suivante, {@code null} sur la dernière page.
+ *
+ * @param content   éléments de la page, dans l'ordre du tri demandé
+ * @param nextToken jeton à renvoyer pour obtenir la page suivante
+ */
+public record KeysetPage<T>(List<T> content, String nextToken) {
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextToken);
+    }
+}
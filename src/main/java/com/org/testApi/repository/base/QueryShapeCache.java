@@ -0,0 +1,124 @@
+package com.org.testApi.repository.base;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache des requêtes JPQL générées par {@link BaseRepositoryImpl}, indexé par forme de requête :
+ * classe du domaine, attributs filtrés et opérateur.
+ * <p>
+ * Une requête Criteria est réinterprétée par Hibernate à chaque exécution ; une chaîne JPQL identique
+ * est au contraire retrouvée dans le cache de plans d'Hibernate, qui réutilise l'arbre SQM déjà
+ * analysé. Seules les valeurs des paramètres changent d'un appel à l'autre.
+ * </p>
+ * <p>
+ * Les noms d'attributs sont vérifiés dans le métamodèle avant d'entrer dans une requête :
+ * une forme invalide n'est jamais mise en cache.
+ * </p>
+ */
+public final class QueryShapeCache {
+
+    /**
+     * Opérateur appliqué aux attributs d'une forme de requête.
+     */
+    public enum MatchMode {
+        /** Égalité stricte ({@code IS NULL} pour une valeur nulle). */
+        EQUALS,
+        /** Préfixe sensible à la casse, exprimé comme un intervalle pour rester indexable. */
+        PREFIX,
+        /** Sous-chaîne insensible à la casse ; parcourt toujours toute la table. */
+        CONTAINS
+    }
+
+    /**
+     * Forme d'une requête : les attributs sont triés, et ceux comparés à {@code null} sont distingués.
+     */
+    public record QueryShape(Class<?> domainClass, List<String> attributes, List<String> nullAttributes,
+                             MatchMode mode) {
+    }
+
+    private static final QueryShapeCache INSTANCE = new QueryShapeCache();
+
+    private final ConcurrentMap<QueryShape, String> queries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private QueryShapeCache() {
+    }
+
+    public static QueryShapeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retourne le JPQL associé à la forme, en le construisant au premier appel.
+     * Le paramètre de l'attribut d'indice {@code i} se nomme {@code p<i>} ; en mode PREFIX,
+     * les bornes se nomment {@code p<i>_lo} et {@code p<i>_hi}.
+     */
+    public String getQuery(EntityManager entityManager, QueryShape shape) {
+        String query = queries.get(shape);
+        if (query != null) {
+            hits.increment();
+            return query;
+        }
+        misses.increment();
+        return queries.computeIfAbsent(shape, s -> buildQuery(entityManager, s));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return queries.size();
+    }
+
+    private static String buildQuery(EntityManager entityManager, QueryShape shape) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(shape.domainClass());
+        StringBuilder jpql = new StringBuilder("SELECT e FROM ").append(entityType.getName()).append(" e");
+
+        String separator = " WHERE ";
+        for (int i = 0; i < shape.attributes().size(); i++) {
+            String attribute = shape.attributes().get(i);
+            // Lève IllegalArgumentException si l'attribut n'existe pas
+            entityType.getAttribute(attribute);
+
+            jpql.append(separator);
+            separator = " AND ";
+            if (shape.nullAttributes().contains(attribute)) {
+                jpql.append("e.").append(attribute).append(" IS NULL");
+                continue;
+            }
+            switch (shape.mode()) {
+                case EQUALS -> jpql.append("e.").append(attribute).append(" = :p").append(i);
+                case PREFIX -> jpql.append("e.").append(attribute).append(" >= :p").append(i).append("_lo")
+                        .append(" AND e.").append(attribute).append(" < :p").append(i).append("_hi");
+                case CONTAINS -> jpql.append("LOWER(e.").append(attribute).append(") LIKE :p").append(i);
+            }
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * Plus petite chaîne strictement supérieure à toutes celles qui commencent par {@code prefix}.
+     */
+    static String prefixUpperBound(String prefix) {
+        int end = prefix.length();
+        while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if (end == 0) {
+            return String.valueOf(Character.MAX_VALUE).repeat(prefix.length() + 1);
+        }
+        return prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.testApi.repository.base;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stratégie de suppression logique d'un type d'entité, résolue une seule fois à la création du repository.
+ * <p>
+ * Selon les attributs présents dans le métamodèle, la suppression devient un unique
+ * {@code UPDATE ... WHERE id IN (:ids)} :
+ * </p>
+ * <ul>
+ *     <li>{@code active} passe à {@code false} (toutes les entités héritant de {@code BaseEntity}) ;</li>
+ *     <li>{@code deleted} passe à {@code true} lorsqu'il existe (cas d'{@code Activity}) ;</li>
+ *     <li>{@code lastModifiedDate} est mis à jour, l'UPDATE groupé ne passant pas par l'audit JPA.</li>
+ * </ul>
+ * <p>
+ * Une entité sans {@code active} ni {@code deleted} est supprimée physiquement, comme auparavant.
+ * </p>
+ *
+ * @param statement               requête JPQL paramétrée par {@code :ids} (et {@code :now} le cas échéant)
+ * @param touchesLastModifiedDate vrai si la requête attend le paramètre {@code :now}
+ */
+public record SoftDeleteStrategy(String statement, boolean touchesLastModifiedDate) {
+
+    public static SoftDeleteStrategy resolve(EntityType<?> entityType, String idAttribute) {
+        List<String> assignments = new ArrayList<>();
+        if (hasAttribute(entityType, "active")) {
+            assignments.add("e.active = false");
+        }
+        if (hasAttribute(entityType, "deleted")) {
+            assignments.add("e.deleted = true");
+        }
+        String where = " WHERE e." + idAttribute + " IN :ids";
+
+        if (assignments.isEmpty()) {
+            return new SoftDeleteStrategy("DELETE FROM " + entityType.getName() + " e" + where, false);
+        }
+
+        boolean touchesLastModifiedDate = hasAttribute(entityType, "lastModifiedDate");
+        if (touchesLastModifiedDate) {
+            assignments.add("e.lastModifiedDate = :now");
+        }
+        return new SoftDeleteStrategy("UPDATE " + entityType.getName() + " e SET "
+                + String.join(", ", assignments) + where, touchesLastModifiedDate);
+    }
+
+    private static boolean hasAttribute(EntityType<?> entityType, String name) {
+        return entityType.getAttributes().stream().map(Attribute::getName).anyMatch(name::equals);
+    }
+}
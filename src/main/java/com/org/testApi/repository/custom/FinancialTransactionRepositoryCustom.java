@@ -1,9 +1,13 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.FinancialTransaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface FinancialTransactionRepositoryCustom {
 
@@ -25,6 +29,36 @@ public interface FinancialTransactionRepositoryCustom {
             LocalDate endDate,
             Long associationId);
 
+    /**
+     * Variante paginée de la recherche multicritère des transactions financières
+     * @param pageable page et tri demandés ({@code transactionDate}, {@code amount}, {@code type} ;
+     *                 par défaut : date de transaction décroissante)
+     * @return Page des transactions financières correspondant aux critères
+     */
+    Page<FinancialTransaction> searchFinancialTransactionsComplexQuery(
+            FinancialTransaction.TransactionType type,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long associationId,
+            Pageable pageable);
+
+    /**
+     * Mêmes critères que la recherche multicritère, résultats lus au fil de l'eau pour les exports.
+     * Le flux doit être fermé, et consommé dans une transaction
+     * @param fetchSize nombre de lignes lues par aller-retour JDBC
+     * @return Flux des transactions, par date de transaction décroissante
+     */
+    Stream<FinancialTransaction> streamFinancialTransactionsComplexQuery(
+            FinancialTransaction.TransactionType type,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long associationId,
+            int fetchSize);
+
     /**
      * Trouve les transactions financières avec toutes les entités associées
      * @param associationId ID de l'association
@@ -34,7 +68,13 @@ public interface FinancialTransactionRepositoryCustom {
     List<FinancialTransaction> findFinancialTransactionsWithAssociations(Long associationId, int limit);
 
     /**
-     * Calcule le solde (revenus - dépenses) pour une période donnée
+     * Calcule le solde (revenus - dépenses) pour une période donnée, à partir des agrégats du grand livre.
+     * <p>
+     * Même règle que le rapport financier : seules les transactions actives comptent, chacune pour la
+     * valeur absolue de son montant arrondie au centime, et une transaction sans type est un revenu ou une
+     * dépense selon son signe. Avant les agrégats, le solde était la somme signée des montants, transactions
+     * désactivées comprises, et une transaction sans type était toujours soustraite.
+     * </p>
      * @param associationId ID de l'association
      * @param startDate date de début
      * @param endDate date de fin
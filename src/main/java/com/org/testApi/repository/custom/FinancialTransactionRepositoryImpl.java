@@ -1,17 +1,36 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.repository.search.SearchQueryProvider;
+import com.org.testApi.repository.search.SearchQueryTemplate;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public class FinancialTransactionRepositoryImpl implements FinancialTransactionRepositoryCustom {
+public class FinancialTransactionRepositoryImpl implements FinancialTransactionRepositoryCustom, SearchQueryProvider {
+
+    private static final SearchQueryTemplate<FinancialTransaction> SEARCH =
+            SearchQueryTemplate.builder(FinancialTransaction.class, "ft")
+                    .keyFilter("associationId", "ft.association.id = :associationId")
+                    .keyFilter("startDate", "ft.transactionDate >= :startDate")
+                    .keyFilter("endDate", "ft.transactionDate <= :endDate")
+                    .filter("type", "ft.type = :type")
+                    .filter("minAmount", "ft.amount >= :minAmount")
+                    .filter("maxAmount", "ft.amount <= :maxAmount")
+                    .sortable("transactionDate", "ft.transactionDate")
+                    .sortable("amount", "ft.amount")
+                    .sortable("type", "ft.type")
+                    .defaultSort(Sort.by(Sort.Direction.DESC, "transactionDate"))
+                    .build();
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -24,49 +43,55 @@ public class FinancialTransactionRepositoryImpl implements FinancialTransactionR
             LocalDate startDate,
             LocalDate endDate,
             Long associationId) {
-        StringBuilder jpql = new StringBuilder("SELECT ft FROM FinancialTransaction ft WHERE 1=1");
-        if (type != null) {
-            jpql.append(" AND ft.type = :type");
-        }
-        if (minAmount != null) {
-            jpql.append(" AND ft.amount >= :minAmount");
-        }
-        if (maxAmount != null) {
-            jpql.append(" AND ft.amount <= :maxAmount");
-        }
-        if (startDate != null) {
-            jpql.append(" AND ft.transactionDate >= :startDate");
-        }
-        if (endDate != null) {
-            jpql.append(" AND ft.transactionDate <= :endDate");
-        }
-        if (associationId != null) {
-            jpql.append(" AND ft.association.id = :associationId");
-        }
+        return bindSearch(type, minAmount, maxAmount, startDate, endDate, associationId)
+                .list(entityManager, Sort.unsorted());
+    }
 
-        jpql.append(" ORDER BY ft.transactionDate DESC");
+    @Override
+    public Page<FinancialTransaction> searchFinancialTransactionsComplexQuery(
+            FinancialTransaction.TransactionType type,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long associationId,
+            Pageable pageable) {
+        return bindSearch(type, minAmount, maxAmount, startDate, endDate, associationId)
+                .page(entityManager, pageable);
+    }
+
+    @Override
+    public Stream<FinancialTransaction> streamFinancialTransactionsComplexQuery(
+            FinancialTransaction.TransactionType type,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long associationId,
+            int fetchSize) {
+        return bindSearch(type, minAmount, maxAmount, startDate, endDate, associationId)
+                .stream(entityManager, Sort.unsorted(), fetchSize);
+    }
 
-        TypedQuery<FinancialTransaction> query = entityManager.createQuery(jpql.toString(), FinancialTransaction.class);
-        if (type != null) {
-            query.setParameter("type", type);
-        }
-        if (minAmount != null) {
-            query.setParameter("minAmount", minAmount);
-        }
-        if (maxAmount != null) {
-            query.setParameter("maxAmount", maxAmount);
-        }
-        if (startDate != null) {
-            query.setParameter("startDate", startDate);
-        }
-        if (endDate != null) {
-            query.setParameter("endDate", endDate);
-        }
-        if (associationId != null) {
-            query.setParameter("associationId", associationId);
-        }
+    @Override
+    public List<SearchQueryTemplate<?>> searchQueryTemplates() {
+        return List.of(SEARCH);
+    }
 
-        return query.getResultList();
+    private SearchQueryTemplate<FinancialTransaction>.Search bindSearch(
+            FinancialTransaction.TransactionType type,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long associationId) {
+        return SEARCH.bind()
+                .set("associationId", associationId)
+                .set("startDate", startDate)
+                .set("endDate", endDate)
+                .set("type", type)
+                .set("minAmount", minAmount)
+                .set("maxAmount", maxAmount);
     }
 
     @Override
@@ -88,16 +113,18 @@ public class FinancialTransactionRepositoryImpl implements FinancialTransactionR
 
     @Override
     public BigDecimal calculateBalanceForPeriod(Long associationId, LocalDate startDate, LocalDate endDate) {
+        // Lu dans les agrégats journaliers (ledger_aggregates) : quelques lignes par jour de la période
         String jpql = """
-            SELECT SUM(CASE WHEN ft.type = 'INCOME' THEN ft.amount ELSE ft.amount * -1 END) 
-            FROM FinancialTransaction ft 
-            WHERE ft.association.id = :associationId 
-            AND ft.transactionDate BETWEEN :startDate AND :endDate
+            SELECT SUM(CASE WHEN la.type = 'INCOME' THEN la.totalCents ELSE -la.totalCents END)
+            FROM LedgerAggregate la
+            WHERE la.associationId = :associationId
+            AND la.bucketDate BETWEEN :startDate AND :endDate
             """;
-        return entityManager.createQuery(jpql, BigDecimal.class)
+        Long cents = entityManager.createQuery(jpql, Long.class)
                 .setParameter("associationId", associationId)
                 .setParameter("startDate", startDate)
                 .setParameter("endDate", endDate)
                 .getSingleResult();
+        return cents == null ? null : BigDecimal.valueOf(cents, 2);
     }
 }
@@ -1,9 +1,13 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.Loan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface LoanRepositoryCustom {
 
@@ -21,6 +25,29 @@ public interface LoanRepositoryCustom {
     List<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
                                        Loan.LoanStatus status, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Variante paginée de {@link #searchLoansComplexQuery(Long, BigDecimal, BigDecimal, Loan.LoanStatus, LocalDate, LocalDate)}.
+     * Le tri accepte {@code dueDate}, {@code loanDate}, {@code amount} et {@code status}
+     * (par défaut : échéance croissante).
+     *
+     * @param pageable Page et tri demandés
+     * @return Page des prêts correspondant aux critères
+     */
+    Page<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                       Loan.LoanStatus status, LocalDate startDate, LocalDate endDate,
+                                       Pageable pageable);
+
+    /**
+     * Mêmes critères que la recherche multicritère, résultats lus au fil de l'eau pour les exports.
+     * Le flux doit être fermé, et consommé dans une transaction.
+     *
+     * @param fetchSize Nombre de lignes lues par aller-retour JDBC
+     * @return Flux des prêts, par échéance croissante
+     */
+    Stream<Loan> streamLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                         Loan.LoanStatus status, LocalDate startDate, LocalDate endDate,
+                                         int fetchSize);
+
     /**
      * Calcule le montant total des prêts pour un membre.
      *
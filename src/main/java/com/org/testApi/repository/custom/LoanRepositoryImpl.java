@@ -1,17 +1,38 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.Loan;
+import com.org.testApi.repository.search.SearchQueryProvider;
+import com.org.testApi.repository.search.SearchQueryTemplate;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public class LoanRepositoryImpl implements LoanRepositoryCustom {
+public class LoanRepositoryImpl implements LoanRepositoryCustom, SearchQueryProvider {
+
+    private static final SearchQueryTemplate<Loan> SEARCH = SearchQueryTemplate.builder(Loan.class, "l")
+            .joins("JOIN FETCH l.member")
+            .keyFilter("memberId", "l.member.id = :memberId")
+            .keyFilter("startDate", "l.dueDate >= :startDate")
+            .keyFilter("endDate", "l.dueDate <= :endDate")
+            .filter("minAmount", "l.amount >= :minAmount")
+            .filter("maxAmount", "l.amount <= :maxAmount")
+            .filter("status", "l.status = :status")
+            .sortable("dueDate", "l.dueDate")
+            .sortable("loanDate", "l.loanDate")
+            .sortable("amount", "l.amount")
+            .sortable("status", "l.status")
+            .defaultSort(Sort.by("dueDate"))
+            .build();
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -19,61 +40,40 @@ public class LoanRepositoryImpl implements LoanRepositoryCustom {
     @Override
     public List<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
                                               Loan.LoanStatus status, LocalDate startDate, LocalDate endDate) {
-        StringBuilder jpql = new StringBuilder("SELECT l FROM Loan l JOIN FETCH l.member WHERE 1=1");
-
-        if (memberId != null) {
-            jpql.append(" AND l.member.id = :memberId");
-        }
-
-        if (minAmount != null) {
-            jpql.append(" AND l.amount >= :minAmount");
-        }
-
-        if (maxAmount != null) {
-            jpql.append(" AND l.amount <= :maxAmount");
-        }
-
-        if (status != null) {
-            jpql.append(" AND l.status = :status");
-        }
-
-        if (startDate != null) {
-            jpql.append(" AND l.dueDate >= :startDate");
-        }
-
-        if (endDate != null) {
-            jpql.append(" AND l.dueDate <= :endDate");
-        }
-
-        jpql.append(" ORDER BY l.dueDate ASC");
-
-        TypedQuery<Loan> query = entityManager.createQuery(jpql.toString(), Loan.class);
-
-        if (memberId != null) {
-            query.setParameter("memberId", memberId);
-        }
-
-        if (minAmount != null) {
-            query.setParameter("minAmount", minAmount);
-        }
-
-        if (maxAmount != null) {
-            query.setParameter("maxAmount", maxAmount);
-        }
+        return bindSearch(memberId, minAmount, maxAmount, status, startDate, endDate)
+                .list(entityManager, Sort.unsorted());
+    }
 
-        if (status != null) {
-            query.setParameter("status", status);
-        }
+    @Override
+    public Page<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                              Loan.LoanStatus status, LocalDate startDate, LocalDate endDate,
+                                              Pageable pageable) {
+        return bindSearch(memberId, minAmount, maxAmount, status, startDate, endDate)
+                .page(entityManager, pageable);
+    }
 
-        if (startDate != null) {
-            query.setParameter("startDate", startDate);
-        }
+    @Override
+    public Stream<Loan> streamLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                                Loan.LoanStatus status, LocalDate startDate, LocalDate endDate,
+                                                int fetchSize) {
+        return bindSearch(memberId, minAmount, maxAmount, status, startDate, endDate)
+                .stream(entityManager, Sort.unsorted(), fetchSize);
+    }
 
-        if (endDate != null) {
-            query.setParameter("endDate", endDate);
-        }
+    @Override
+    public List<SearchQueryTemplate<?>> searchQueryTemplates() {
+        return List.of(SEARCH);
+    }
 
-        return query.getResultList();
+    private SearchQueryTemplate<Loan>.Search bindSearch(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                                        Loan.LoanStatus status, LocalDate startDate, LocalDate endDate) {
+        return SEARCH.bind()
+                .set("memberId", memberId)
+                .set("startDate", startDate)
+                .set("endDate", endDate)
+                .set("minAmount", minAmount)
+                .set("maxAmount", maxAmount)
+                .set("status", status);
     }
 
     @Override
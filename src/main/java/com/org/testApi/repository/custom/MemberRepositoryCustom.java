@@ -1,6 +1,9 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,6 +20,15 @@ public interface MemberRepositoryCustom {
      */
     List<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType, Long associationId, Boolean isActive);
 
+    /**
+     * Variante paginée de la recherche multicritère des membres
+     * @param pageable page et tri demandés ({@code joinDate}, {@code leaveDate}, {@code type} ;
+     *                 par défaut : date d'adhésion décroissante)
+     * @return Page des membres correspondant aux critères
+     */
+    Page<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType,
+                                           Long associationId, Boolean isActive, Pageable pageable);
+
     /**
      * Trouve les membres avec toutes les entités associées
      * @param associationId ID de l'association
@@ -1,60 +1,61 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.Member;
+import com.org.testApi.repository.search.SearchQueryProvider;
+import com.org.testApi.repository.search.SearchQueryTemplate;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public class MemberRepositoryImpl implements MemberRepositoryCustom {
+public class MemberRepositoryImpl implements MemberRepositoryCustom, SearchQueryProvider {
+
+    private static final SearchQueryTemplate<Member> SEARCH = SearchQueryTemplate.builder(Member.class, "m")
+            .keyFilter("associationId", "m.association.id = :associationId")
+            .filter("name", "LOWER(m.user.username) LIKE LOWER(CONCAT('%', :name, '%'))")
+            .filter("email", "LOWER(m.user.email) LIKE LOWER(CONCAT('%', :email, '%'))")
+            .filter("memberType", "m.type = :memberType")
+            .filter("isActive", "(:isActive = TRUE AND m.leaveDate IS NULL)"
+                    + " OR (:isActive = FALSE AND m.leaveDate IS NOT NULL)")
+            .sortable("joinDate", "m.joinDate")
+            .sortable("leaveDate", "m.leaveDate")
+            .sortable("type", "m.type")
+            .defaultSort(Sort.by(Sort.Direction.DESC, "joinDate"))
+            .build();
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public List<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType, Long associationId, Boolean isActive) {
-        StringBuilder jpql = new StringBuilder("SELECT m FROM Member m WHERE 1=1");
-        if (name != null && !name.isEmpty()) {
-            jpql.append(" AND LOWER(m.user.username) LIKE LOWER(CONCAT('%', :name, '%'))");
-        }
-        if (email != null && !email.isEmpty()) {
-            jpql.append(" AND LOWER(m.user.email) LIKE LOWER(CONCAT('%', :email, '%'))");
-        }
-        if (memberType != null) {
-            jpql.append(" AND m.type = :memberType");
-        }
-        if (associationId != null) {
-            jpql.append(" AND m.association.id = :associationId");
-        }
-        if (isActive != null) {
-            if (isActive) {
-                jpql.append(" AND m.leaveDate IS NULL");
-            } else {
-                jpql.append(" AND m.leaveDate IS NOT NULL");
-            }
-        }
+        return bindSearch(name, email, memberType, associationId, isActive).list(entityManager, Sort.unsorted());
+    }
 
-        jpql.append(" ORDER BY m.joinDate DESC");
+    @Override
+    public Page<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType,
+                                                  Long associationId, Boolean isActive, Pageable pageable) {
+        return bindSearch(name, email, memberType, associationId, isActive).page(entityManager, pageable);
+    }
 
-        TypedQuery<Member> query = entityManager.createQuery(jpql.toString(), Member.class);
-        if (name != null && !name.isEmpty()) {
-            query.setParameter("name", name);
-        }
-        if (email != null && !email.isEmpty()) {
-            query.setParameter("email", email);
-        }
-        if (memberType != null) {
-            query.setParameter("memberType", memberType);
-        }
-        if (associationId != null) {
-            query.setParameter("associationId", associationId);
-        }
+    @Override
+    public List<SearchQueryTemplate<?>> searchQueryTemplates() {
+        return List.of(SEARCH);
+    }
 
-        return query.getResultList();
+    private SearchQueryTemplate<Member>.Search bindSearch(String name, String email, Member.MemberType memberType,
+                                                          Long associationId, Boolean isActive) {
+        return SEARCH.bind()
+                .set("associationId", associationId)
+                .set("name", name)
+                .set("email", email)
+                .set("memberType", memberType)
+                .set("isActive", isActive);
     }
 
     @Override
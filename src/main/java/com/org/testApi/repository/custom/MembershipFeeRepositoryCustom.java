@@ -1,9 +1,13 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.MembershipFee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MembershipFeeRepositoryCustom {
 
@@ -25,6 +29,36 @@ public interface MembershipFeeRepositoryCustom {
             LocalDate startDate,
             LocalDate endDate);
 
+    /**
+     * Variante paginée de la recherche multicritère des cotisations
+     * @param pageable page et tri demandés ({@code paymentDate}, {@code amount} ;
+     *                 par défaut : date de paiement décroissante)
+     * @return Page des cotisations correspondant aux critères
+     */
+    Page<MembershipFee> searchMembershipFeesComplexQuery(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            MembershipFee.PaymentMethod paymentMethod,
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * Mêmes critères que la recherche multicritère, résultats lus au fil de l'eau pour les exports.
+     * Le flux doit être fermé, et consommé dans une transaction
+     * @param fetchSize nombre de lignes lues par aller-retour JDBC
+     * @return Flux des cotisations, par date de paiement décroissante
+     */
+    Stream<MembershipFee> streamMembershipFeesComplexQuery(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            MembershipFee.PaymentMethod paymentMethod,
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int fetchSize);
+
     /**
      * Trouve les cotisations avec le membre associé
      * @param associationId ID de l'association
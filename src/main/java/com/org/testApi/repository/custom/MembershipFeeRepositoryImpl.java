@@ -1,17 +1,36 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.MembershipFee;
+import com.org.testApi.repository.search.SearchQueryProvider;
+import com.org.testApi.repository.search.SearchQueryTemplate;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public class MembershipFeeRepositoryImpl implements MembershipFeeRepositoryCustom {
+public class MembershipFeeRepositoryImpl implements MembershipFeeRepositoryCustom, SearchQueryProvider {
+
+    private static final SearchQueryTemplate<MembershipFee> SEARCH =
+            SearchQueryTemplate.builder(MembershipFee.class, "mf")
+                    .joins("JOIN FETCH mf.member")
+                    .keyFilter("memberId", "mf.member.id = :memberId")
+                    .keyFilter("startDate", "mf.paymentDate >= :startDate")
+                    .keyFilter("endDate", "mf.paymentDate <= :endDate")
+                    .filter("minAmount", "mf.amount >= :minAmount")
+                    .filter("maxAmount", "mf.amount <= :maxAmount")
+                    .filter("paymentMethod", "mf.paymentMethod = :paymentMethod")
+                    .sortable("paymentDate", "mf.paymentDate")
+                    .sortable("amount", "mf.amount")
+                    .defaultSort(Sort.by(Sort.Direction.DESC, "paymentDate"))
+                    .build();
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -24,49 +43,55 @@ public class MembershipFeeRepositoryImpl implements MembershipFeeRepositoryCusto
             Long memberId,
             LocalDate startDate,
             LocalDate endDate) {
-        StringBuilder jpql = new StringBuilder("SELECT mf FROM MembershipFee mf JOIN FETCH mf.member WHERE 1=1");
-        if (minAmount != null) {
-            jpql.append(" AND mf.amount >= :minAmount");
-        }
-        if (maxAmount != null) {
-            jpql.append(" AND mf.amount <= :maxAmount");
-        }
-        if (paymentMethod != null) {
-            jpql.append(" AND mf.paymentMethod = :paymentMethod");
-        }
-        if (memberId != null) {
-            jpql.append(" AND mf.member.id = :memberId");
-        }
-        if (startDate != null) {
-            jpql.append(" AND mf.paymentDate >= :startDate");
-        }
-        if (endDate != null) {
-            jpql.append(" AND mf.paymentDate <= :endDate");
-        }
+        return bindSearch(minAmount, maxAmount, paymentMethod, memberId, startDate, endDate)
+                .list(entityManager, Sort.unsorted());
+    }
 
-        jpql.append(" ORDER BY mf.paymentDate DESC");
+    @Override
+    public Page<MembershipFee> searchMembershipFeesComplexQuery(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            MembershipFee.PaymentMethod paymentMethod,
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable) {
+        return bindSearch(minAmount, maxAmount, paymentMethod, memberId, startDate, endDate)
+                .page(entityManager, pageable);
+    }
 
-        TypedQuery<MembershipFee> query = entityManager.createQuery(jpql.toString(), MembershipFee.class);
-        if (minAmount != null) {
-            query.setParameter("minAmount", minAmount);
-        }
-        if (maxAmount != null) {
-            query.setParameter("maxAmount", maxAmount);
-        }
-        if (paymentMethod != null) {
-            query.setParameter("paymentMethod", paymentMethod);
-        }
-        if (memberId != null) {
-            query.setParameter("memberId", memberId);
-        }
-        if (startDate != null) {
-            query.setParameter("startDate", startDate);
-        }
-        if (endDate != null) {
-            query.setParameter("endDate", endDate);
-        }
+    @Override
+    public Stream<MembershipFee> streamMembershipFeesComplexQuery(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            MembershipFee.PaymentMethod paymentMethod,
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int fetchSize) {
+        return bindSearch(minAmount, maxAmount, paymentMethod, memberId, startDate, endDate)
+                .stream(entityManager, Sort.unsorted(), fetchSize);
+    }
+
+    @Override
+    public List<SearchQueryTemplate<?>> searchQueryTemplates() {
+        return List.of(SEARCH);
+    }
 
-        return query.getResultList();
+    private SearchQueryTemplate<MembershipFee>.Search bindSearch(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            MembershipFee.PaymentMethod paymentMethod,
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate) {
+        return SEARCH.bind()
+                .set("memberId", memberId)
+                .set("startDate", startDate)
+                .set("endDate", endDate)
+                .set("minAmount", minAmount)
+                .set("maxAmount", maxAmount)
+                .set("paymentMethod", paymentMethod);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -17,6 +20,15 @@ public interface UserRepositoryCustom {
      */
     List<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName, Integer roleId);
 
+    /**
+     * Variante paginée de la recherche multicritère des utilisateurs
+     * @param pageable page et tri demandés ({@code username}, {@code email}, {@code lastName}, {@code lastLogin} ;
+     *                 par défaut : nom d'utilisateur croissant)
+     * @return Page des utilisateurs correspondant aux critères
+     */
+    Page<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName,
+                                       Integer roleId, Pageable pageable);
+
     /**
      * Trouve les utilisateurs avec leurs rôles
      * @param limit nombre maximum d'utilisateurs à retourner
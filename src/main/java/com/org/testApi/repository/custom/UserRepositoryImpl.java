@@ -1,64 +1,63 @@
 package com.org.testApi.repository.custom;
 
 import com.org.testApi.models.User;
+import com.org.testApi.repository.search.SearchQueryProvider;
+import com.org.testApi.repository.search.SearchQueryTemplate;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public class UserRepositoryImpl implements UserRepositoryCustom {
+public class UserRepositoryImpl implements UserRepositoryCustom, SearchQueryProvider {
+
+    // Le filtre par rôle passe par EXISTS : pas de jointure multipliant les lignes, donc ni DISTINCT
+    // ni comptage faussé lors de la pagination
+    private static final SearchQueryTemplate<User> SEARCH = SearchQueryTemplate.builder(User.class, "u")
+            .keyFilter("roleId", "EXISTS (SELECT 1 FROM User u2 JOIN u2.roles r WHERE u2.id = u.id AND r.id = :roleId)")
+            .filter("username", "LOWER(u.username) LIKE LOWER(CONCAT('%', :username, '%'))")
+            .filter("email", "LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))")
+            .filter("firstName", "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :firstName, '%'))")
+            .filter("lastName", "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))")
+            .sortable("username", "u.username")
+            .sortable("email", "u.email")
+            .sortable("lastName", "u.lastName")
+            .sortable("lastLogin", "u.lastLogin")
+            .defaultSort(Sort.by("username"))
+            .build();
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public List<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName, Integer roleId) {
-        StringBuilder jpql = new StringBuilder("SELECT DISTINCT u FROM User u");
-        if (roleId != null) {
-            jpql.append(" JOIN u.roles r");
-        }
-        jpql.append(" WHERE 1=1");
-
-        if (username != null && !username.isEmpty()) {
-            jpql.append(" AND LOWER(u.username) LIKE LOWER(CONCAT('%', :username, '%'))");
-        }
-        if (email != null && !email.isEmpty()) {
-            jpql.append(" AND LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))");
-        }
-        if (firstName != null && !firstName.isEmpty()) {
-            jpql.append(" AND LOWER(u.firstName) LIKE LOWER(CONCAT('%', :firstName, '%'))");
-        }
-        if (lastName != null && !lastName.isEmpty()) {
-            jpql.append(" AND LOWER(u.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))");
-        }
-        if (roleId != null) {
-            jpql.append(" AND r.id = :roleId");
-        }
+        return bindSearch(username, email, firstName, lastName, roleId).list(entityManager, Sort.unsorted());
+    }
 
-        jpql.append(" ORDER BY u.username ASC");
+    @Override
+    public Page<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName,
+                                              Integer roleId, Pageable pageable) {
+        return bindSearch(username, email, firstName, lastName, roleId).page(entityManager, pageable);
+    }
 
-        TypedQuery<User> query = entityManager.createQuery(jpql.toString(), User.class);
-        if (username != null && !username.isEmpty()) {
-            query.setParameter("username", username);
-        }
-        if (email != null && !email.isEmpty()) {
-            query.setParameter("email", email);
-        }
-        if (firstName != null && !firstName.isEmpty()) {
-            query.setParameter("firstName", firstName);
-        }
-        if (lastName != null && !lastName.isEmpty()) {
-            query.setParameter("lastName", lastName);
-        }
-        if (roleId != null) {
-            query.setParameter("roleId", roleId);
-        }
+    @Override
+    public List<SearchQueryTemplate<?>> searchQueryTemplates() {
+        return List.of(SEARCH);
+    }
 
-        return query.getResultList();
+    private SearchQueryTemplate<User>.Search bindSearch(String username, String email, String firstName,
+                                                        String lastName, Integer roleId) {
+        return SEARCH.bind()
+                .set("roleId", roleId)
+                .set("username", username)
+                .set("email", email)
+                .set("firstName", firstName)
+                .set("lastName", lastName);
     }
 
     @Override
@@ -0,0 +1,12 @@
+package com.org.testApi.repository.search;
+
+import java.util.List;
+
+/**
+ * Implémenté par les repositories qui déclarent des {@link SearchQueryTemplate},
+ * afin que {@link SearchQueryWarmer} puisse préparer leurs requêtes au démarrage.
+ */
+public interface SearchQueryProvider {
+
+    List<SearchQueryTemplate<?>> searchQueryTemplates();
+}
@@ -0,0 +1,318 @@
+package com.org.testApi.repository.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Modèle de requête de recherche multicritère, déclaré une fois par repository.
+ * <p>
+ * Les filtres sont de deux sortes :
+ * </p>
+ * <ul>
+ *     <li>les filtres <b>clés</b> ({@link Builder#keyFilter}) sont sélectifs et s'appuient sur un index :
+ *     ils ne figurent dans la requête que s'ils sont renseignés ;</li>
+ *     <li>les filtres <b>résiduels</b> ({@link Builder#filter}) sont toujours présents sous la forme
+ *     {@code (:param IS NULL OR ...)} et n'influencent donc pas la forme de la requête.</li>
+ * </ul>
+ * <p>
+ * Le nombre de formes distinctes est ainsi borné à 2<sup>n</sup> pour n filtres clés (au lieu de
+ * 2<sup>n+m</sup>) ; le JPQL de chaque forme est construit une seule fois, et
+ * {@link SearchQueryWarmer} les fait analyser par Hibernate au démarrage.
+ * Le tri n'accepte que les propriétés déclarées avec {@link Builder#sortable}, au plus
+ * {@value #MAX_SORT_ORDERS} critères ; il est normalisé (propriété et sens seulement, une propriété répétée
+ * ne compte qu'une fois) avant de servir de clé, et au-delà de {@value #MAX_CACHED_SHAPES} formes les
+ * requêtes sont construites à chaque appel sans être conservées.
+ * </p>
+ */
+public final class SearchQueryTemplate<T> {
+
+    static final int MAX_SORT_ORDERS = 3;
+    static final int MAX_CACHED_SHAPES = 256;
+
+    private final Class<T> domainClass;
+    private final String alias;
+    private final boolean distinct;
+    private final String joins;
+    private final List<Filter> keyFilters;
+    private final List<Filter> filters;
+    private final Map<String, String> sortableProperties;
+    private final Sort defaultSort;
+
+    private final ConcurrentMap<ShapeKey, String> selectQueries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, String> countQueries = new ConcurrentHashMap<>();
+
+    private SearchQueryTemplate(Builder<T> builder) {
+        this.domainClass = builder.domainClass;
+        this.alias = builder.alias;
+        this.distinct = builder.distinct;
+        this.joins = builder.joins;
+        this.keyFilters = List.copyOf(builder.keyFilters);
+        this.filters = List.copyOf(builder.filters);
+        this.sortableProperties = Collections.unmodifiableMap(new LinkedHashMap<>(builder.sortableProperties));
+        this.defaultSort = builder.defaultSort;
+        if (keyFilters.size() > Integer.SIZE - 1) {
+            throw new IllegalStateException("Trop de filtres clés pour " + domainClass.getSimpleName());
+        }
+        // Valide le tri par défaut dès la déclaration
+        normalize(defaultSort);
+    }
+
+    public static <T> Builder<T> builder(Class<T> domainClass, String alias) {
+        return new Builder<>(domainClass, alias);
+    }
+
+    public Class<T> getDomainClass() {
+        return domainClass;
+    }
+
+    /**
+     * Démarre l'exécution d'une recherche : les paramètres sont renseignés via {@link Search#set}.
+     */
+    public Search bind() {
+        return new Search();
+    }
+
+    /**
+     * Toutes les requêtes canoniques (tri par défaut et comptage) pour le préchauffage.
+     */
+    public List<String> canonicalQueries() {
+        List<String> queries = new ArrayList<>();
+        for (int mask = 0; mask < (1 << keyFilters.size()); mask++) {
+            queries.add(selectQuery(mask, defaultSort));
+            queries.add(countQuery(mask));
+        }
+        return queries;
+    }
+
+    private String selectQuery(int mask, Sort sort) {
+        ShapeKey key = new ShapeKey(mask, normalize(sort));
+        String query = selectQueries.get(key);
+        if (query == null) {
+            String select = "SELECT " + (distinct ? "DISTINCT " : "") + alias;
+            query = select + from(true) + where(mask) + orderBy(key.orders());
+            if (selectQueries.size() < MAX_CACHED_SHAPES) {
+                selectQueries.putIfAbsent(key, query);
+            }
+        }
+        return query;
+    }
+
+    private String countQuery(int mask) {
+        return countQueries.computeIfAbsent(mask, key ->
+                "SELECT COUNT(" + (distinct ? "DISTINCT " : "") + alias + ")" + from(false) + where(mask));
+    }
+
+    private String from(boolean withJoins) {
+        String from = " FROM " + domainClass.getSimpleName() + " " + alias;
+        // Les JOIN FETCH n'ont pas de sens dans une requête de comptage
+        return withJoins && !joins.isEmpty() ? from + " " + joins : from;
+    }
+
+    private String where(int mask) {
+        StringBuilder where = new StringBuilder(" WHERE 1=1");
+        for (int i = 0; i < keyFilters.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                where.append(" AND ").append(keyFilters.get(i).predicate());
+            }
+        }
+        for (Filter filter : filters) {
+            where.append(" AND (:").append(filter.parameter()).append(" IS NULL OR ")
+                    .append(filter.predicate()).append(")");
+        }
+        return where.toString();
+    }
+
+    /**
+     * Critères de tri réduits à la propriété et au sens : ignoreCase et nullHandling ne sont pas traduits
+     * dans le JPQL, et une propriété déjà triée ne change plus l'ordre (la première occurrence l'emporte).
+     */
+    private List<SortOrder> normalize(Sort sort) {
+        Sort effective = sort.isSorted() ? sort : defaultSort;
+        Map<String, SortOrder> orders = new LinkedHashMap<>();
+        for (Sort.Order order : effective) {
+            if (!sortableProperties.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("Tri non autorisé sur " + domainClass.getSimpleName()
+                        + "." + order.getProperty() + " (propriétés disponibles : " + sortableProperties.keySet() + ")");
+            }
+            orders.putIfAbsent(order.getProperty(), new SortOrder(order.getProperty(), order.getDirection()));
+        }
+        if (orders.size() > MAX_SORT_ORDERS) {
+            throw new IllegalArgumentException("Tri limité à " + MAX_SORT_ORDERS + " critères sur "
+                    + domainClass.getSimpleName() + " (" + orders.size() + " demandés)");
+        }
+        return List.copyOf(orders.values());
+    }
+
+    private String orderBy(List<SortOrder> orders) {
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (SortOrder order : orders) {
+            orderBy.append(sortableProperties.get(order.property()))
+                    .append(order.direction().isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        // Départage stable pour la pagination
+        return orderBy.append(alias).append(".id ASC").toString();
+    }
+
+    private record Filter(String parameter, String predicate) {
+    }
+
+    private record SortOrder(String property, Sort.Direction direction) {
+    }
+
+    private record ShapeKey(int mask, List<SortOrder> orders) {
+    }
+
+    /**
+     * Valeurs des paramètres d'une exécution. Une chaîne vide est traitée comme absente.
+     */
+    public final class Search {
+
+        private final Map<String, Object> values = new HashMap<>();
+
+        private Search() {
+        }
+
+        public Search set(String parameter, Object value) {
+            if (value instanceof String string && string.isEmpty()) {
+                value = null;
+            }
+            values.put(parameter, value);
+            return this;
+        }
+
+        public List<T> list(EntityManager entityManager, Sort sort) {
+            return select(entityManager, sort).getResultList();
+        }
+
+        /**
+         * Résultats lus au fil du curseur JDBC, en lecture seule : le flux doit être consommé
+         * et fermé avant la fin de la transaction.
+         */
+        public Stream<T> stream(EntityManager entityManager, Sort sort, int fetchSize) {
+            return select(entityManager, sort)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+        }
+
+        public Page<T> page(EntityManager entityManager, Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return PageableExecutionUtils.getPage(list(entityManager, pageable.getSort()), pageable, () -> -1L);
+            }
+            TypedQuery<T> query = select(entityManager, pageable.getSort());
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+            List<T> content = query.getResultList();
+            return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager));
+        }
+
+        private long count(EntityManager entityManager) {
+            TypedQuery<Long> query = entityManager.createQuery(countQuery(mask()), Long.class);
+            bindParameters(query);
+            return query.getSingleResult();
+        }
+
+        private TypedQuery<T> select(EntityManager entityManager, Sort sort) {
+            TypedQuery<T> query = entityManager.createQuery(selectQuery(mask(), sort), domainClass);
+            bindParameters(query);
+            return query;
+        }
+
+        private int mask() {
+            int mask = 0;
+            for (int i = 0; i < keyFilters.size(); i++) {
+                if (values.get(keyFilters.get(i).parameter()) != null) {
+                    mask |= 1 << i;
+                }
+            }
+            return mask;
+        }
+
+        private void bindParameters(TypedQuery<?> query) {
+            for (Filter filter : keyFilters) {
+                Object value = values.get(filter.parameter());
+                if (value != null) {
+                    query.setParameter(filter.parameter(), value);
+                }
+            }
+            for (Filter filter : filters) {
+                query.setParameter(filter.parameter(), values.get(filter.parameter()));
+            }
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> domainClass;
+        private final String alias;
+        private boolean distinct;
+        private String joins = "";
+        private final List<Filter> keyFilters = new ArrayList<>();
+        private final List<Filter> filters = new ArrayList<>();
+        private final Map<String, String> sortableProperties = new LinkedHashMap<>();
+        private Sort defaultSort = Sort.unsorted();
+
+        private Builder(Class<T> domainClass, String alias) {
+            this.domainClass = domainClass;
+            this.alias = alias;
+        }
+
+        public Builder<T> distinct() {
+            this.distinct = true;
+            return this;
+        }
+
+        /**
+         * Jointures ajoutées à la requête de sélection seulement (typiquement des {@code JOIN FETCH}).
+         */
+        public Builder<T> joins(String joins) {
+            this.joins = joins;
+            return this;
+        }
+
+        /**
+         * Filtre sélectif, présent dans la requête uniquement lorsque {@code parameter} est renseigné.
+         */
+        public Builder<T> keyFilter(String parameter, String predicate) {
+            keyFilters.add(new Filter(parameter, predicate));
+            return this;
+        }
+
+        /**
+         * Filtre résiduel, toujours présent sous la forme {@code (:parameter IS NULL OR predicate)}.
+         */
+        public Builder<T> filter(String parameter, String predicate) {
+            filters.add(new Filter(parameter, predicate));
+            return this;
+        }
+
+        public Builder<T> sortable(String property, String path) {
+            sortableProperties.put(property, path);
+            return this;
+        }
+
+        public Builder<T> defaultSort(Sort defaultSort) {
+            this.defaultSort = defaultSort;
+            return this;
+        }
+
+        public SearchQueryTemplate<T> build() {
+            return new SearchQueryTemplate<>(this);
+        }
+    }
+}
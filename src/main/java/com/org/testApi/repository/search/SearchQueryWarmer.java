@@ -0,0 +1,47 @@
+package com.org.testApi.repository.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fait analyser par Hibernate, au démarrage, toutes les formes canoniques des recherches multicritères.
+ * Les requêtes entrent ainsi dans le cache de plans avant la première requête HTTP.
+ */
+@Slf4j
+@Component
+public class SearchQueryWarmer {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final List<SearchQueryProvider> providers;
+
+    public SearchQueryWarmer(EntityManagerFactory entityManagerFactory, List<SearchQueryProvider> providers) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.providers = providers;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int count = 0;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (SearchQueryProvider provider : providers) {
+                for (SearchQueryTemplate<?> template : provider.searchQueryTemplates()) {
+                    for (String jpql : template.canonicalQueries()) {
+                        // La création suffit : Hibernate analyse le JPQL et conserve l'arbre SQM
+                        entityManager.createQuery(jpql);
+                        count++;
+                    }
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+        log.info("{} requêtes de recherche préparées", count);
+    }
+}
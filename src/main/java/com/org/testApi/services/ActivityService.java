@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.Activity;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ActivityService extends ObservableService<Activity> {
     List<Activity> getAllActivities();
+    KeysetPage<Activity> getActivitiesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<Activity> getActivityById(Long id);
     Activity saveActivity(Activity activity);
     Activity updateActivity(Long id, Activity activity);
     void deleteActivity(Long id);
     void softDeleteActivity(Long id);
+    int softDeleteActivities(Collection<Long> ids);
 }
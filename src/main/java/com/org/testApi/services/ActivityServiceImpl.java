@@ -2,9 +2,14 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.Activity;
 import com.org.testApi.repository.ActivityRepository;
+import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -15,14 +20,28 @@ public class ActivityServiceImpl implements ActivityService {
     @Autowired
     private ActivityRepository activityRepository;
 
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @Autowired
+    private LedgerService ledgerService;
+
     private List<Observer<Activity>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<Activity> getAllActivities() {
         return activityRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Activity> getActivitiesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return activityRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Activity> getActivityById(Long id) {
         return activityRepository.findById(id);
     }
@@ -46,8 +65,12 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
+    @Transactional
     public void deleteActivity(Long id) {
         Activity activity = activityRepository.findById(id).orElse(null);
+        // Les transactions supprimées en cascade sont retirées du grand livre
+        List<Long> transactionIds = financialTransactionRepository.findIdsByActivityId(id);
+        ledgerService.replace(ledgerService.snapshot(transactionIds), List.of());
         activityRepository.deleteById(id);
         if (activity != null) {
             notifyObservers("DELETE", activity);
@@ -55,16 +78,19 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
+    @Transactional
     public void softDeleteActivity(Long id) {
-        Activity activity = activityRepository.findById(id).orElse(null);
-        if (activity != null) {
-            try {
-                activityRepository.softDeleteActivity(activity);
-                notifyObservers("SOFT_DELETE", activity);
-            } catch (Exception e) {
-                throw new RuntimeException("Error soft deleting activity with id: " + id, e);
-            }
-        }
+        softDeleteActivities(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteActivities(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<Activity> deleted = observers.isEmpty() ? List.of() : activityRepository.findAllById(ids);
+        int count = activityRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
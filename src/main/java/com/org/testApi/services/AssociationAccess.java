@@ -0,0 +1,96 @@
+package com.org.testApi.services;
+
+import com.org.testApi.repository.AssociationMembership;
+import com.org.testApi.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Droits de l'appelant sur les associations, pour la durée d'une requête HTTP.
+ * <p>
+ * Les adhésions en cours de l'utilisateur, avec l'indicateur {@code isAdmin} de chaque membre, sont lues
+ * en une seule requête au premier contrôle puis conservées sur la requête : les contrôles suivants ne
+ * relisent pas les membres. Un administrateur global ({@code ROLE_ADMIN}) a tous les droits.
+ * </p>
+ */
+@Component
+@RequestScope
+public class AssociationAccess {
+
+    private static final String GLOBAL_ADMIN = "ROLE_ADMIN";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Map<Long, AssociationMembership> memberships;
+    private Boolean globalAdmin;
+
+    /**
+     * @return les adhésions en cours de l'appelant, indexées par association
+     */
+    public Map<Long, AssociationMembership> getMemberships() {
+        if (memberships == null) {
+            Authentication authentication = currentAuthentication();
+            memberships = authentication == null ? Map.of()
+                    : memberRepository.findActiveMembershipsByUsername(authentication.getName()).stream()
+                            .collect(Collectors.toUnmodifiableMap(AssociationMembership::associationId,
+                                    Function.identity(), (first, second) -> first.admin() ? first : second));
+        }
+        return memberships;
+    }
+
+    public boolean isGlobalAdmin() {
+        if (globalAdmin == null) {
+            Authentication authentication = currentAuthentication();
+            globalAdmin = authentication != null && authentication.getAuthorities().stream()
+                    .anyMatch(authority -> GLOBAL_ADMIN.equals(authority.getAuthority()));
+        }
+        return globalAdmin;
+    }
+
+    /**
+     * @param associationId l'association concernée
+     * @return {@code true} si l'appelant en est membre actif ou administrateur global
+     */
+    public boolean isMember(Long associationId) {
+        return isGlobalAdmin() || getMemberships().containsKey(associationId);
+    }
+
+    /**
+     * @param associationId l'association concernée
+     * @return {@code true} si l'appelant l'administre ou est administrateur global
+     */
+    public boolean isAdmin(Long associationId) {
+        if (isGlobalAdmin()) {
+            return true;
+        }
+        AssociationMembership membership = getMemberships().get(associationId);
+        return membership != null && membership.admin();
+    }
+
+    /**
+     * @param associationIds les associations concernées
+     * @return {@code true} si l'appelant les administre toutes
+     */
+    public boolean isAdminOfAll(Collection<Long> associationIds) {
+        return isGlobalAdmin() || associationIds.stream().allMatch(this::isAdmin);
+    }
+
+    private static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication;
+    }
+}
@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.Association;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AssociationService extends ObservableService<Association> {
     List<Association> getAllAssociations();
+    KeysetPage<Association> getAssociationsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<Association> getAssociationById(Long id);
     Association saveAssociation(Association association);
     Association updateAssociation(Long id, Association association);
     void deleteAssociation(Long id);
     void softDeleteAssociation(Long id);
+    int softDeleteAssociations(Collection<Long> ids);
 }
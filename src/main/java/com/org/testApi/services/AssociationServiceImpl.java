@@ -2,9 +2,14 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.Association;
 import com.org.testApi.repository.AssociationRepository;
+import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -15,9 +20,16 @@ public class AssociationServiceImpl implements AssociationService {
     @Autowired
     private AssociationRepository associationRepository;
 
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @Autowired
+    private LedgerService ledgerService;
+
     private List<Observer<Association>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<Association> getAllAssociations() {
         try {
             return associationRepository.findAll();
@@ -27,6 +39,13 @@ public class AssociationServiceImpl implements AssociationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Association> getAssociationsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return associationRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Association> getAssociationById(Long id) {
         try {
             // Make sure to properly fetch all related entities if needed
@@ -54,8 +73,12 @@ public class AssociationServiceImpl implements AssociationService {
     }
 
     @Override
+    @Transactional
     public void deleteAssociation(Long id) {
         Association association = associationRepository.findById(id).orElse(null);
+        // Les transactions supprimées en cascade sont retirées du grand livre
+        List<Long> transactionIds = financialTransactionRepository.findIdsCascadedFromAssociation(id);
+        ledgerService.replace(ledgerService.snapshot(transactionIds), List.of());
         associationRepository.deleteById(id);
         if (association != null) {
             notifyObservers("DELETE", association);
@@ -63,12 +86,19 @@ public class AssociationServiceImpl implements AssociationService {
     }
 
     @Override
+    @Transactional
     public void softDeleteAssociation(Long id) {
-        Association association = associationRepository.findById(id).orElse(null);
-        associationRepository.softDelete(id);
-        if (association != null) {
-            notifyObservers("SOFT_DELETE", association);
-        }
+        softDeleteAssociations(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteAssociations(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<Association> deleted = observers.isEmpty() ? List.of() : associationRepository.findAllById(ids);
+        int count = associationRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
@@ -1,11 +1,76 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.User;
+import com.org.testApi.payload.TokenResponse;
+import io.jsonwebtoken.Claims;
 
 public interface AuthService extends ObservableService<User> {
+
+    /**
+     * Claim portant les rôles de l'utilisateur, sous forme de noms d'autorités ({@code ROLE_ADMIN}...).
+     */
+    String ROLES_CLAIM = "roles";
+
+    /**
+     * Claim portant l'identifiant de la session à laquelle appartient un jeton d'accès.
+     */
+    String SESSION_CLAIM = "sid";
+
     User authenticateUser(String username, String password);
+
+    /**
+     * Authentifie un utilisateur en appliquant la limitation de débit par utilisateur et par adresse IP.
+     * @param clientIp l'adresse du client, ou null si inconnue
+     * @throws LoginThrottledException si le débit autorisé est dépassé
+     */
+    User authenticateUser(String username, String password, String clientIp);
+
     String generateToken(User user);
+
+    /**
+     * Ouvre une session : un jeton d'accès de courte durée et un jeton de rafraîchissement persisté.
+     * @param user l'utilisateur authentifié, avec ses rôles
+     * @return les jetons de la nouvelle session
+     */
+    TokenResponse issueTokens(User user);
+
+    /**
+     * Échange un jeton de rafraîchissement contre une nouvelle paire de jetons de la même session.
+     * Le jeton présenté est consommé ; s'il l'avait déjà été, toute la session est révoquée.
+     * @param refreshToken le jeton de rafraîchissement
+     * @return les nouveaux jetons
+     * @throws org.springframework.security.authentication.BadCredentialsException si le jeton est inconnu,
+     *         expiré ou déjà utilisé
+     */
+    TokenResponse refreshTokens(String refreshToken);
+
     boolean validateToken(String token);
     User getCurrentUser();
     String getCurrentUsernameFromToken(String token); // Ajout de cette méthode
-}
\ No newline at end of file
+
+    /**
+     * Vérifie la signature, l'expiration et la révocation d'un jeton, en une seule lecture.
+     * @param token le jeton JWT
+     * @return les claims du jeton, ou null s'il est invalide, expiré ou révoqué
+     */
+    Claims verifyToken(String token);
+
+    /**
+     * Révoque un jeton jusqu'à son expiration, ainsi que la session à laquelle il appartient.
+     * @param token le jeton JWT à révoquer
+     */
+    void revokeToken(String token);
+
+    /**
+     * Révoque tous les jetons déjà émis pour un utilisateur, par exemple après un changement de rôles.
+     * @param username le nom de l'utilisateur
+     */
+    void revokeUserTokens(String username);
+
+    /**
+     * Supprime les jetons de rafraîchissement d'un utilisateur, avant sa suppression : ses sessions ne
+     * peuvent plus être prolongées.
+     * @param userId l'identifiant de l'utilisateur
+     */
+    void deleteRefreshTokens(Long userId);
+}
@@ -1,22 +1,33 @@
 package com.org.testApi.services;
 
+import com.org.testApi.config.JwtKeyManager;
+import com.org.testApi.models.RefreshToken;
 import com.org.testApi.models.User;
+import com.org.testApi.payload.TokenResponse;
+import com.org.testApi.repository.RefreshTokenRepository;
 import com.org.testApi.repository.UserRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Date;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 @Service
@@ -25,30 +36,75 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    // Clés de signature partagées par tous les nœuds, identifiées par le kid de l'en-tête
+    @Autowired
+    private JwtKeyManager jwtKeyManager;
+
     private final AuthenticationManager authenticationManager;
 
     private List<Observer<User>> observers = new ArrayList<>();
 
-    // Clé secrète pour signer les JWT - CORRIGÉ
-    private SecretKey secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    private static final int REFRESH_TOKEN_BYTES = 32;
 
-    // Durée de validité du token (24 heures)
-    private final long tokenValidity = 24 * 60 * 60 * 1000;
+    // Les jetons de rafraîchissement expirés sont purgés toutes les N émissions
+    private static final int REFRESH_PURGE_INTERVAL = 256;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final AtomicInteger issuedRefreshTokens = new AtomicInteger();
+
+    // Durée de validité des jetons d'accès : délai maximal de propagation d'une révocation entre nœuds
+    private final long tokenValidity;
+
+    private final Duration refreshTokenValidity;
+
+    private final TokenDenyList denyList;
 
     @Autowired
-    public AuthServiceImpl(AuthenticationManager authenticationManager) {
+    public AuthServiceImpl(AuthenticationManager authenticationManager,
+                           @Value("${jwt.access-token-ttl:15m}") Duration accessTokenValidity,
+                           @Value("${jwt.refresh-token-ttl:14d}") Duration refreshTokenValidity) {
         this.authenticationManager = authenticationManager;
+        this.tokenValidity = accessTokenValidity.toMillis();
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.denyList = new TokenDenyList(accessTokenValidity.toSeconds());
     }
 
     @Override
     public User authenticateUser(String username, String password) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(username, password)
-        );
+        return authenticateUser(username, password, null);
+    }
+
+    @Override
+    public User authenticateUser(String username, String password, String clientIp) {
+        // Le débit est vérifié avant tout hachage : une rafale refusée ne coûte aucun cycle BCrypt
+        loginThrottle.acquire(username, clientIp);
+
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(username, password)
+            );
+        } catch (BadCredentialsException e) {
+            userRepository.incrementLoginAttempts(username);
+            throw e;
+        }
+        userRepository.recordSuccessfulLogin(username, LocalDateTime.now());
+        loginThrottle.reset(username);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        User user = userRepository.findByUsername(username)
+        // Les rôles sont chargés avec l'utilisateur : ils sont recopiés dans le jeton
+        User user = userRepository.findWithRolesByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
 
         notifyObservers("AUTHENTICATION", user);
@@ -57,15 +113,90 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public String generateToken(User user) {
+        return generateToken(user, null);
+    }
+
+    @Override
+    @Transactional
+    public TokenResponse issueTokens(User user) {
+        String sessionId = UUID.randomUUID().toString();
+        return tokenResponse(user, sessionId);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenResponse refreshTokens(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(AuthenticationCache.fingerprint(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Unknown refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+
+        // La consommation est conditionnelle : de deux rafraîchissements concurrents, un seul l'emporte
+        if (stored.isRevoked() || refreshTokenRepository.consume(stored.getId(), now) == 0) {
+            // Un jeton déjà consommé est présenté à nouveau : il a pu être volé, la session est révoquée
+            revokeSession(stored.getSessionId());
+            throw new BadCredentialsException("Refresh token already used");
+        }
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new BadCredentialsException("Refresh token expired");
+        }
+        User user = stored.getUser();
+        // Utilisateur supprimé (jeton antérieur à la purge de ses sessions) ou désactivé
+        if (user == null || !user.isActive()) {
+            revokeSession(stored.getSessionId());
+            throw new BadCredentialsException("User is no longer active");
+        }
+        return tokenResponse(user, stored.getSessionId());
+    }
+
+    private TokenResponse tokenResponse(User user, String sessionId) {
+        String accessToken = generateToken(user, sessionId);
+        String refreshToken = createRefreshToken(user, sessionId);
+        return new TokenResponse(accessToken, refreshToken, "Bearer", tokenValidity / 1000);
+    }
+
+    private String createRefreshToken(User user, String sessionId) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(AuthenticationCache.fingerprint(token))
+                .sessionId(sessionId)
+                .user(user)
+                .expiresAt(now.plus(refreshTokenValidity))
+                .build());
+        if (issuedRefreshTokens.incrementAndGet() % REFRESH_PURGE_INTERVAL == 0) {
+            refreshTokenRepository.deleteExpired(now);
+        }
+        return token;
+    }
+
+    private void revokeSession(String sessionId) {
+        refreshTokenRepository.revokeSession(sessionId, LocalDateTime.now());
+        denyList.revokeSession(sessionId);
+    }
+
+    private String generateToken(User user, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + tokenValidity);
 
+        List<String> roles = user.getRoles() == null ? List.of() : user.getRoles().stream()
+                .map(role -> role.getName().name())
+                .toList();
+
+        String tokenId = UUID.randomUUID().toString();
         String token = Jwts.builder()
+                .header().keyId(jwtKeyManager.getSigningKeyId()).and()
+                .id(tokenId)
                 .subject(user.getUsername())
-                .issuedAt(new Date())
+                .claim(ROLES_CLAIM, roles)
+                .claim(SESSION_CLAIM, sessionId)
+                .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey, Jwts.SIG.HS512) // Spécifier explicitement l'algorithme
+                .signWith(jwtKeyManager.getSigningKey(), Jwts.SIG.HS512) // Spécifier explicitement l'algorithme
                 .compact();
+        denyList.tokenIssued(tokenId, user.getUsername(), now.toInstant(), expiryDate.toInstant());
 
         notifyObservers("TOKEN_GENERATION", user);
         return token;
@@ -73,16 +204,58 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            // Token invalide
+        return verifyToken(token) != null;
+    }
+
+    @Override
+    public Claims verifyToken(String token) {
+        Claims claims = authenticationCache.getClaims(token);
+        if (claims == null) {
+            try {
+                claims = jwtKeyManager.getParser().parseSignedClaims(token).getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                // Token invalide ou expiré
+                return null;
+            }
+            authenticationCache.putClaims(token, claims);
+        }
+        Date issuedAt = claims.getIssuedAt();
+        if (denyList.isRevoked(claims.getId(), claims.get(SESSION_CLAIM, String.class), claims.getSubject(),
+                issuedAt == null ? null : issuedAt.toInstant())) {
+            return null;
+        }
+        return claims;
+    }
+
+    @Override
+    @Transactional
+    public void revokeToken(String token) {
+        Claims claims = verifyToken(token);
+        if (claims == null) {
+            return;
+        }
+        String sessionId = claims.get(SESSION_CLAIM, String.class);
+        if (sessionId != null) {
+            revokeSession(sessionId);
         }
-        return false;
+        if (claims.getId() != null) {
+            denyList.revokeToken(claims.getId(), claims.getExpiration().toInstant());
+        } else {
+            // Jeton sans identifiant : seule la révocation de l'utilisateur l'atteint
+            denyList.revokeUser(claims.getSubject());
+        }
+    }
+
+    @Override
+    public void revokeUserTokens(String username) {
+        denyList.revokeUser(username);
+        authenticationCache.invalidateUser(username);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRefreshTokens(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
     }
 
     @Override
@@ -104,11 +277,7 @@ public class AuthServiceImpl implements AuthService {
     }
     // Méthode utilitaire pour extraire les claims d'un token
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtKeyManager.getParser().parseSignedClaims(token).getPayload();
     }
 
     // Méthode utilitaire pour extraire le username d'un token
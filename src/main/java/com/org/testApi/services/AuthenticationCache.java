@@ -0,0 +1,123 @@
+package com.org.testApi.services;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Caches de l'authentification : claims des jetons déjà vérifiés et détails des utilisateurs.
+ * <p>
+ * Les jetons sont indexés par leur empreinte SHA-256, jamais en clair ; une entrée n'est pas conservée
+ * au-delà de l'expiration ({@code exp}) du jeton. La révocation reste vérifiée à chaque requête,
+ * en dehors du cache. Les détails d'un utilisateur sont invalidés dès que l'utilisateur ou ses rôles
+ * sont modifiés.
+ * </p>
+ */
+@Component
+public class AuthenticationCache implements MeterBinder {
+
+    private final ExpiringCache<String, Claims> tokens;
+    private final ExpiringCache<String, UserDetails> users;
+    private final long tokenTtlMillis;
+    private final long userTtlMillis;
+
+    public AuthenticationCache(@Value("${auth.cache.token.max-size:10000}") int tokenMaxSize,
+                               @Value("${auth.cache.token.ttl:15m}") Duration tokenTtl,
+                               @Value("${auth.cache.user.max-size:1000}") int userMaxSize,
+                               @Value("${auth.cache.user.ttl:5m}") Duration userTtl) {
+        this.tokens = new ExpiringCache<>(tokenMaxSize);
+        this.users = new ExpiringCache<>(userMaxSize);
+        this.tokenTtlMillis = tokenTtl.toMillis();
+        this.userTtlMillis = userTtl.toMillis();
+    }
+
+    Claims getClaims(String token) {
+        return tokens.get(fingerprint(token));
+    }
+
+    void putClaims(String token, Claims claims) {
+        long expiresAt = System.currentTimeMillis() + tokenTtlMillis;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        tokens.put(fingerprint(token), claims, expiresAt);
+    }
+
+    /**
+     * Une copie est rendue à chaque lecture : Spring Security efface le mot de passe
+     * des {@link UserDetails} après une authentification réussie. Les indicateurs du compte (désactivé,
+     * verrouillé, expiré) sont recopiés avec le reste : un compte désactivé le reste dans le cache.
+     */
+    UserDetails getUser(String username) {
+        UserDetails user = users.get(username);
+        return user == null ? null : User.withUserDetails(user).build();
+    }
+
+    void putUser(UserDetails user) {
+        users.put(user.getUsername(), User.withUserDetails(user).build(),
+                System.currentTimeMillis() + userTtlMillis);
+    }
+
+    /**
+     * Retire les détails de l'utilisateur et les claims de ses jetons.
+     * @param username le nom de l'utilisateur modifié
+     */
+    public void invalidateUser(String username) {
+        if (username == null) {
+            return;
+        }
+        users.remove(username);
+        tokens.removeIf((fingerprint, claims) -> username.equals(claims.getSubject()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "token", tokens);
+        bind(registry, "user", users);
+    }
+
+    private static void bind(MeterRegistry registry, String name, ExpiringCache<?, ?> cache) {
+        FunctionCounter.builder("auth.cache.gets", cache, ExpiringCache::hits)
+                .tags("cache", name, "result", "hit")
+                .description("Lectures du cache d'authentification")
+                .register(registry);
+        FunctionCounter.builder("auth.cache.gets", cache, ExpiringCache::misses)
+                .tags("cache", name, "result", "miss")
+                .description("Lectures du cache d'authentification")
+                .register(registry);
+        FunctionCounter.builder("auth.cache.evictions", cache, ExpiringCache::evictions)
+                .tag("cache", name)
+                .description("Entrées retirées pour respecter la taille maximale")
+                .register(registry);
+        Gauge.builder("auth.cache.size", cache, ExpiringCache::size)
+                .tag("cache", name)
+                .description("Nombre d'entrées du cache d'authentification")
+                .register(registry);
+    }
+
+    /**
+     * Empreinte SHA-256 (base64) d'un jeton, pour l'indexer sans le conserver en clair.
+     */
+    static String fingerprint(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.org.testApi.services;
+
+import com.org.testApi.dto.response.ConsolidatedReportDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Rapport consolidé de toutes les associations, calculé en parallèle association par association.
+ */
+public interface ConsolidatedReportService {
+
+    /**
+     * Calcule les rapports d'activité, financier et d'adhésion de chaque association active puis les
+     * fusionne. Le suivi est notifié à chaque association terminée, depuis le thread qui l'a calculée.
+     *
+     * @param startDate premier jour de la période
+     * @param endDate dernier jour de la période, inclus
+     * @param listener suivi de l'avancement, appelé de façon concurrente
+     * @return le rapport consolidé, associations dans l'ordre des identifiants
+     */
+    ConsolidatedReportDTO generate(LocalDate startDate, LocalDate endDate, ProgressListener listener);
+
+    @FunctionalInterface
+    interface ProgressListener {
+
+        /**
+         * @param association les totaux de l'association terminée
+         * @param completed le nombre d'associations terminées, celle-ci comprise
+         * @param total le nombre d'associations du rapport
+         */
+        void associationCompleted(ConsolidatedReportDTO.AssociationSummaryDTO association, int completed, int total);
+    }
+}
@@ -0,0 +1,187 @@
+package com.org.testApi.services;
+
+import com.org.testApi.dto.response.ActivityReportDTO;
+import com.org.testApi.dto.response.ConsolidatedReportDTO;
+import com.org.testApi.dto.response.FinancialReportDTO;
+import com.org.testApi.dto.response.MembershipReportDTO;
+import com.org.testApi.repository.AssociationRef;
+import com.org.testApi.repository.AssociationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rapport consolidé calculé par un pool fork/join borné.
+ * <p>
+ * La liste des associations est coupée en deux récursivement jusqu'à une association par tâche ; chaque
+ * feuille calcule les trois rapports de son association dans une transaction en lecture, donc sur une
+ * connexion du pool de lecture SQLite, sans passer par le {@link ReportCache}. Le parallélisme
+ * ({@code report.consolidated.parallelism}) vaut par défaut la taille de ce pool, et le pool ne crée pas de
+ * threads de compensation pendant un {@code join} ou une lecture JDBC : le rapport occupe au plus autant de
+ * connexions que de threads, les autres lectures de l'application se partageant le reste. Les rapports
+ * partiels sont fusionnés en remontant, sans état partagé hors du compteur d'avancement. Le pool est commun
+ * à tous les appels.
+ * </p>
+ */
+@Service
+public class ConsolidatedReportServiceImpl implements ConsolidatedReportService, MeterBinder {
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${report.consolidated.parallelism:${sqlite.read-pool.size:4}}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private TransactionTemplate readOnlyTransaction;
+    // Renseigné par bindTo ; nul tant qu'aucun registre n'est lié
+    private volatile Timer duration;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        // Pas plus de threads que le parallélisme : saturé, un join attend au lieu d'en compenser un nouveau
+        pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("consolidated-report-" + counter.incrementAndGet());
+            return thread;
+        }, null, false, parallelism, parallelism, 1, forkJoinPool -> true, 60, TimeUnit.SECONDS);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        pool.shutdownNow();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public ConsolidatedReportDTO generate(LocalDate startDate, LocalDate endDate, ProgressListener listener) {
+        long started = System.nanoTime();
+        List<AssociationRef> associations = associationRepository.findActiveRefs();
+        if (associations.isEmpty()) {
+            return new ConsolidatedReportDTO(startDate, endDate);
+        }
+        Run run = new Run(startDate, endDate, associations, listener);
+        try {
+            return pool.invoke(new AssociationTask(run, 0, associations.size()));
+        } finally {
+            Timer timer = duration;
+            if (timer != null) {
+                timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private ConsolidatedReportDTO associationReport(Run run, AssociationRef association) {
+        ConsolidatedReportDTO partial = readOnlyTransaction.execute(status -> {
+            ActivityReportDTO activity = reportService.computeActivityReport(association.id(), run.from, run.to);
+            FinancialReportDTO financial = reportService.computeFinancialReport(association.id(), run.from, run.to);
+            MembershipReportDTO membership = reportService.generateMembershipReport(association.id());
+            ConsolidatedReportDTO.AssociationSummaryDTO summary = new ConsolidatedReportDTO.AssociationSummaryDTO(
+                    association.id(), association.name(), activity, financial, membership);
+            return new ConsolidatedReportDTO(run.startDate, run.endDate, summary, activity, membership);
+        });
+        run.listener.associationCompleted(partial.getAssociations().get(0), run.completed.incrementAndGet(),
+                run.associations.size());
+        return partial;
+    }
+
+    /**
+     * État partagé d'un calcul : période, associations, avancement, et arrêt des feuilles restantes
+     * dès qu'une feuille a échoué (client déconnecté, erreur SQL...).
+     */
+    private static final class Run {
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final List<AssociationRef> associations;
+        private final ProgressListener listener;
+        private final AtomicInteger completed = new AtomicInteger();
+        private volatile boolean failed;
+
+        private Run(LocalDate startDate, LocalDate endDate, List<AssociationRef> associations,
+                    ProgressListener listener) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.from = startDate.atStartOfDay();
+            this.to = endDate.atTime(LocalTime.MAX);
+            this.associations = associations;
+            this.listener = listener;
+        }
+    }
+
+    private final class AssociationTask extends RecursiveTask<ConsolidatedReportDTO> {
+
+        private final Run run;
+        private final int from;
+        private final int to;
+
+        private AssociationTask(Run run, int from, int to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ConsolidatedReportDTO compute() {
+            if (to - from == 1) {
+                if (run.failed) {
+                    throw new CancellationException("Consolidated report aborted");
+                }
+                try {
+                    return associationReport(run, run.associations.get(from));
+                } catch (RuntimeException e) {
+                    run.failed = true;
+                    throw e;
+                }
+            }
+            int middle = (from + to) >>> 1;
+            AssociationTask left = new AssociationTask(run, from, middle);
+            left.fork();
+            ConsolidatedReportDTO right = new AssociationTask(run, middle, to).compute();
+            return ConsolidatedReportDTO.merge(left.join(), right);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("report.consolidated.pool.active", pool, ForkJoinPool::getActiveThreadCount)
+                .description("Threads du pool du rapport consolidé en cours de calcul")
+                .register(registry);
+        Gauge.builder("report.consolidated.pool.queued", pool, ForkJoinPool::getQueuedTaskCount)
+                .description("Tâches du rapport consolidé en attente")
+                .register(registry);
+        duration = Timer.builder("report.consolidated.duration")
+                .description("Durée de calcul d'un rapport consolidé")
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.org.testApi.services;
+
+/**
+ * Échappement des champs CSV (RFC 4180), partagé par les exports et les rapports.
+ */
+final class Csv {
+
+    static final String LINE_END = "\r\n";
+
+    private Csv() {
+    }
+
+    /**
+     * @param text la valeur du champ
+     * @return la valeur, entre guillemets si elle contient un séparateur, un guillemet ou un saut de ligne
+     */
+    static String escape(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+        }
+        return text;
+    }
+}
@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.Document;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DocumentService extends ObservableService<Document> {
     List<Document> getAllDocuments();
+    KeysetPage<Document> getDocumentsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<Document> getDocumentById(Long id);
     Document saveDocument(Document document);
     Document updateDocument(Long id, Document document);
     void deleteDocument(Long id);
     void softDeleteDocument(Long id);
+    int softDeleteDocuments(Collection<Long> ids);
 }
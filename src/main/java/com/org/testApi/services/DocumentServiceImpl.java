@@ -2,9 +2,13 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.Document;
 import com.org.testApi.repository.DocumentRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -18,11 +22,19 @@ public class DocumentServiceImpl implements DocumentService {
     private List<Observer<Document>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<Document> getAllDocuments() {
         return documentRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Document> getDocumentsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return documentRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Document> getDocumentById(Long id) {
         return documentRepository.findById(id);
     }
@@ -55,12 +67,19 @@ public class DocumentServiceImpl implements DocumentService {
     }
 
     @Override
+    @Transactional
     public void softDeleteDocument(Long id) {
-        Document document = documentRepository.findById(id).orElse(null);
-        documentRepository.softDelete(id);
-        if (document != null) {
-            notifyObservers("SOFT_DELETE", document);
-        }
+        softDeleteDocuments(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteDocuments(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<Document> deleted = observers.isEmpty() ? List.of() : documentRepository.findAllById(ids);
+        int count = documentRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
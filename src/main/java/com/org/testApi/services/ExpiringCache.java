@@ -0,0 +1,105 @@
+package com.org.testApi.services;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Cache borné dont chaque entrée porte sa propre date d'expiration.
+ * <p>
+ * Les lectures ne prennent aucun verrou. Au-delà de la taille maximale, les entrées expirées sont
+ * retirées en premier, puis des entrées quelconques jusqu'à redescendre sous 90 % de la borne :
+ * le coût du nettoyage est ainsi amorti sur plusieurs insertions.
+ * </p>
+ */
+final class ExpiringCache<K, V> {
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("La taille maximale du cache doit être positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * @param expiresAt instant d'expiration, en millisecondes depuis l'époque
+     */
+    void put(K key, V value, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    void remove(K key) {
+        entries.remove(key);
+    }
+
+    void removeIf(BiPredicate<? super K, ? super V> predicate) {
+        entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        int target = maxSize - maxSize / 10;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAt() <= now) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
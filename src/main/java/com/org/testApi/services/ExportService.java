@@ -0,0 +1,50 @@
+package com.org.testApi.services;
+
+import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.models.Loan;
+import com.org.testApi.models.MembershipFee;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Exports comptables écrits en flux : les lignes sont lues au fil du curseur JDBC et écrites
+ * aussitôt, sans jamais matérialiser la table en mémoire. Les filtres sont ceux des recherches
+ * multicritères correspondantes.
+ */
+public interface ExportService {
+
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    void exportFinancialTransactions(Format format, FinancialTransaction.TransactionType type, BigDecimal minAmount,
+                                     BigDecimal maxAmount, LocalDate startDate, LocalDate endDate, Long associationId,
+                                     OutputStream out) throws IOException;
+
+    void exportMembershipFees(Format format, BigDecimal minAmount, BigDecimal maxAmount,
+                              MembershipFee.PaymentMethod paymentMethod, Long memberId, LocalDate startDate,
+                              LocalDate endDate, OutputStream out) throws IOException;
+
+    void exportLoans(Format format, Long memberId, BigDecimal minAmount, BigDecimal maxAmount, Loan.LoanStatus status,
+                     LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException;
+}
@@ -0,0 +1,217 @@
+package com.org.testApi.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.testApi.models.BaseEntity;
+import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.models.Loan;
+import com.org.testApi.models.MembershipFee;
+import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.LoanRepository;
+import com.org.testApi.repository.MembershipFeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<Column<FinancialTransaction>> FINANCIAL_TRANSACTION_COLUMNS = List.of(
+            new Column<>("id", FinancialTransaction::getId),
+            new Column<>("transactionDate", FinancialTransaction::getTransactionDate),
+            new Column<>("type", FinancialTransaction::getType),
+            new Column<>("amount", FinancialTransaction::getAmount),
+            new Column<>("description", FinancialTransaction::getDescription),
+            new Column<>("associationId", ft -> idOf(ft.getAssociation())),
+            new Column<>("categoryId", ft -> idOf(ft.getCategory())),
+            new Column<>("activityId", ft -> idOf(ft.getActivity())),
+            new Column<>("projectId", ft -> idOf(ft.getProject())));
+
+    private static final List<Column<MembershipFee>> MEMBERSHIP_FEE_COLUMNS = List.of(
+            new Column<>("id", MembershipFee::getId),
+            new Column<>("paymentDate", MembershipFee::getPaymentDate),
+            new Column<>("amount", MembershipFee::getAmount),
+            new Column<>("paymentMethod", MembershipFee::getPaymentMethod),
+            new Column<>("reference", MembershipFee::getReference),
+            new Column<>("startDate", MembershipFee::getStartDate),
+            new Column<>("endDate", MembershipFee::getEndDate),
+            new Column<>("memberId", mf -> idOf(mf.getMember())),
+            new Column<>("transactionId", mf -> idOf(mf.getTransaction())));
+
+    private static final List<Column<Loan>> LOAN_COLUMNS = List.of(
+            new Column<>("id", Loan::getId),
+            new Column<>("loanDate", Loan::getLoanDate),
+            new Column<>("dueDate", Loan::getDueDate),
+            new Column<>("status", Loan::getStatus),
+            new Column<>("amount", Loan::getAmount),
+            new Column<>("interestRate", Loan::getInterestRate),
+            new Column<>("penaltyRate", Loan::getPenaltyRate),
+            new Column<>("amountRepaid", Loan::getAmountRepaid),
+            new Column<>("repaymentDate", Loan::getRepaymentDate),
+            new Column<>("returnDate", Loan::getReturnDate),
+            new Column<>("depositAmount", Loan::getDepositAmount),
+            new Column<>("depositRefunded", Loan::getDepositRefunded),
+            new Column<>("memberId", loan -> idOf(loan.getMember())),
+            new Column<>("documentId", loan -> idOf(loan.getDocument())));
+
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @Autowired
+    private MembershipFeeRepository membershipFeeRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Nombre de lignes lues par aller-retour JDBC, et intervalle entre deux vidages du contexte de persistance.
+     */
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportFinancialTransactions(Format format, FinancialTransaction.TransactionType type, BigDecimal minAmount,
+                                            BigDecimal maxAmount, LocalDate startDate, LocalDate endDate, Long associationId,
+                                            OutputStream out) throws IOException {
+        try (Stream<FinancialTransaction> rows = financialTransactionRepository.streamFinancialTransactionsComplexQuery(
+                type, minAmount, maxAmount, startDate, endDate, associationId, fetchSize)) {
+            write(rows, FINANCIAL_TRANSACTION_COLUMNS, format, out, "financial transactions");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportMembershipFees(Format format, BigDecimal minAmount, BigDecimal maxAmount,
+                                     MembershipFee.PaymentMethod paymentMethod, Long memberId, LocalDate startDate,
+                                     LocalDate endDate, OutputStream out) throws IOException {
+        try (Stream<MembershipFee> rows = membershipFeeRepository.streamMembershipFeesComplexQuery(
+                minAmount, maxAmount, paymentMethod, memberId, startDate, endDate, fetchSize)) {
+            write(rows, MEMBERSHIP_FEE_COLUMNS, format, out, "membership fees");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportLoans(Format format, Long memberId, BigDecimal minAmount, BigDecimal maxAmount, Loan.LoanStatus status,
+                            LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        try (Stream<Loan> rows = loanRepository.streamLoansComplexQuery(
+                memberId, minAmount, maxAmount, status, startDate, endDate, fetchSize)) {
+            write(rows, LOAN_COLUMNS, format, out, "loans");
+        }
+    }
+
+    private <T> void write(Stream<T> rows, List<Column<T>> columns, Format format, OutputStream out, String label)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        JsonGenerator json = format == Format.NDJSON ? objectMapper.getFactory().createGenerator(writer) : null;
+        if (json == null) {
+            writeCsvHeader(writer, columns);
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (json != null) {
+                writeJsonLine(json, columns, row);
+            } else {
+                writeCsvLine(writer, columns, row);
+            }
+            if (++count % fetchSize == 0) {
+                // Les lignes déjà écrites sont détachées : la mémoire ne dépend pas de la taille de la table
+                entityManager.clear();
+            }
+        }
+
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+        logger.info("Exported {} {} as {}", count, label, format);
+    }
+
+    private static <T> void writeJsonLine(JsonGenerator json, List<Column<T>> columns, T row) throws IOException {
+        json.writeStartObject();
+        for (Column<T> column : columns) {
+            json.writeFieldName(column.name());
+            Object value = column.value().apply(row);
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof BigDecimal decimal) {
+                json.writeNumber(decimal);
+            } else if (value instanceof Long number) {
+                json.writeNumber(number);
+            } else if (value instanceof Boolean bool) {
+                json.writeBoolean(bool);
+            } else {
+                json.writeString(text(value));
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static <T> void writeCsvHeader(Writer writer, List<Column<T>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).name());
+        }
+        writer.write(Csv.LINE_END);
+    }
+
+    private static <T> void writeCsvLine(Writer writer, List<Column<T>> columns, T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value != null) {
+                writer.write(Csv.escape(value instanceof BigDecimal decimal ? decimal.toPlainString() : text(value)));
+            }
+        }
+        writer.write(Csv.LINE_END);
+    }
+
+    private static String text(Object value) {
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+
+    // L'identifiant d'un proxy paresseux est lu sans l'initialiser
+    private static Long idOf(BaseEntity entity) {
+        return entity == null ? null : entity.getId();
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+}
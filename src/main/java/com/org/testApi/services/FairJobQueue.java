@@ -0,0 +1,113 @@
+package com.org.testApi.services;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File d'attente bornée, équitable entre propriétaires.
+ * <p>
+ * Chaque propriétaire (une association) a sa propre file ; les propriétaires ayant du travail en attente
+ * sont servis à tour de rôle, un élément chacun. Un propriétaire qui soumet cent demandes ne retarde donc
+ * les autres que d'une demande par tour. La capacité borne le nombre total d'éléments en attente.
+ * </p>
+ *
+ * @param <K> le propriétaire
+ * @param <T> l'élément
+ */
+final class FairJobQueue<K, T> {
+
+    private final int capacity;
+    private final Map<K, Deque<T>> queues = new HashMap<>();
+    // Propriétaires ayant au moins un élément en attente, dans l'ordre de service
+    private final Deque<K> rotation = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int size;
+
+    FairJobQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Ajoute un élément à la file de son propriétaire.
+     * @return {@code false} si la file est pleine
+     */
+    boolean offer(K owner, T item) {
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return false;
+            }
+            queues.computeIfAbsent(owner, key -> {
+                rotation.addLast(key);
+                return new ArrayDeque<>();
+            }).addLast(item);
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retire le prochain élément du propriétaire dont c'est le tour, en attendant si la file est vide.
+     */
+    T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            K owner = rotation.pollFirst();
+            Deque<T> queue = queues.get(owner);
+            T item = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queues.remove(owner);
+            } else {
+                rotation.addLast(owner);
+            }
+            size--;
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return le nombre de propriétaires ayant des éléments en attente
+     */
+    int owners() {
+        lock.lock();
+        try {
+            return rotation.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
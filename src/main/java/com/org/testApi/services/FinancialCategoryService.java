@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.FinancialCategory;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FinancialCategoryService extends ObservableService<FinancialCategory> {
     List<FinancialCategory> getAllFinancialCategories();
+    KeysetPage<FinancialCategory> getFinancialCategoriesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<FinancialCategory> getFinancialCategoryById(Long id);
     FinancialCategory saveFinancialCategory(FinancialCategory financialCategory);
     FinancialCategory updateFinancialCategory(Long id, FinancialCategory financialCategory);
     void deleteFinancialCategory(Long id);
     void softDeleteFinancialCategory(Long id);
+    int softDeleteFinancialCategories(Collection<Long> ids);
 }
@@ -2,9 +2,13 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.FinancialCategory;
 import com.org.testApi.repository.FinancialCategoryRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -18,11 +22,19 @@ public class FinancialCategoryServiceImpl implements FinancialCategoryService {
     private List<Observer<FinancialCategory>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<FinancialCategory> getAllFinancialCategories() {
         return financialCategoryRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<FinancialCategory> getFinancialCategoriesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return financialCategoryRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<FinancialCategory> getFinancialCategoryById(Long id) {
         return financialCategoryRepository.findById(id);
     }
@@ -55,12 +67,19 @@ public class FinancialCategoryServiceImpl implements FinancialCategoryService {
     }
 
     @Override
+    @Transactional
     public void softDeleteFinancialCategory(Long id) {
-        FinancialCategory financialCategory = financialCategoryRepository.findById(id).orElse(null);
-        financialCategoryRepository.softDelete(id);
-        if (financialCategory != null) {
-            notifyObservers("SOFT_DELETE", financialCategory);
-        }
+        softDeleteFinancialCategories(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteFinancialCategories(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<FinancialCategory> deleted = observers.isEmpty() ? List.of() : financialCategoryRepository.findAllById(ids);
+        int count = financialCategoryRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
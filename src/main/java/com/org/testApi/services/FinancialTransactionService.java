@@ -1,14 +1,33 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.FinancialTransactionResponseDTO;
 import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FinancialTransactionService extends ObservableService<FinancialTransaction> {
     List<FinancialTransaction> getAllFinancialTransactions();
+    KeysetPage<FinancialTransaction> getFinancialTransactionsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<FinancialTransaction> getFinancialTransactionById(Long id);
+    List<FinancialTransactionResponseDTO> getAllFinancialTransactionResponses();
+    Optional<FinancialTransactionResponseDTO> getFinancialTransactionResponseById(Long id);
     FinancialTransaction saveFinancialTransaction(FinancialTransaction financialTransaction);
     FinancialTransaction updateFinancialTransaction(Long id, FinancialTransaction financialTransaction);
     void deleteFinancialTransaction(Long id);
     void softDeleteFinancialTransaction(Long id);
+    int softDeleteFinancialTransactions(Collection<Long> ids);
+    List<FinancialTransaction> searchFinancialTransactions(FinancialTransaction.TransactionType type, BigDecimal minAmount,
+                                                           BigDecimal maxAmount, LocalDate startDate, LocalDate endDate,
+                                                           Long associationId);
+    Page<FinancialTransaction> searchFinancialTransactions(FinancialTransaction.TransactionType type, BigDecimal minAmount,
+                                                           BigDecimal maxAmount, LocalDate startDate, LocalDate endDate,
+                                                           Long associationId, Pageable pageable);
 }
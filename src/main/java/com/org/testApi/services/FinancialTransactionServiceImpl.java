@@ -1,10 +1,20 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.FinancialTransactionResponseDTO;
 import com.org.testApi.models.FinancialTransaction;
 import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.LedgerEntry;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -15,30 +25,62 @@ public class FinancialTransactionServiceImpl implements FinancialTransactionServ
     @Autowired
     private FinancialTransactionRepository financialTransactionRepository;
 
+    // Agrégats du grand livre, mis à jour dans la transaction de chaque écriture
+    @Autowired
+    private LedgerService ledgerService;
+
     private List<Observer<FinancialTransaction>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<FinancialTransaction> getAllFinancialTransactions() {
         return financialTransactionRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<FinancialTransaction> getFinancialTransactionsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return financialTransactionRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<FinancialTransaction> getFinancialTransactionById(Long id) {
         return financialTransactionRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<FinancialTransactionResponseDTO> getAllFinancialTransactionResponses() {
+        return financialTransactionRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<FinancialTransactionResponseDTO> getFinancialTransactionResponseById(Long id) {
+        return financialTransactionRepository.findResponseById(id);
+    }
+
+    @Override
+    @Transactional
     public FinancialTransaction saveFinancialTransaction(FinancialTransaction financialTransaction) {
+        List<LedgerEntry> previous = financialTransaction.getId() != null
+                ? ledgerService.snapshot(List.of(financialTransaction.getId())) : List.of();
         FinancialTransaction savedFinancialTransaction = financialTransactionRepository.save(financialTransaction);
+        ledgerService.replace(previous, ledgerEntries(savedFinancialTransaction));
         notifyObservers("SAVE", savedFinancialTransaction);
         return savedFinancialTransaction;
     }
 
     @Override
+    @Transactional
     public FinancialTransaction updateFinancialTransaction(Long id, FinancialTransaction financialTransaction) {
+        // Lu avant existsById, dont la requête viderait une entité déjà modifiée par l'appelant
+        List<LedgerEntry> previous = ledgerService.snapshot(List.of(id));
         if (financialTransactionRepository.existsById(id)) {
             financialTransaction.setId(id);
             FinancialTransaction updatedFinancialTransaction = financialTransactionRepository.save(financialTransaction);
+            ledgerService.replace(previous, ledgerEntries(updatedFinancialTransaction));
             notifyObservers("UPDATE", updatedFinancialTransaction);
             return updatedFinancialTransaction;
         }
@@ -46,21 +88,55 @@ public class FinancialTransactionServiceImpl implements FinancialTransactionServ
     }
 
     @Override
+    @Transactional
     public void deleteFinancialTransaction(Long id) {
         FinancialTransaction financialTransaction = financialTransactionRepository.findById(id).orElse(null);
+        List<LedgerEntry> previous = ledgerService.snapshot(List.of(id));
         financialTransactionRepository.deleteById(id);
+        ledgerService.replace(previous, List.of());
         if (financialTransaction != null) {
             notifyObservers("DELETE", financialTransaction);
         }
     }
 
     @Override
+    @Transactional
     public void softDeleteFinancialTransaction(Long id) {
-        FinancialTransaction financialTransaction = financialTransactionRepository.findById(id).orElse(null);
-        financialTransactionRepository.softDelete(id);
-        if (financialTransaction != null) {
-            notifyObservers("SOFT_DELETE", financialTransaction);
-        }
+        softDeleteFinancialTransactions(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteFinancialTransactions(Collection<Long> ids) {
+        List<LedgerEntry> previous = ledgerService.snapshot(ids);
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<FinancialTransaction> deleted = observers.isEmpty() ? List.of() : financialTransactionRepository.findAllById(ids);
+        int count = financialTransactionRepository.softDeleteAll(ids);
+        ledgerService.replace(previous, List.of());
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
+    }
+
+    private static List<LedgerEntry> ledgerEntries(FinancialTransaction financialTransaction) {
+        return financialTransaction.isActive() ? List.of(LedgerEntry.of(financialTransaction)) : List.of();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FinancialTransaction> searchFinancialTransactions(FinancialTransaction.TransactionType type, BigDecimal minAmount,
+                                                                  BigDecimal maxAmount, LocalDate startDate, LocalDate endDate,
+                                                                  Long associationId) {
+        return financialTransactionRepository.searchFinancialTransactionsComplexQuery(
+                type, minAmount, maxAmount, startDate, endDate, associationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<FinancialTransaction> searchFinancialTransactions(FinancialTransaction.TransactionType type, BigDecimal minAmount,
+                                                                  BigDecimal maxAmount, LocalDate startDate, LocalDate endDate,
+                                                                  Long associationId, Pageable pageable) {
+        return financialTransactionRepository.searchFinancialTransactionsComplexQuery(
+                type, minAmount, maxAmount, startDate, endDate, associationId, pageable);
     }
 
     @Override
@@ -0,0 +1,12 @@
+package com.org.testApi.services;
+
+import com.org.testApi.repository.LedgerEntry;
+
+/**
+ * Écart entre un agrégat du grand livre et le total recalculé à partir des transactions.
+ *
+ * @param expected total recalculé, {@code null} si aucune transaction ne correspond à l'agrégat
+ * @param actual   agrégat enregistré, {@code null} s'il manque
+ */
+public record LedgerDiscrepancy(LedgerEntry expected, LedgerEntry actual) {
+}
@@ -0,0 +1,39 @@
+package com.org.testApi.services;
+
+import com.org.testApi.repository.LedgerEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintenance des agrégats du grand livre ({@code ledger_aggregates}).
+ */
+public interface LedgerService {
+
+    /**
+     * Contributions actuellement enregistrées des transactions, à lire avant de les modifier.
+     * @param transactionIds identifiants des transactions
+     * @return une entrée par transaction active
+     */
+    List<LedgerEntry> snapshot(Collection<Long> transactionIds);
+
+    /**
+     * Retire des agrégats les anciennes contributions et ajoute les nouvelles, dans la transaction
+     * de l'écriture en cours.
+     * @param removed contributions avant l'écriture
+     * @param added contributions après l'écriture
+     */
+    void replace(Collection<LedgerEntry> removed, Collection<LedgerEntry> added);
+
+    /**
+     * Recalcule tous les agrégats à partir des transactions.
+     * @return le nombre d'agrégats écrits
+     */
+    int rebuild();
+
+    /**
+     * Compare les agrégats à un parcours complet des transactions actives.
+     * @return les écarts, vide si les agrégats sont exacts
+     */
+    List<LedgerDiscrepancy> verify();
+}
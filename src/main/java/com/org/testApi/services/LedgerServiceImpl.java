@@ -0,0 +1,101 @@
+package com.org.testApi.services;
+
+import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.LedgerAggregateRepository;
+import com.org.testApi.repository.LedgerEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerServiceImpl.class);
+
+    @Autowired
+    private LedgerAggregateRepository ledgerAggregateRepository;
+
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<LedgerEntry> snapshot(Collection<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return List.of();
+        }
+        return financialTransactionRepository.findLedgerEntriesByIds(transactionIds);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(Collection<LedgerEntry> removed, Collection<LedgerEntry> added) {
+        // Les contributions qui s'annulent (modification sans effet sur l'agrégat) ne sont pas écrites
+        Map<LedgerEntry.Key, long[]> deltas = new LinkedHashMap<>();
+        removed.forEach(entry -> accumulate(deltas, entry.negate()));
+        added.forEach(entry -> accumulate(deltas, entry));
+
+        boolean emptied = false;
+        for (Map.Entry<LedgerEntry.Key, long[]> delta : deltas.entrySet()) {
+            long cents = delta.getValue()[0];
+            long count = delta.getValue()[1];
+            if (cents == 0 && count == 0) {
+                continue;
+            }
+            LedgerEntry.Key key = delta.getKey();
+            ledgerAggregateRepository.add(key.associationId(), key.categoryId(), key.type(), key.bucketDate(), cents, count);
+            emptied |= count < 0;
+        }
+        if (emptied) {
+            ledgerAggregateRepository.deleteEmpty();
+        }
+    }
+
+    private static void accumulate(Map<LedgerEntry.Key, long[]> deltas, LedgerEntry entry) {
+        long[] delta = deltas.computeIfAbsent(entry.key(), key -> new long[2]);
+        delta[0] += entry.totalCents();
+        delta[1] += entry.transactionCount();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        int deleted = ledgerAggregateRepository.deleteAllBuckets();
+        int written = ledgerAggregateRepository.rebuildFromTransactions();
+        logger.info("Ledger aggregates rebuilt: {} buckets removed, {} written", deleted, written);
+        return written;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerDiscrepancy> verify() {
+        Map<LedgerEntry.Key, LedgerEntry> expected = financialTransactionRepository.aggregateLedgerEntries().stream()
+                .collect(Collectors.toMap(LedgerEntry::key, Function.identity()));
+        Map<LedgerEntry.Key, LedgerEntry> actual = new HashMap<>(ledgerAggregateRepository.findAllEntries().stream()
+                .collect(Collectors.toMap(LedgerEntry::key, Function.identity())));
+
+        List<LedgerDiscrepancy> discrepancies = new ArrayList<>();
+        for (LedgerEntry entry : expected.values()) {
+            LedgerEntry stored = actual.remove(entry.key());
+            if (stored == null || stored.totalCents() != entry.totalCents()
+                    || stored.transactionCount() != entry.transactionCount()) {
+                discrepancies.add(new LedgerDiscrepancy(entry, stored));
+            }
+        }
+        // Agrégats restants : aucune transaction active ne leur correspond
+        actual.values().forEach(stored -> discrepancies.add(new LedgerDiscrepancy(null, stored)));
+        return discrepancies;
+    }
+}
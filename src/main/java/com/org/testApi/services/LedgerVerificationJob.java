@@ -0,0 +1,47 @@
+package com.org.testApi.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vérification périodique des agrégats du grand livre contre un parcours complet des transactions.
+ * Les écarts sont journalisés et exposés par la jauge {@code ledger.verify.discrepancies} ;
+ * la correction reste manuelle ({@code POST /api/admin/ledger/rebuild}).
+ */
+@Component
+public class LedgerVerificationJob implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerVerificationJob.class);
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    private final AtomicInteger discrepancies = new AtomicInteger();
+
+    @Scheduled(cron = "${ledger.verify.cron:0 30 3 * * *}")
+    public void verify() {
+        List<LedgerDiscrepancy> found = ledgerService.verify();
+        discrepancies.set(found.size());
+        if (found.isEmpty()) {
+            logger.info("Ledger aggregates verified, no discrepancy");
+        } else {
+            logger.warn("Ledger aggregates differ from transactions in {} buckets, first: {}", found.size(), found.get(0));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ledger.verify.discrepancies", discrepancies, AtomicInteger::get)
+                .description("Agrégats du grand livre en écart lors de la dernière vérification")
+                .register(registry);
+    }
+}
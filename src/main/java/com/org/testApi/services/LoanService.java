@@ -1,6 +1,12 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.LoanResponseDTO;
 import com.org.testApi.models.Loan;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -75,6 +81,47 @@ public interface LoanService {
      */
     List<Loan> findActiveLoans();
 
+    /**
+     * Lit un prêt directement sous sa forme de réponse, en une seule requête.
+     *
+     * @param id l'identifiant du prêt
+     * @return le prêt s'il existe
+     */
+    Optional<LoanResponseDTO> findLoanResponseById(Long id);
+
+    /**
+     * Lit les prêts d'un membre sous leur forme de réponse.
+     *
+     * @param memberId l'identifiant du membre
+     * @return la liste des prêts du membre
+     */
+    List<LoanResponseDTO> findLoanResponsesByMemberId(Long memberId);
+
+    /**
+     * Lit les prêts en retard sous leur forme de réponse.
+     *
+     * @return la liste des prêts en retard
+     */
+    List<LoanResponseDTO> findOverdueLoanResponses();
+
+    /**
+     * Lit les prêts actifs sous leur forme de réponse.
+     *
+     * @return la liste des prêts actifs
+     */
+    List<LoanResponseDTO> findActiveLoanResponses();
+
+    /**
+     * Parcourt les prêts par pagination par clé.
+     *
+     * @param sortProperty propriété de tri ({@code id} par défaut)
+     * @param direction sens du tri
+     * @param size taille de la page
+     * @param continuationToken jeton de la page précédente, {@code null} pour la première
+     * @return la page de prêts et le jeton de la suivante
+     */
+    KeysetPage<Loan> getLoansByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
+
     /**
      * Recherche des prêts avec des filtres complexes.
      *
@@ -89,6 +136,16 @@ public interface LoanService {
     List<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
                                        Loan.LoanStatus status, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Variante paginée de la recherche des prêts.
+     *
+     * @param pageable Page et tri demandés
+     * @return Page des prêts correspondant aux critères
+     */
+    Page<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                       Loan.LoanStatus status, LocalDate startDate, LocalDate endDate,
+                                       Pageable pageable);
+
     /**
      * Calcule le montant total des prêts pour un membre.
      *
@@ -1,5 +1,6 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.LoanResponseDTO;
 import com.org.testApi.models.Document;
 import com.org.testApi.models.Loan;
 import com.org.testApi.models.Member;
@@ -8,7 +9,11 @@ import com.org.testApi.repository.DocumentRepository;
 import com.org.testApi.repository.LoanRepository;
 import com.org.testApi.repository.MemberRepository;
 import com.org.testApi.models.MembershipFee;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -77,11 +82,13 @@ boolean hasOverdueLoans = member.getLoans().stream()
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Loan> findLoanById(Long id) {
         return loanRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Loan> findLoansByMemberId(Long memberId) {
         return loanRepository.findByMemberId(memberId);
     }
@@ -115,6 +122,7 @@ boolean hasOverdueLoans = member.getLoans().stream()
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BigDecimal calculateTotalAmountDue(Long loanId) {
         Loan loan = loanRepository.findById(loanId)
                 .orElseThrow(() -> new RuntimeException("Prêt non trouvé avec l'ID: " + loanId));
@@ -123,6 +131,7 @@ boolean hasOverdueLoans = member.getLoans().stream()
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isLoanOverdue(Long loanId) {
         Loan loan = loanRepository.findById(loanId)
                 .orElseThrow(() -> new RuntimeException("Prêt non trouvé avec l'ID: " + loanId));
@@ -131,32 +140,76 @@ boolean hasOverdueLoans = member.getLoans().stream()
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Loan> findOverdueLoans() {
         return loanRepository.findOverdueLoans(LocalDate.now());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Loan> findActiveLoans() {
         return loanRepository.findActiveLoans();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<LoanResponseDTO> findLoanResponseById(Long id) {
+        return loanRepository.findResponseById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoanResponseDTO> findLoanResponsesByMemberId(Long memberId) {
+        return loanRepository.findResponsesByMemberId(memberId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoanResponseDTO> findOverdueLoanResponses() {
+        return loanRepository.findOverdueResponses(LocalDate.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoanResponseDTO> findActiveLoanResponses() {
+        return loanRepository.findActiveResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Loan> getLoansByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return loanRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
                                               Loan.LoanStatus status, LocalDate startDate, LocalDate endDate) {
         return loanRepository.searchLoansComplexQuery(memberId, minAmount, maxAmount, status, startDate, endDate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Loan> searchLoansComplexQuery(Long memberId, BigDecimal minAmount, BigDecimal maxAmount,
+                                              Loan.LoanStatus status, LocalDate startDate, LocalDate endDate,
+                                              Pageable pageable) {
+        return loanRepository.searchLoansComplexQuery(memberId, minAmount, maxAmount, status, startDate, endDate, pageable);
+    }
+
    @Override
+    @Transactional(readOnly = true)
     public BigDecimal calculateTotalLoansForMember(Long memberId) {
         return loanRepository.calculateTotalLoansForMember(memberId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Object[]> findOverdueLoansWithDaysOverdue() {
         return loanRepository.findOverdueLoansWithDaysOverdue();
     }
 
 @Override
+    @Transactional(readOnly = true)
     public boolean isMemberEligibleForLoan(Long memberId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("Membre non trouvé avec l'ID: " + memberId));
@@ -164,6 +217,7 @@ boolean hasOverdueLoans = member.getLoans().stream()
         return member.isEligibleForLoan();
     }
 
+    @Transactional(readOnly = true)
     @Override public BigDecimal calculateMaxLoanAmount(Long memberId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("Membre non trouvé avec l'ID: " + memberId));
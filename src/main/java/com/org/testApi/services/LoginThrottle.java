@@ -0,0 +1,143 @@
+package com.org.testApi.services;
+
+import com.org.testApi.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limitation du débit des vérifications de mot de passe, par seaux à jetons.
+ * <p>
+ * Chaque tentative consomme un jeton du seau de l'adresse IP, puis de celui du nom d'utilisateur ;
+ * les seaux se remplissent à débit constant. Le seau d'un utilisateur est initialisé à partir de
+ * {@code User.loginAttempts} : les échecs consécutifs survivent ainsi au redémarrage et à l'éviction
+ * du seau. Une connexion réussie remet le seau de l'utilisateur à plein.
+ * </p>
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, TokenBucket> usernameBuckets;
+    private final ExpiringCache<String, TokenBucket> ipBuckets;
+    private final int usernameCapacity;
+    private final double usernameRefillPerSecond;
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+    private final LongAdder usernameRejections = new LongAdder();
+    private final LongAdder ipRejections = new LongAdder();
+
+    public LoginThrottle(UserRepository userRepository,
+                         @Value("${security.login.username.capacity:5}") int usernameCapacity,
+                         @Value("${security.login.username.refill-per-minute:5}") int usernameRefillPerMinute,
+                         @Value("${security.login.ip.capacity:20}") int ipCapacity,
+                         @Value("${security.login.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                         @Value("${security.login.max-tracked:10000}") int maxTracked) {
+        this.userRepository = userRepository;
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillPerSecond = usernameRefillPerMinute / 60.0;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerMinute / 60.0;
+        this.usernameBuckets = new ExpiringCache<>(maxTracked);
+        this.ipBuckets = new ExpiringCache<>(maxTracked);
+    }
+
+    /**
+     * Consomme un jeton pour l'adresse IP puis pour l'utilisateur.
+     * @param username le nom d'utilisateur présenté
+     * @param clientIp l'adresse du client, ou null si inconnue
+     * @throws LoginThrottledException si l'un des deux seaux est vide
+     */
+    public void acquire(String username, String clientIp) {
+        if (clientIp != null) {
+            TokenBucket bucket = bucket(ipBuckets, clientIp, ipCapacity, ipRefillPerSecond, 0);
+            long wait = bucket.tryConsume();
+            if (wait > 0) {
+                ipRejections.increment();
+                throw new LoginThrottledException("Too many login attempts from this address", wait);
+            }
+        }
+        TokenBucket bucket = usernameBuckets.get(username);
+        if (bucket == null) {
+            int failures = userRepository.findLoginAttemptsByUsername(username).orElse(0);
+            bucket = bucket(usernameBuckets, username, usernameCapacity, usernameRefillPerSecond, failures);
+        }
+        long wait = bucket.tryConsume();
+        if (wait > 0) {
+            usernameRejections.increment();
+            throw new LoginThrottledException("Too many login attempts for this user", wait);
+        }
+    }
+
+    /**
+     * Remet à plein le seau de l'utilisateur après une connexion réussie.
+     */
+    public void reset(String username) {
+        usernameBuckets.remove(username);
+    }
+
+    private static TokenBucket bucket(ExpiringCache<String, TokenBucket> buckets, String key, int capacity,
+                                      double refillPerSecond, int consumed) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new TokenBucket(capacity, refillPerSecond, Math.max(0, capacity - consumed));
+        }
+        // Au-delà du temps de remplissage complet, un seau plein n'a pas besoin d'être conservé
+        buckets.put(key, bucket, System.currentTimeMillis() + bucket.millisToFull() + 1000);
+        return bucket;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.login.throttled", usernameRejections, LongAdder::sum)
+                .tag("scope", "username")
+                .description("Tentatives de connexion refusées par la limitation de débit")
+                .register(registry);
+        FunctionCounter.builder("auth.login.throttled", ipRejections, LongAdder::sum)
+                .tag("scope", "ip")
+                .description("Tentatives de connexion refusées par la limitation de débit")
+                .register(registry);
+    }
+
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        TokenBucket(int capacity, double refillPerSecond, int initialTokens) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = initialTokens;
+        }
+
+        /**
+         * @return 0 si un jeton a été consommé, sinon le délai en secondes avant le prochain jeton
+         */
+        synchronized long tryConsume() {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano / TimeUnit.SECONDS.toNanos(1)));
+        }
+
+        synchronized long millisToFull() {
+            refill();
+            return (long) ((capacity - tokens) / refillPerNano / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+        }
+    }
+}
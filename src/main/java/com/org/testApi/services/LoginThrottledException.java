@@ -0,0 +1,21 @@
+package com.org.testApi.services;
+
+/**
+ * Levée lorsqu'une tentative de connexion dépasse le débit autorisé pour l'utilisateur ou l'adresse IP.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return le délai, en secondes, avant qu'une nouvelle tentative soit acceptée
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.MemberRoleHistory;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberRoleHistoryService extends ObservableService<MemberRoleHistory> {
     List<MemberRoleHistory> getAllMemberRoleHistories();
+    KeysetPage<MemberRoleHistory> getMemberRoleHistoriesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<MemberRoleHistory> getMemberRoleHistoryById(Long id);
     MemberRoleHistory saveMemberRoleHistory(MemberRoleHistory memberRoleHistory);
     MemberRoleHistory updateMemberRoleHistory(Long id, MemberRoleHistory memberRoleHistory);
     void deleteMemberRoleHistory(Long id);
     void softDeleteMemberRoleHistory(Long id);
+    int softDeleteMemberRoleHistories(Collection<Long> ids);
 }
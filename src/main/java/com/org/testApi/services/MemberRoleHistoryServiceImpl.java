@@ -2,9 +2,13 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.MemberRoleHistory;
 import com.org.testApi.repository.MemberRoleHistoryRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -18,11 +22,19 @@ public class MemberRoleHistoryServiceImpl implements MemberRoleHistoryService {
     private List<Observer<MemberRoleHistory>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<MemberRoleHistory> getAllMemberRoleHistories() {
         return memberRoleHistoryRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<MemberRoleHistory> getMemberRoleHistoriesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return memberRoleHistoryRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<MemberRoleHistory> getMemberRoleHistoryById(Long id) {
         return memberRoleHistoryRepository.findById(id);
     }
@@ -55,12 +67,19 @@ public class MemberRoleHistoryServiceImpl implements MemberRoleHistoryService {
     }
 
     @Override
+    @Transactional
     public void softDeleteMemberRoleHistory(Long id) {
-        MemberRoleHistory memberRoleHistory = memberRoleHistoryRepository.findById(id).orElse(null);
-        memberRoleHistoryRepository.softDelete(id);
-        if (memberRoleHistory != null) {
-            notifyObservers("SOFT_DELETE", memberRoleHistory);
-        }
+        softDeleteMemberRoleHistories(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteMemberRoleHistories(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<MemberRoleHistory> deleted = observers.isEmpty() ? List.of() : memberRoleHistoryRepository.findAllById(ids);
+        int count = memberRoleHistoryRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
@@ -1,16 +1,25 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.MemberResponseDTO;
 import com.org.testApi.models.Member;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberService extends ObservableService<Member> {
     List<Member> getAllMembers();
+    KeysetPage<Member> getMembersByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<Member> getMemberById(Long id);
     Member saveMember(Member member);
     Member updateMember(Long id, Member member);
     void deleteMember(Long id);
     void softDeleteMember(Long id);
+    int softDeleteMembers(Collection<Long> ids);
 
     /**
      * Recherche des membres avec des filtres complexes
@@ -23,6 +32,14 @@ public interface MemberService extends ObservableService<Member> {
      */
     List<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType, Long associationId, Boolean isActive);
 
+    /**
+     * Variante paginée de la recherche des membres
+     * @param pageable page et tri demandés
+     * @return Page des membres correspondant aux critères
+     */
+    Page<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType,
+                                           Long associationId, Boolean isActive, Pageable pageable);
+
     /**
      * Vérifie si un membre est éligible pour emprunter.
      * @param memberId ID du membre
@@ -36,4 +53,24 @@ public interface MemberService extends ObservableService<Member> {
      * @return le membre correspondant ou null si non trouvé
      */
     Optional<Member> findByMemberCode(String memberCode);
+
+    /**
+     * Lit tous les membres directement sous leur forme de réponse, en une seule requête.
+     * @return la liste des membres
+     */
+    List<MemberResponseDTO> getAllMemberResponses();
+
+    /**
+     * Lit un membre sous sa forme de réponse.
+     * @param id l'identifiant du membre
+     * @return le membre s'il existe
+     */
+    Optional<MemberResponseDTO> getMemberResponseById(Long id);
+
+    /**
+     * Lit un membre sous sa forme de réponse à partir de son code membre.
+     * @param memberCode le code membre
+     * @return le membre s'il existe
+     */
+    Optional<MemberResponseDTO> getMemberResponseByMemberCode(String memberCode);
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.MemberResponseDTO;
 import com.org.testApi.models.Member;
 import com.org.testApi.repository.MemberRepository;
 import com.org.testApi.services.Observer;
+import com.org.testApi.repository.base.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -24,11 +31,19 @@ public class MemberServiceImpl implements MemberService {
     private List<Observer<Member>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<Member> getAllMembers() {
         return memberRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Member> getMembersByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return memberRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Member> getMemberById(Long id) {
         return memberRepository.findWithUserAndAssociationById(id);
     }
@@ -75,20 +90,36 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
+    @Transactional
     public void softDeleteMember(Long id) {
-        Member member = memberRepository.findById(id).orElse(null);
-        memberRepository.softDelete(id);
-        if (member != null) {
-            notifyObservers("SOFT_DELETE", member);
-        }
+        softDeleteMembers(List.of(id));
     }
 
     @Override
+    @Transactional
+    public int softDeleteMembers(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<Member> deleted = observers.isEmpty() ? List.of() : memberRepository.findAllById(ids);
+        int count = memberRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType, Long associationId, Boolean isActive) {
         return memberRepository.searchMembersComplexQuery(name, email, memberType, associationId, isActive);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<Member> searchMembersComplexQuery(String name, String email, Member.MemberType memberType,
+                                                  Long associationId, Boolean isActive, Pageable pageable) {
+        return memberRepository.searchMembersComplexQuery(name, email, memberType, associationId, isActive, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public boolean isMemberEligibleForLoan(Long memberId) {
         return memberRepository.findById(memberId)
                 .map(Member::isEligibleForLoan)
@@ -96,10 +127,29 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Member> findByMemberCode(String memberCode) {
         return memberRepository.findByMemberCode(memberCode);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponseDTO> getAllMemberResponses() {
+        return memberRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MemberResponseDTO> getMemberResponseById(Long id) {
+        return memberRepository.findResponseById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MemberResponseDTO> getMemberResponseByMemberCode(String memberCode) {
+        return memberRepository.findResponseByMemberCode(memberCode);
+    }
+
     @Override
     public void addObserver(Observer<Member> observer) {
         observers.add(observer);
@@ -1,14 +1,30 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.MembershipFee;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MembershipFeeService extends ObservableService<MembershipFee> {
     List<MembershipFee> getAllMembershipFees();
+    KeysetPage<MembershipFee> getMembershipFeesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<MembershipFee> getMembershipFeeById(Long id);
     MembershipFee saveMembershipFee(MembershipFee membershipFee);
     MembershipFee updateMembershipFee(Long id, MembershipFee membershipFee);
     void deleteMembershipFee(Long id);
     void softDeleteMembershipFee(Long id);
+    int softDeleteMembershipFees(Collection<Long> ids);
+    List<MembershipFee> searchMembershipFees(BigDecimal minAmount, BigDecimal maxAmount,
+                                             MembershipFee.PaymentMethod paymentMethod, Long memberId,
+                                             LocalDate startDate, LocalDate endDate);
+    Page<MembershipFee> searchMembershipFees(BigDecimal minAmount, BigDecimal maxAmount,
+                                             MembershipFee.PaymentMethod paymentMethod, Long memberId,
+                                             LocalDate startDate, LocalDate endDate, Pageable pageable);
 }
@@ -2,13 +2,19 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.MembershipFee;
 import com.org.testApi.repository.MembershipFeeRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -24,12 +30,20 @@ public class MembershipFeeServiceImpl implements MembershipFeeService {
     private List<Observer<MembershipFee>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<MembershipFee> getAllMembershipFees() {
         logger.info("Fetching all membership fees");
         return membershipFeeRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<MembershipFee> getMembershipFeesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return membershipFeeRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<MembershipFee> getMembershipFeeById(Long id) {
         logger.info("Fetching membership fee by id: {}", id);
         return membershipFeeRepository.findById(id);
@@ -114,13 +128,38 @@ public class MembershipFeeServiceImpl implements MembershipFeeService {
     }
 
     @Override
+    @Transactional
     public void softDeleteMembershipFee(Long id) {
-        logger.info("Soft deleting membership fee with id: {}", id);
-        MembershipFee membershipFee = membershipFeeRepository.findById(id).orElse(null);
-        membershipFeeRepository.softDelete(id);
-        if (membershipFee != null) {
-            notifyObservers("SOFT_DELETE", membershipFee);
-        }
+        softDeleteMembershipFees(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteMembershipFees(Collection<Long> ids) {
+        logger.info("Soft deleting membership fees with ids: {}", ids);
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<MembershipFee> deleted = observers.isEmpty() ? List.of() : membershipFeeRepository.findAllById(ids);
+        int count = membershipFeeRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MembershipFee> searchMembershipFees(BigDecimal minAmount, BigDecimal maxAmount,
+                                                    MembershipFee.PaymentMethod paymentMethod, Long memberId,
+                                                    LocalDate startDate, LocalDate endDate) {
+        return membershipFeeRepository.searchMembershipFeesComplexQuery(
+                minAmount, maxAmount, paymentMethod, memberId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MembershipFee> searchMembershipFees(BigDecimal minAmount, BigDecimal maxAmount,
+                                                    MembershipFee.PaymentMethod paymentMethod, Long memberId,
+                                                    LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return membershipFeeRepository.searchMembershipFeesComplexQuery(
+                minAmount, maxAmount, paymentMethod, memberId, startDate, endDate, pageable);
     }
 
     @Override
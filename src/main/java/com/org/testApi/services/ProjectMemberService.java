@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.ProjectMember;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectMemberService extends ObservableService<ProjectMember> {
     List<ProjectMember> getAllProjectMembers();
+    KeysetPage<ProjectMember> getProjectMembersByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<ProjectMember> getProjectMemberById(Long id);
     ProjectMember saveProjectMember(ProjectMember projectMember);
     ProjectMember updateProjectMember(Long id, ProjectMember projectMember);
     void deleteProjectMember(Long id);
     void softDeleteProjectMember(Long id);
+    int softDeleteProjectMembers(Collection<Long> ids);
 }
@@ -2,9 +2,13 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.ProjectMember;
 import com.org.testApi.repository.ProjectMemberRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -18,11 +22,19 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private List<Observer<ProjectMember>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectMember> getAllProjectMembers() {
         return projectMemberRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjectMember> getProjectMembersByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return projectMemberRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<ProjectMember> getProjectMemberById(Long id) {
         return projectMemberRepository.findById(id);
     }
@@ -55,12 +67,19 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     }
 
     @Override
+    @Transactional
     public void softDeleteProjectMember(Long id) {
-        ProjectMember projectMember = projectMemberRepository.findById(id).orElse(null);
-        projectMemberRepository.softDelete(id);
-        if (projectMember != null) {
-            notifyObservers("SOFT_DELETE", projectMember);
-        }
+        softDeleteProjectMembers(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteProjectMembers(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<ProjectMember> deleted = observers.isEmpty() ? List.of() : projectMemberRepository.findAllById(ids);
+        int count = projectMemberRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
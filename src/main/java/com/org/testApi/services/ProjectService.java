@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.Project;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectService extends ObservableService<Project> {
     List<Project> getAllProjects();
+    KeysetPage<Project> getProjectsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<Project> getProjectById(Long id);
     Project saveProject(Project project);
     Project updateProject(Long id, Project project);
     void deleteProject(Long id);
     void softDeleteProject(Long id);
+    int softDeleteProjects(Collection<Long> ids);
 }
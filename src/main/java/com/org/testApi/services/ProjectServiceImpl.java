@@ -2,9 +2,14 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.Project;
 import com.org.testApi.repository.ProjectRepository;
+import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -15,14 +20,28 @@ public class ProjectServiceImpl implements ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @Autowired
+    private LedgerService ledgerService;
+
     private List<Observer<Project>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<Project> getAllProjects() {
         return projectRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Project> getProjectsByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return projectRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Project> getProjectById(Long id) {
         return projectRepository.findById(id);
     }
@@ -46,8 +65,12 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional
     public void deleteProject(Long id) {
         Project project = projectRepository.findById(id).orElse(null);
+        // Les transactions supprimées en cascade sont retirées du grand livre
+        List<Long> transactionIds = financialTransactionRepository.findIdsCascadedFromProject(id);
+        ledgerService.replace(ledgerService.snapshot(transactionIds), List.of());
         projectRepository.deleteById(id);
         if (project != null) {
             notifyObservers("DELETE", project);
@@ -55,12 +78,19 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional
     public void softDeleteProject(Long id) {
-        Project project = projectRepository.findById(id).orElse(null);
-        projectRepository.softDelete(id);
-        if (project != null) {
-            notifyObservers("SOFT_DELETE", project);
-        }
+        softDeleteProjects(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteProjects(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<Project> deleted = observers.isEmpty() ? List.of() : projectRepository.findAllById(ids);
+        int count = projectRepository.softDeleteAll(ids);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
@@ -0,0 +1,183 @@
+package com.org.testApi.services;
+
+import com.org.testApi.models.Association;
+import com.org.testApi.models.ReportJob;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache des rapports d'activité et financiers, indexé par (rapport, association, période).
+ * <p>
+ * Les entrées sont invalidées par les événements des services observés : la création ou la suppression
+ * d'une activité ou d'une transaction retire les rapports de son association (et ceux de toutes les
+ * associations) dont la période contient sa date. Une modification retire tous les rapports du même type,
+ * l'état précédent (date, association) n'étant pas porté par l'événement. Toute modification d'une
+ * catégorie retire les rapports financiers, qui en affichent le nom.
+ * </p>
+ * <p>
+ * L'invalidation est répétée après la validation de la transaction en cours : un rapport recalculé
+ * entre-temps lirait encore l'état précédent. Un rapport dont le calcul a croisé une invalidation n'est pas
+ * mis en cache. La durée de vie ({@code report.cache.ttl}) borne l'effet des écritures qui ne passent
+ * pas par les services (suppression d'une association, rattachement de participants...).
+ * </p>
+ */
+@Component
+public class ReportCache implements MeterBinder {
+
+    private static final ReportJob.ReportType[] CACHED_TYPES = {
+            ReportJob.ReportType.ACTIVITY, ReportJob.ReportType.FINANCIAL};
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private FinancialTransactionService financialTransactionService;
+
+    @Autowired
+    private FinancialCategoryService financialCategoryService;
+
+    @Value("${report.cache.max-size:500}")
+    private int maxSize;
+
+    @Value("${report.cache.ttl:10m}")
+    private Duration ttl;
+
+    private final Map<ReportJob.ReportType, ExpiringCache<Key, Object>> caches =
+            new EnumMap<>(ReportJob.ReportType.class);
+    private final Map<ReportJob.ReportType, LongAdder> invalidations = new EnumMap<>(ReportJob.ReportType.class);
+    // Incrémenté à chaque invalidation : un calcul qui en a croisé une n'est pas conservé
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        for (ReportJob.ReportType type : CACHED_TYPES) {
+            caches.put(type, new ExpiringCache<>(maxSize));
+            invalidations.put(type, new LongAdder());
+        }
+        activityService.addObserver((event, activity) -> onChange(ReportJob.ReportType.ACTIVITY, event,
+                associationId(activity.getAssociation()), activity.getStartDateTime()));
+        financialTransactionService.addObserver((event, transaction) -> onChange(ReportJob.ReportType.FINANCIAL,
+                event, associationId(transaction.getAssociation()),
+                transaction.getTransactionDate() != null ? transaction.getTransactionDate().atStartOfDay() : null));
+        financialCategoryService.addObserver((event, category) -> invalidateNowAndAfterCommit(
+                () -> invalidate(ReportJob.ReportType.FINANCIAL, key -> true)));
+    }
+
+    /**
+     * Rend le rapport en cache ou le calcule. Le rapport rendu est partagé : il ne doit pas être modifié.
+     * @param type le rapport, {@code ACTIVITY} ou {@code FINANCIAL}
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @param from début de la période
+     * @param to fin de la période, incluse
+     * @param report le calcul du rapport
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ReportJob.ReportType type, Long associationId, LocalDateTime from, LocalDateTime to,
+                     Supplier<T> report) {
+        ExpiringCache<Key, Object> cache = caches.get(type);
+        Key key = new Key(associationId, from, to);
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        long started = generation.get();
+        T computed = report.get();
+        if (computed != null && generation.get() == started) {
+            cache.put(key, computed, System.currentTimeMillis() + ttl.toMillis());
+        }
+        return computed;
+    }
+
+    private void onChange(ReportJob.ReportType type, String event, Long associationId, LocalDateTime at) {
+        if ("UPDATE".equals(event)) {
+            invalidateNowAndAfterCommit(() -> invalidate(type, key -> true));
+        } else if (at != null) {
+            invalidateNowAndAfterCommit(() -> invalidate(type, key -> key.covers(associationId, at)));
+        }
+    }
+
+    // Invalide tout de suite, puis de nouveau après la validation de la transaction en cours s'il y en a une
+    private static void invalidateNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private void invalidate(ReportJob.ReportType type, Predicate<Key> stale) {
+        generation.incrementAndGet();
+        invalidations.get(type).increment();
+        caches.get(type).removeIf((key, report) -> stale.test(key));
+    }
+
+    // L'identifiant d'un proxy paresseux est lu sans l'initialiser
+    private static Long associationId(Association association) {
+        return association == null ? null : association.getId();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReportJob.ReportType type : CACHED_TYPES) {
+            ExpiringCache<Key, Object> cache = caches.get(type);
+            String name = type.name().toLowerCase();
+            FunctionCounter.builder("report.cache.gets", cache, ExpiringCache::hits)
+                    .tags("report", name, "result", "hit")
+                    .description("Lectures du cache des rapports")
+                    .register(registry);
+            FunctionCounter.builder("report.cache.gets", cache, ExpiringCache::misses)
+                    .tags("report", name, "result", "miss")
+                    .description("Lectures du cache des rapports")
+                    .register(registry);
+            FunctionCounter.builder("report.cache.evictions", cache, ExpiringCache::evictions)
+                    .tag("report", name)
+                    .description("Rapports retirés pour respecter la taille maximale")
+                    .register(registry);
+            FunctionCounter.builder("report.cache.invalidations", invalidations.get(type), LongAdder::sum)
+                    .tag("report", name)
+                    .description("Invalidations déclenchées par une modification des données")
+                    .register(registry);
+            Gauge.builder("report.cache.size", cache, ExpiringCache::size)
+                    .tag("report", name)
+                    .description("Nombre de rapports en cache")
+                    .register(registry);
+            Gauge.builder("report.cache.hit.ratio", cache,
+                            c -> c.hits() + c.misses() == 0 ? 0 : (double) c.hits() / (c.hits() + c.misses()))
+                    .tag("report", name)
+                    .description("Part des lectures servies par le cache depuis le démarrage")
+                    .register(registry);
+        }
+    }
+
+    private record Key(Long associationId, LocalDateTime from, LocalDateTime to) {
+
+        /**
+         * @return {@code true} si une donnée de l'association à cette date entre dans le rapport
+         */
+        boolean covers(Long changedAssociationId, LocalDateTime at) {
+            return (associationId == null || changedAssociationId == null || associationId.equals(changedAssociationId))
+                    && !at.isBefore(from) && !at.isAfter(to);
+        }
+    }
+}
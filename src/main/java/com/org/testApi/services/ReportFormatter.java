@@ -0,0 +1,131 @@
+package com.org.testApi.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.testApi.dto.response.ActivityReportDTO;
+import com.org.testApi.dto.response.FinancialCategoryTotalDTO;
+import com.org.testApi.dto.response.FinancialReportDTO;
+import com.org.testApi.dto.response.MembershipCohortDTO;
+import com.org.testApi.dto.response.MembershipReportDTO;
+import com.org.testApi.models.ReportJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mise en forme des rapports pour téléchargement.
+ * <p>
+ * JSON : le rapport tel que le renvoie l'API. CSV : une table longue {@code section,key,metric,value}
+ * commune aux trois rapports, qui réunit dans un seul fichier les totaux ({@code summary}) et chaque
+ * détail (par catégorie, par association, par cohorte...).
+ * </p>
+ */
+@Component
+public class ReportFormatter {
+
+    private static final String HEADER = "section,key,metric,value";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public String format(Object report, ReportJob.ReportFormat format) {
+        if (format == ReportJob.ReportFormat.JSON) {
+            try {
+                return objectMapper.writeValueAsString(report);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Report could not be serialized", e);
+            }
+        }
+        Table table = new Table();
+        if (report instanceof ActivityReportDTO activity) {
+            activity(activity, table);
+        } else if (report instanceof FinancialReportDTO financial) {
+            financial(financial, table);
+        } else if (report instanceof MembershipReportDTO membership) {
+            membership(membership, table);
+        } else {
+            throw new IllegalArgumentException("No CSV layout for " + report.getClass().getSimpleName());
+        }
+        return table.toString();
+    }
+
+    private static void activity(ActivityReportDTO report, Table table) {
+        table.row("summary", "", "periodStart", report.getPeriodStart());
+        table.row("summary", "", "periodEnd", report.getPeriodEnd());
+        table.row("summary", "", "totalActivities", report.getTotalActivities());
+        table.row("summary", "", "totalParticipants", report.getTotalParticipants());
+        table.row("summary", "", "averageParticipants", report.getAverageParticipants());
+        activityTotals("type", report.getByType(), table);
+        activityTotals("status", report.getByStatus(), table);
+        activityTotals("location", report.getByLocation(), table);
+        activityTotals("project", report.getByProject(), table);
+    }
+
+    private static void activityTotals(String section, Map<String, ActivityReportDTO.ActivityTotalsDTO> totals,
+                                       Table table) {
+        totals.forEach((key, total) -> {
+            table.row(section, key, "activities", total.getActivities());
+            table.row(section, key, "participants", total.getParticipants());
+        });
+    }
+
+    private static void financial(FinancialReportDTO report, Table table) {
+        table.row("summary", "", "periodStart", report.getPeriodStart());
+        table.row("summary", "", "periodEnd", report.getPeriodEnd());
+        table.row("summary", "", "totalIncome", report.getTotalIncome());
+        table.row("summary", "", "totalExpenses", report.getTotalExpenses());
+        table.row("summary", "", "netIncome", report.getNetIncome());
+        table.row("summary", "", "transactionCount", report.getTransactionCount());
+        categories("income", report.getIncomeByCategory(), table);
+        categories("expenses", report.getExpensesByCategory(), table);
+    }
+
+    private static void categories(String section, List<FinancialCategoryTotalDTO> totals, Table table) {
+        for (FinancialCategoryTotalDTO total : totals) {
+            table.row(section, total.getCategoryName(), "total", total.getTotal());
+            table.row(section, total.getCategoryName(), "transactionCount", total.getTransactionCount());
+        }
+    }
+
+    private static void membership(MembershipReportDTO report, Table table) {
+        table.row("summary", "", "reportDate", report.getReportDate());
+        table.row("summary", "", "totalMembers", report.getTotalMembers());
+        table.row("summary", "", "activeMembers", report.getActiveMembers());
+        table.row("summary", "", "inactiveMembers", report.getInactiveMembers());
+        report.getMembersByType().forEach((type, count) -> table.row("membersByType", type, "count", count));
+        for (MembershipReportDTO.AssociationMembershipDTO association : report.getAssociations()) {
+            String key = String.valueOf(association.getAssociationId());
+            table.row("association", key, "totalMembers", association.getTotalMembers());
+            table.row("association", key, "activeMembers", association.getActiveMembers());
+            association.getMembersByType().forEach((type, count) -> table.row("association", key, type, count));
+        }
+        for (MembershipCohortDTO cohort : report.getCohorts()) {
+            table.row("cohort", cohort.getCohort(), "joined", cohort.getJoined());
+            table.row("cohort", cohort.getCohort(), "stillActive", cohort.getStillActive());
+            table.row("cohort", cohort.getCohort(), "retentionRate", cohort.getRetentionRate());
+        }
+    }
+
+    private static final class Table {
+
+        private final StringBuilder csv = new StringBuilder(HEADER).append(Csv.LINE_END);
+
+        void row(String section, String key, String metric, Object value) {
+            csv.append(Csv.escape(section)).append(',')
+                    .append(Csv.escape(key)).append(',')
+                    .append(Csv.escape(metric)).append(',');
+            if (value != null) {
+                csv.append(Csv.escape(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString()));
+            }
+            csv.append(Csv.LINE_END);
+        }
+
+        @Override
+        public String toString() {
+            return csv.toString();
+        }
+    }
+}
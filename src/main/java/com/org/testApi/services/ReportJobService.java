@@ -0,0 +1,37 @@
+package com.org.testApi.services;
+
+import com.org.testApi.dto.response.ReportJobResponseDTO;
+import com.org.testApi.models.ReportJob;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Rapports exécutés en arrière-plan : soumission, suivi et téléchargement du résultat.
+ */
+public interface ReportJobService {
+
+    /**
+     * Enregistre une demande et la place dans la file de son association. Une demande identique
+     * (type, format et paramètres) encore en attente ou en cours est renvoyée au lieu d'en créer une.
+     *
+     * @param type le rapport demandé
+     * @param format le format du résultat
+     * @param associationId l'association couverte, ou {@code null} pour toutes
+     * @param startDate premier jour de la période, ignoré pour le rapport des adhésions
+     * @param endDate dernier jour de la période, inclus, ignoré pour le rapport des adhésions
+     * @param requestedBy l'utilisateur qui soumet la demande
+     * @return l'état de la demande
+     * @throws RejectedExecutionException si la file d'attente est pleine
+     */
+    ReportJobResponseDTO submit(ReportJob.ReportType type, ReportJob.ReportFormat format, Long associationId,
+                                LocalDate startDate, LocalDate endDate, String requestedBy);
+
+    Optional<ReportJobResponseDTO> getStatus(Long id);
+
+    /**
+     * @return la demande avec son rapport produit, s'il existe
+     */
+    Optional<ReportJob> getJob(Long id);
+}
@@ -0,0 +1,281 @@
+package com.org.testApi.services;
+
+import com.org.testApi.dto.response.ReportJobResponseDTO;
+import com.org.testApi.models.ReportJob;
+import com.org.testApi.repository.ReportJobRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exécution des rapports en arrière-plan.
+ * <p>
+ * Les demandes sont persistées puis placées dans une {@link FairJobQueue} par association : un nombre fixe
+ * de threads ({@code report.jobs.threads}) sert les associations à tour de rôle, et au-delà de
+ * {@code report.jobs.queue-capacity} demandes en attente la soumission est refusée. Une demande identique à
+ * une demande en attente ou en cours la rejoint au lieu d'être exécutée une seconde fois. Les demandes
+ * interrompues par un arrêt sont reprises au démarrage ; les demandes terminées sont purgées après
+ * {@code report.jobs.retention}.
+ * </p>
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String ALL_ASSOCIATIONS = "all";
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportFormatter reportFormatter;
+
+    @Value("${report.jobs.threads:2}")
+    private int threads;
+
+    @Value("${report.jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${report.jobs.retention:7d}")
+    private Duration retention;
+
+    private FairJobQueue<String, Long> queue;
+    private ExecutorService workers;
+    // Demande en attente ou en cours pour chaque clé de déduplication
+    private final ConcurrentMap<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final Object submitLock = new Object();
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // Renseigné par bindTo ; nul tant qu'aucun registre n'est lié
+    private volatile MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void init() {
+        queue = new FairJobQueue<>(queueCapacity);
+    }
+
+    /**
+     * Reprend les demandes non terminées puis démarre les threads, une fois le schéma migré et
+     * l'application prête.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int interrupted = reportJobRepository.requeueRunning();
+        int resumed = 0;
+        for (ReportJob job : reportJobRepository.findUnfinished()) {
+            inFlight.putIfAbsent(job.getDedupKey(), job.getId());
+            if (queue.offer(owner(job.getAssociationId()), job.getId())) {
+                resumed++;
+            } else {
+                inFlight.remove(job.getDedupKey(), job.getId());
+                reportJobRepository.fail(job.getId(), "Report queue full on restart", LocalDateTime.now());
+            }
+        }
+        if (resumed > 0) {
+            logger.info("Resumed {} pending report jobs ({} interrupted while running)", resumed, interrupted);
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "report-job-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        workers = Executors.newFixedThreadPool(threads, threadFactory);
+        for (int i = 0; i < threads; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (workers != null) {
+            // Les demandes interrompues restent RUNNING et seront reprises au prochain démarrage
+            workers.shutdownNow();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public ReportJobResponseDTO submit(ReportJob.ReportType type, ReportJob.ReportFormat format, Long associationId,
+                                       LocalDate startDate, LocalDate endDate, String requestedBy) {
+        if (type == ReportJob.ReportType.MEMBERSHIP) {
+            // Le rapport des adhésions porte sur l'état courant, sans période
+            startDate = null;
+            endDate = null;
+        } else if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("A valid period is required for the " + type + " report");
+        }
+        String dedupKey = String.join("|", type.name(), format.name(), String.valueOf(associationId),
+                String.valueOf(startDate), String.valueOf(endDate));
+
+        synchronized (submitLock) {
+            Long existingId = inFlight.get(dedupKey);
+            if (existingId != null) {
+                Optional<ReportJobResponseDTO> existing = reportJobRepository.findStatusById(existingId)
+                        .filter(job -> !job.getStatus().isFinished());
+                if (existing.isPresent()) {
+                    deduplicated.increment();
+                    existing.get().setDeduplicated(true);
+                    return existing.get();
+                }
+            }
+            if (queue.remainingCapacity() == 0) {
+                rejected.increment();
+                throw new RejectedExecutionException("Report queue is full");
+            }
+            ReportJob job = reportJobRepository.save(ReportJob.builder()
+                    .type(type)
+                    .format(format)
+                    .associationId(associationId)
+                    .periodStart(startDate)
+                    .periodEnd(endDate)
+                    .dedupKey(dedupKey)
+                    .status(ReportJob.JobStatus.QUEUED)
+                    .requestedBy(requestedBy)
+                    .build());
+            inFlight.put(dedupKey, job.getId());
+            // Seules les soumissions réservent de la place, sous ce verrou : l'ajout ne peut pas échouer
+            queue.offer(owner(associationId), job.getId());
+            return new ReportJobResponseDTO(job);
+        }
+    }
+
+    @Override
+    public Optional<ReportJobResponseDTO> getStatus(Long id) {
+        return reportJobRepository.findStatusById(id);
+    }
+
+    @Override
+    public Optional<ReportJob> getJob(Long id) {
+        return reportJobRepository.findById(id);
+    }
+
+    @Scheduled(cron = "${report.jobs.purge-cron:0 15 * * * *}")
+    public void purge() {
+        int deleted = reportJobRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Purged {} finished report jobs", deleted);
+        }
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Long jobId;
+            try {
+                jobId = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            run(jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+        if (job == null || reportJobRepository.markRunning(jobId, LocalDateTime.now()) == 0) {
+            return;
+        }
+        running.incrementAndGet();
+        long started = System.nanoTime();
+        try {
+            String result = reportFormatter.format(generate(job), job.getFormat());
+            reportJobRepository.complete(jobId, result, LocalDateTime.now());
+            completed.increment();
+        } catch (RuntimeException e) {
+            logger.warn("Report job {} ({}) failed", jobId, job.getType(), e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            reportJobRepository.fail(jobId, message.length() > MAX_ERROR_LENGTH
+                    ? message.substring(0, MAX_ERROR_LENGTH) : message, LocalDateTime.now());
+            failed.increment();
+        } finally {
+            running.decrementAndGet();
+            inFlight.remove(job.getDedupKey(), jobId);
+            MeterRegistry registry = meterRegistry;
+            if (registry != null) {
+                Timer.builder("report.jobs.duration")
+                        .tag("type", job.getType().name())
+                        .description("Durée de production d'un rapport en arrière-plan")
+                        .register(registry)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Object generate(ReportJob job) {
+        return switch (job.getType()) {
+            case ACTIVITY -> reportService.generateActivityReport(job.getAssociationId(),
+                    job.getPeriodStart().atStartOfDay(), job.getPeriodEnd().atTime(LocalTime.MAX));
+            case FINANCIAL -> reportService.generateFinancialReport(job.getAssociationId(),
+                    job.getPeriodStart().atStartOfDay(), job.getPeriodEnd().atTime(LocalTime.MAX));
+            case MEMBERSHIP -> reportService.generateMembershipReport(job.getAssociationId());
+        };
+    }
+
+    // Les demandes sans association partagent une même file
+    private static String owner(Long associationId) {
+        return associationId != null ? "association-" + associationId : ALL_ASSOCIATIONS;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("report.jobs.queued", this, service -> service.queue.size())
+                .description("Demandes de rapport en attente d'un thread")
+                .register(registry);
+        Gauge.builder("report.jobs.queued.owners", this, service -> service.queue.owners())
+                .description("Associations ayant des demandes de rapport en attente")
+                .register(registry);
+        Gauge.builder("report.jobs.running", running, AtomicInteger::get)
+                .description("Rapports en cours de production")
+                .register(registry);
+        FunctionCounter.builder("report.jobs.completed", completed, LongAdder::sum)
+                .description("Rapports produits")
+                .register(registry);
+        FunctionCounter.builder("report.jobs.failed", failed, LongAdder::sum)
+                .description("Rapports en échec")
+                .register(registry);
+        FunctionCounter.builder("report.jobs.deduplicated", deduplicated, LongAdder::sum)
+                .description("Soumissions rattachées à une demande identique en cours")
+                .register(registry);
+        FunctionCounter.builder("report.jobs.rejected", rejected, LongAdder::sum)
+                .description("Soumissions refusées, file d'attente pleine")
+                .register(registry);
+        meterRegistry = registry;
+    }
+}
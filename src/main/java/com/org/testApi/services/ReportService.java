@@ -1,10 +1,52 @@
 package com.org.testApi.services;
 
+import com.org.testApi.dto.response.ActivityReportDTO;
+import com.org.testApi.dto.response.FinancialReportDTO;
+import com.org.testApi.dto.response.MembershipReportDTO;
+
 import java.time.LocalDateTime;
-import java.util.List;
 
 public interface ReportService extends ObservableService<String> {
-    List<Object> generateActivityReport(LocalDateTime startDate, LocalDateTime endDate);
-    List<Object> generateFinancialReport(LocalDateTime startDate, LocalDateTime endDate);
-    List<Object> generateMembershipReport();
+    /**
+     * Rapport des activités commençant dans la période, agrégé en SQL : les participants sont comptés par
+     * jointure, sans charger les activités ni leurs participants. Servi par le {@link ReportCache} tant
+     * qu'aucune activité de la période n'est modifiée.
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @param startDate début de la période
+     * @param endDate fin de la période
+     * @return activités et participations par type, statut, lieu et projet
+     */
+    ActivityReportDTO generateActivityReport(Long associationId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Rapport financier de la période, agrégé en SQL : son coût dépend du nombre de catégories,
+     * pas du nombre de transactions. Servi par le {@link ReportCache} tant qu'aucune transaction de la période
+     * n'est modifiée.
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @param startDate début de la période (seul le jour est retenu)
+     * @param endDate fin de la période, incluse (seul le jour est retenu)
+     * @return totaux exacts par catégorie et par type, puis totaux généraux
+     */
+    FinancialReportDTO generateFinancialReport(Long associationId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Rapport d'activité calculé sans lire ni alimenter le {@link ReportCache}, pour les calculs en masse
+     * (rapport consolidé) qui évinceraient les entrées servies au tableau de bord.
+     */
+    ActivityReportDTO computeActivityReport(Long associationId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Rapport financier calculé sans lire ni alimenter le {@link ReportCache}, comme
+     * {@link #computeActivityReport}.
+     */
+    FinancialReportDTO computeFinancialReport(Long associationId, LocalDateTime startDate, LocalDateTime endDate);
+
+
+    /**
+     * Rapport des adhésions, calculé par deux requêtes agrégées : comptes par association, type
+     * et statut, puis cohortes par date d'adhésion.
+     * @param associationId l'association, ou {@code null} pour toutes
+     * @return totaux, détail par association et cohortes mensuelles
+     */
+    MembershipReportDTO generateMembershipReport(Long associationId);
 }
@@ -1,14 +1,19 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.Role;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RoleService extends ObservableService<Role> {
     List<Role> getAllRoles();
+    KeysetPage<Role> getRolesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<Role> getRoleById(Long id);
     Role saveRole(Role role);
     Role updateRole(Long id, Role role);
     void deleteRole(Long id);
     void softDeleteRole(Long id);
+    int softDeleteRoles(Collection<Long> ids);
 }
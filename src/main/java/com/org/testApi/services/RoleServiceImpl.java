@@ -2,9 +2,13 @@ package com.org.testApi.services;
 
 import com.org.testApi.models.Role;
 import com.org.testApi.repository.RoleRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -18,11 +22,19 @@ public class RoleServiceImpl implements RoleService {
     private List<Observer<Role>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<Role> getAllRoles() {
         return roleRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Role> getRolesByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return roleRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Role> getRoleById(Long id) {
         return roleRepository.findById(id.intValue());
     }
@@ -55,12 +67,20 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
+    @Transactional
     public void softDeleteRole(Long id) {
-        Role role = roleRepository.findById(id.intValue()).orElse(null);
-        roleRepository.softDelete(id.intValue());
-        if (role != null) {
-            notifyObservers("SOFT_DELETE", role);
-        }
+        softDeleteRoles(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteRoles(Collection<Long> ids) {
+        List<Integer> roleIds = ids.stream().map(Long::intValue).toList();
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<Role> deleted = observers.isEmpty() ? List.of() : roleRepository.findAllById(roleIds);
+        int count = roleRepository.softDeleteAll(roleIds);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
     }
 
     @Override
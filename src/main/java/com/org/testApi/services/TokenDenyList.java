@@ -0,0 +1,104 @@
+package com.org.testApi.services;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Liste de révocation des jetons JWT, tenue en mémoire.
+ * <p>
+ * Seul l'identifiant ({@code jti}) d'un jeton révoqué est conservé, avec son expiration : l'entrée
+ * disparaît dès que le jeton aurait de toute façon expiré. Une révocation par utilisateur retient
+ * l'instant à partir duquel les jetons émis auparavant sont refusés (changement de rôles, suppression).
+ * L'heure d'émission d'un jeton ({@code iat}) n'est qu'à la seconde : dans la seconde de la révocation,
+ * seuls sont acceptés les jetons que ce nœud a émis après elle, retenus par leur identifiant.
+ * L'index des sessions révoquées ({@code sid}) n'est conservé que la durée de vie d'un jeton d'accès :
+ * au-delà, les jetons de la session ont expiré et son jeton de rafraîchissement est refusé en base.
+ * </p>
+ */
+final class TokenDenyList {
+
+    private static final int PURGE_INTERVAL = 256;
+
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // Instant de la révocation, en millisecondes
+    private final ConcurrentMap<String, Long> revokedUsers = new ConcurrentHashMap<>();
+    // Jetons émis après la révocation de leur utilisateur, dans la même seconde, jusqu'à leur expiration
+    private final ConcurrentMap<String, Long> reissuedTokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> revokedSessions = new ConcurrentHashMap<>();
+    private final AtomicInteger revocations = new AtomicInteger();
+    private final long tokenValiditySeconds;
+
+    TokenDenyList(long tokenValiditySeconds) {
+        this.tokenValiditySeconds = tokenValiditySeconds;
+    }
+
+    void revokeToken(String tokenId, Instant expiration) {
+        revokedTokens.put(tokenId, expiration.getEpochSecond());
+        purgeIfDue();
+    }
+
+    /**
+     * Refuse tous les jetons de l'utilisateur émis jusqu'à maintenant.
+     */
+    void revokeUser(String username) {
+        revokedUsers.put(username, Instant.now().toEpochMilli());
+        purgeIfDue();
+    }
+
+    /**
+     * Signale un jeton qui vient d'être émis. Émis après une révocation de son utilisateur mais dans la
+     * même seconde, il est retenu pour ne pas être confondu avec les jetons révoqués.
+     * @param issuedAt l'heure d'émission exacte, dont {@code iat} est la troncature à la seconde
+     */
+    void tokenIssued(String tokenId, String username, Instant issuedAt, Instant expiration) {
+        Long revokedAt = revokedUsers.get(username);
+        if (tokenId != null && revokedAt != null && issuedAt.toEpochMilli() > revokedAt
+                && issuedAt.getEpochSecond() == Math.floorDiv(revokedAt, 1000)) {
+            reissuedTokens.put(tokenId, expiration.getEpochSecond());
+            purgeIfDue();
+        }
+    }
+
+    void revokeSession(String sessionId) {
+        revokedSessions.put(sessionId, Instant.now().getEpochSecond() + tokenValiditySeconds);
+        purgeIfDue();
+    }
+
+    boolean isRevoked(String tokenId, String sessionId, String username, Instant issuedAt) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (sessionId != null && revokedSessions.containsKey(sessionId)) {
+            return true;
+        }
+        Long revokedAt = revokedUsers.get(username);
+        if (revokedAt == null) {
+            return false;
+        }
+        if (issuedAt == null) {
+            return true;
+        }
+        long revokedSecond = Math.floorDiv(revokedAt, 1000);
+        if (issuedAt.getEpochSecond() != revokedSecond) {
+            return issuedAt.getEpochSecond() < revokedSecond;
+        }
+        return tokenId == null || !reissuedTokens.containsKey(tokenId);
+    }
+
+    int size() {
+        return revokedTokens.size() + revokedUsers.size() + revokedSessions.size() + reissuedTokens.size();
+    }
+
+    private void purgeIfDue() {
+        if (revocations.incrementAndGet() % PURGE_INTERVAL != 0) {
+            return;
+        }
+        long now = Instant.now().getEpochSecond();
+        revokedTokens.values().removeIf(expiration -> expiration < now);
+        revokedSessions.values().removeIf(expiration -> expiration < now);
+        reissuedTokens.values().removeIf(expiration -> expiration < now);
+        revokedUsers.values().removeIf(revokedAt -> Math.floorDiv(revokedAt, 1000) + tokenValiditySeconds < now);
+    }
+}
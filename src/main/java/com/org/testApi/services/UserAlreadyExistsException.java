@@ -0,0 +1,23 @@
+package com.org.testApi.services;
+
+import java.util.List;
+
+/**
+ * Levée lorsqu'une inscription réutilise un nom d'utilisateur ou une adresse email déjà enregistrés.
+ */
+public class UserAlreadyExistsException extends RuntimeException {
+
+    private final List<String> conflicts;
+
+    public UserAlreadyExistsException(List<String> conflicts) {
+        super("Username or email already registered: " + String.join(", ", conflicts));
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    /**
+     * @return les noms d'utilisateur et adresses email en conflit
+     */
+    public List<String> getConflicts() {
+        return conflicts;
+    }
+}
@@ -6,22 +6,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = authenticationCache.getUser(username);
+        if (cached != null) {
+            return cached;
+        }
+
         // Utiliser une requête qui charge explicitement les rôles avec l'utilisateur
         User user = userRepository.findWithRolesByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
@@ -36,10 +47,26 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             }
         }
 
-        return org.springframework.security.core.userdetails.User.builder()
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword())
                 .authorities(authorities)
+                // Un utilisateur désactivé ne peut plus se connecter (DisabledException)
+                .disabled(!user.isActive())
+                .build();
+        authenticationCache.putUser(userDetails);
+        return userDetails;
+    }
+
+    /**
+     * Enregistre le mot de passe rehaché par Spring Security quand le coût BCrypt configuré a augmenté.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+        authenticationCache.invalidateUser(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
                 .build();
     }
 }
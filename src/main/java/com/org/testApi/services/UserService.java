@@ -1,16 +1,42 @@
 package com.org.testApi.services;
 
 import com.org.testApi.models.User;
+import com.org.testApi.repository.base.KeysetPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserService extends ObservableService<User> {
     List<User> getAllUsers();
+    KeysetPage<User> getUsersByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken);
     Optional<User> getUserById(Long id);
     User saveUser(User user);
+
+    /**
+     * Inscrit un utilisateur après une vérification d'unicité sur les index du nom et de l'email.
+     * @param user l'utilisateur à inscrire, mot de passe en clair
+     * @return l'utilisateur enregistré
+     * @throws UserAlreadyExistsException si le nom ou l'email est déjà enregistré
+     */
+    User registerUser(User user);
+
+    /**
+     * Inscrit un lot d'utilisateurs : mots de passe hachés en parallèle hors transaction, puis insertion
+     * dans une seule transaction.
+     * Aucun utilisateur n'est enregistré si l'un d'eux est en conflit.
+     * @param users les utilisateurs à inscrire, mots de passe en clair
+     * @return les utilisateurs enregistrés, dans l'ordre du lot
+     * @throws UserAlreadyExistsException si un nom ou un email est en double dans le lot ou déjà enregistré
+     */
+    List<User> registerUsers(List<User> users);
     User updateUser(Long id, User user);
     void deleteUser(Long id);
     void softDeleteUser(Long id);
+    int softDeleteUsers(Collection<Long> ids);
 
     /**
      * Recherche des utilisateurs avec des filtres complexes
@@ -22,4 +48,12 @@ public interface UserService extends ObservableService<User> {
      * @return Liste des utilisateurs correspondant aux critères
      */
     List<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName, Integer roleId);
+
+    /**
+     * Variante paginée de la recherche des utilisateurs
+     * @param pageable page et tri demandés
+     * @return Page des utilisateurs correspondant aux critères
+     */
+    Page<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName,
+                                       Integer roleId, Pageable pageable);
 }
@@ -1,15 +1,31 @@
 package com.org.testApi.services;
 
+import com.org.testApi.config.BoundedPasswordEncoder;
 import com.org.testApi.models.User;
 import com.org.testApi.repository.UserRepository;
+import com.org.testApi.repository.base.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
+import java.util.Set;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Service
@@ -23,14 +39,34 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${security.registration.batch-max-size:500}")
+    private int registrationBatchMaxSize;
+
     private List<Observer<User>> observers = new ArrayList<>();
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<User> getUsersByKeyset(String sortProperty, Sort.Direction direction, int size, String continuationToken) {
+        return userRepository.findAllByKeyset(sortProperty, direction, size, continuationToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         logger.info("Fetching user by ID: {}", id);
         Optional<User> user = userRepository.findById(id);
@@ -53,6 +89,111 @@ public class UserServiceImpl implements UserService {
         return savedUser;
     }
 
+    @Override
+    public User registerUser(User user) {
+        if (userRepository.existsByUsernameOrEmail(user.getUsername(), user.getEmail())) {
+            throw new UserAlreadyExistsException(List.of(user.getUsername(), user.getEmail()));
+        }
+        try {
+            return saveUser(user);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            // Inscription concurrente entre la vérification et l'insertion : l'index unique tranche
+            logger.warn("Registration of {} rejected by unique constraint", user.getUsername());
+            throw new UserAlreadyExistsException(List.of(user.getUsername(), user.getEmail()));
+        }
+    }
+
+    // Pas de transaction autour du lot : le hachage BCrypt ne doit pas retenir l'unique connexion d'écriture
+    @Override
+    public List<User> registerUsers(List<User> users) {
+        if (users.size() > registrationBatchMaxSize) {
+            throw new IllegalArgumentException("Batch exceeds " + registrationBatchMaxSize + " users");
+        }
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> conflicts = new LinkedHashSet<>();
+        for (User user : users) {
+            if (!usernames.add(user.getUsername())) {
+                conflicts.add(user.getUsername());
+            }
+            if (!emails.add(user.getEmail())) {
+                conflicts.add(user.getEmail());
+            }
+        }
+        // Vérification en lecture seule, sur le pool de lecture
+        TransactionTemplate lookup = new TransactionTemplate(transactionManager);
+        lookup.setReadOnly(true);
+        if (!users.isEmpty()) {
+            conflicts.addAll(lookup.execute(status -> registeredIdentities(usernames, emails)));
+        }
+        if (!conflicts.isEmpty()) {
+            throw new UserAlreadyExistsException(List.copyOf(conflicts));
+        }
+
+        hashPasswords(users);
+        // Seule l'insertion, déjà hachée, occupe la connexion d'écriture
+        TransactionTemplate insert = new TransactionTemplate(transactionManager);
+        List<User> savedUsers;
+        try {
+            savedUsers = insert.execute(status -> userRepository.saveAllAndFlush(users));
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            // Inscription concurrente entre la vérification et l'insertion : les identités en conflit sont relues
+            // une fois la transaction d'insertion annulée
+            List<String> raced = lookup.execute(status -> registeredIdentities(usernames, emails));
+            logger.warn("Batch registration of {} users rejected by unique constraint", users.size());
+            if (raced == null || raced.isEmpty()) {
+                throw e;
+            }
+            throw new UserAlreadyExistsException(raced);
+        }
+        logger.info("Registered {} users in batch", savedUsers.size());
+        savedUsers.forEach(savedUser -> notifyObservers("SAVE", savedUser));
+        return savedUsers;
+    }
+
+    // Noms d'utilisateur ou emails du lot déjà enregistrés, un par utilisateur en conflit
+    private List<String> registeredIdentities(Set<String> usernames, Set<String> emails) {
+        List<String> registered = new ArrayList<>();
+        for (Object[] identity : userRepository.findRegisteredIdentities(usernames, emails)) {
+            registered.add(usernames.contains((String) identity[0]) ? (String) identity[0] : (String) identity[1]);
+        }
+        return registered;
+    }
+
+    // Seule la violation d'un index unique est un conflit ; SQLite la signale par « UNIQUE constraint failed »
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getMessage() != null
+                    && sqlException.getMessage().contains("UNIQUE constraint failed")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void hashPasswords(List<User> users) {
+        List<User> withPassword = users.stream()
+                .filter(user -> user.getPassword() != null && !user.getPassword().isEmpty())
+                .toList();
+        if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+            List<String> encoded = bounded.encodeAll(withPassword.stream().map(User::getPassword).toList());
+            for (int i = 0; i < withPassword.size(); i++) {
+                withPassword.get(i).setPassword(encoded.get(i));
+            }
+        } else {
+            withPassword.forEach(user -> user.setPassword(passwordEncoder.encode(user.getPassword())));
+        }
+    }
+
     @Override
     public User updateUser(Long id, User user) {
         logger.info("Updating user with ID: {}", id);
@@ -66,10 +207,13 @@ public class UserServiceImpl implements UserService {
                         return new RuntimeException("User not found with id: " + id);
                     });
             user.setPassword(existingUser.getPassword());
+            String previousUsername = existingUser.getUsername();
 
             logger.info("Saving updated user");
             User updatedUser = userRepository.save(user);
             logger.info("User updated successfully");
+            authenticationCache.invalidateUser(previousUsername);
+            authenticationCache.invalidateUser(updatedUser.getUsername());
             notifyObservers("UPDATE", updatedUser);
             return updatedUser;
         }
@@ -78,28 +222,51 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void deleteUser(Long id) {
         User user = userRepository.findById(id).orElse(null);
+        // refresh_tokens n'a pas de clé étrangère vers users : les jetons partent avec l'utilisateur
+        authService.deleteRefreshTokens(id);
         userRepository.deleteById(id);
         if (user != null) {
+            // Les jetons déjà émis ne doivent plus authentifier un utilisateur supprimé
+            authService.revokeUserTokens(user.getUsername());
             notifyObservers("DELETE", user);
         }
     }
 
     @Override
+    @Transactional
     public void softDeleteUser(Long id) {
-        User user = userRepository.findById(id).orElse(null);
-        userRepository.softDelete(id);
-        if (user != null) {
-            notifyObservers("SOFT_DELETE", user);
-        }
+        softDeleteUsers(List.of(id));
     }
 
     @Override
+    @Transactional
+    public int softDeleteUsers(Collection<Long> ids) {
+        // Les entités ne sont chargées que si un observateur doit être notifié
+        List<User> deleted = observers.isEmpty() ? List.of() : userRepository.findAllById(ids);
+        List<String> usernames = userRepository.findUsernamesByIds(ids);
+        int count = userRepository.softDeleteAll(ids);
+        // Comme pour une suppression : les jetons d'accès déjà émis et les détails en cache ne valent plus
+        usernames.forEach(authService::revokeUserTokens);
+        deleted.forEach(entity -> notifyObservers("SOFT_DELETE", entity));
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName, Integer roleId) {
         return userRepository.searchUsersComplexQuery(username, email, firstName, lastName, roleId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<User> searchUsersComplexQuery(String username, String email, String firstName, String lastName,
+                                              Integer roleId, Pageable pageable) {
+        return userRepository.searchUsersComplexQuery(username, email, firstName, lastName, roleId, pageable);
+    }
+
     @Override
     public void addObserver(Observer<User> observer) {
         observers.add(observer);
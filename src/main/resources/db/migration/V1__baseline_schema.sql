@@ -0,0 +1,243 @@
+-- Schéma de référence, identique à celui que produisait hbm2ddl.auto=update.
+-- Les IF NOT EXISTS rendent ce script applicable aux bases déjà créées par Hibernate.
+
+CREATE TABLE IF NOT EXISTS users (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    deviceToken varchar(255),
+    email varchar(100) not null,
+    firstName varchar(50),
+    lastLogin timestamp,
+    lastName varchar(50),
+    loginAttempts integer not null,
+    password varchar(255) not null,
+    phoneNumber varchar(20),
+    profilePhotoMimeType varchar(255),
+    profilePhotoPath varchar(255),
+    profilePhotoSize bigint,
+    username varchar(50) not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id integer,
+    description varchar(20),
+    name varchar(20) check (name in ('ROLE_ADMIN','ROLE_MODERATOR','ROLE_MEMBER','ROLE_GUEST')),
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id bigint not null,
+    role_id integer not null,
+    primary key (user_id, role_id)
+);
+
+CREATE TABLE IF NOT EXISTS associations (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    description TEXT,
+    legalStatus varchar(20),
+    location varchar(100),
+    name varchar(100) not null,
+    siret varchar(50),
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS members (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    isAdmin boolean default false,
+    joinDate date,
+    leaveDate date,
+    member_code varchar(255) unique,
+    type varchar(255) check (type in ('REGULAR','HONORARY','BENEFACTOR','VOLUNTEER','BOARD_MEMBER')),
+    association_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS member_role_history (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    endDate date,
+    isAdmin boolean default false,
+    role varchar(50),
+    startDate date,
+    member_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS membership_fees (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    amount numeric(38,2) not null,
+    endDate date,
+    paymentDate date not null,
+    paymentMethod varchar(255) check (paymentMethod in ('CASH','CHECK','BANK_TRANSFER','CREDIT_CARD','OTHER')),
+    reference varchar(50),
+    startDate date,
+    member_id bigint not null,
+    transaction_id bigint,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS financial_categories (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    description varchar(200),
+    name varchar(50) not null,
+    type varchar(255) check (type in ('INCOME','EXPENSE')),
+    association_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS financial_transactions (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    amount numeric(38,2) not null,
+    description varchar(100),
+    transactionDate date not null,
+    type varchar(255) check (type in ('INCOME','EXPENSE')),
+    activity_id bigint,
+    association_id bigint not null,
+    category_id bigint,
+    project_id bigint,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    description TEXT,
+    endDate date,
+    name varchar(100) not null,
+    startDate date,
+    status varchar(255) check (status in ('PLANNING','IN_PROGRESS','ON_HOLD','COMPLETED','CANCELLED')),
+    association_id bigint not null,
+    manager_id bigint,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS project_members (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    joinDate date,
+    leaveDate date,
+    roleInProject varchar(50),
+    member_id bigint not null,
+    project_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS activities (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    deleted boolean,
+    description TEXT,
+    endDateTime timestamp,
+    location varchar(100),
+    startDateTime timestamp,
+    status varchar(255) check (status in ('PLANNED','ONGOING','COMPLETED','CANCELLED')),
+    title varchar(100) not null,
+    type varchar(255) check (type in ('CONFERENCE','WORKSHOP','MEETING','PROJECT','TRAINING','SOCIAL_EVENT','OTHER')),
+    association_id bigint not null,
+    creator_user_id bigint,
+    project_id bigint,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS activity_participants (
+    activity_id bigint not null,
+    user_id bigint not null
+);
+
+CREATE TABLE IF NOT EXISTS documents (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    filePath varchar(255) not null,
+    fileSize bigint,
+    fileType varchar(50),
+    name varchar(100) not null,
+    uploadDate timestamp,
+    association_id bigint,
+    uploaded_by bigint,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS loans (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    amount numeric(38,2),
+    amountRepaid numeric(38,2),
+    depositAmount numeric(38,2),
+    depositRefunded boolean,
+    dueDate date,
+    interestRate numeric(38,2),
+    loanDate date,
+    notes TEXT,
+    penaltyRate numeric(38,2),
+    repaymentDate date,
+    returnDate date,
+    status varchar(255) check (status in ('ACTIVE','OVERDUE','REPAID')),
+    document_id bigint,
+    member_id bigint not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_username ON users (username);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email ON users (email);
+
+-- Blocs d'identifiants des entités (PooledTableIdGenerator)
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name varchar(255) not null,
+    next_val bigint not null,
+    primary key (sequence_name)
+);
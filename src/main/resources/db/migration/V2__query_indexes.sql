@@ -0,0 +1,45 @@
+-- Index composites alignés sur les requêtes des repositories.
+-- Les noms de colonnes reprennent la stratégie de nommage physique d'Hibernate (champs en camelCase).
+
+-- Transactions financières : filtres par association puis par période, sommes par type
+CREATE INDEX IF NOT EXISTS ix_financial_transactions_association_date ON financial_transactions (association_id, transactionDate);
+CREATE INDEX IF NOT EXISTS ix_financial_transactions_association_type ON financial_transactions (association_id, type);
+CREATE INDEX IF NOT EXISTS ix_financial_transactions_date ON financial_transactions (transactionDate);
+CREATE INDEX IF NOT EXISTS ix_financial_transactions_activity ON financial_transactions (activity_id);
+CREATE INDEX IF NOT EXISTS ix_financial_transactions_project ON financial_transactions (project_id);
+CREATE INDEX IF NOT EXISTS ix_financial_transactions_category ON financial_transactions (category_id);
+
+-- Prêts : findOverdueLoans / findActiveLoans, prêts d'un membre
+CREATE INDEX IF NOT EXISTS ix_loans_status_due_date ON loans (status, dueDate);
+CREATE INDEX IF NOT EXISTS ix_loans_member ON loans (member_id);
+
+-- Cotisations : historique d'un membre, périodes de paiement
+CREATE INDEX IF NOT EXISTS ix_membership_fees_member_payment_date ON membership_fees (member_id, paymentDate);
+CREATE INDEX IF NOT EXISTS ix_membership_fees_payment_date ON membership_fees (paymentDate);
+CREATE INDEX IF NOT EXISTS ix_membership_fees_transaction ON membership_fees (transaction_id);
+
+-- Participants aux activités : jointure dans les deux sens
+CREATE INDEX IF NOT EXISTS ix_activity_participants_activity_user ON activity_participants (activity_id, user_id);
+CREATE INDEX IF NOT EXISTS ix_activity_participants_user_activity ON activity_participants (user_id, activity_id);
+
+-- Activités
+CREATE INDEX IF NOT EXISTS ix_activities_association_start ON activities (association_id, startDateTime);
+CREATE INDEX IF NOT EXISTS ix_activities_start ON activities (startDateTime);
+CREATE INDEX IF NOT EXISTS ix_activities_project ON activities (project_id);
+
+-- Membres
+CREATE INDEX IF NOT EXISTS ix_members_association_leave_date ON members (association_id, leaveDate);
+CREATE INDEX IF NOT EXISTS ix_members_user_association ON members (user_id, association_id);
+CREATE INDEX IF NOT EXISTS ix_member_role_history_member_start ON member_role_history (member_id, startDate);
+
+-- Projets
+CREATE INDEX IF NOT EXISTS ix_projects_association_status ON projects (association_id, status);
+CREATE INDEX IF NOT EXISTS ix_projects_manager ON projects (manager_id);
+CREATE INDEX IF NOT EXISTS ix_project_members_project_member ON project_members (project_id, member_id);
+CREATE INDEX IF NOT EXISTS ix_project_members_member ON project_members (member_id);
+
+-- Divers
+CREATE INDEX IF NOT EXISTS ix_financial_categories_association ON financial_categories (association_id);
+CREATE INDEX IF NOT EXISTS ix_documents_association ON documents (association_id);
+CREATE INDEX IF NOT EXISTS ix_documents_uploaded_by ON documents (uploaded_by);
+CREATE INDEX IF NOT EXISTS ix_user_roles_role ON user_roles (role_id);
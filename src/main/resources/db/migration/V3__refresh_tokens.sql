@@ -0,0 +1,23 @@
+-- Jetons de rafraîchissement : une ligne par jeton émis, seule l'empreinte du jeton est stockée.
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    tokenHash varchar(64) not null,
+    sessionId varchar(36) not null,
+    expiresAt timestamp not null,
+    revoked boolean not null default false,
+    revokedAt timestamp,
+    user_id bigint not null,
+    primary key (id)
+);
+
+-- Lecture d'un jeton présenté, révocation d'une session, purge des jetons expirés
+CREATE UNIQUE INDEX IF NOT EXISTS ux_refresh_tokens_token_hash ON refresh_tokens (tokenHash);
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_session ON refresh_tokens (sessionId);
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_expires_at ON refresh_tokens (expiresAt);
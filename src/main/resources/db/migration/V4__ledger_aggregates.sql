@@ -0,0 +1,29 @@
+-- Agrégats du grand livre : une ligne par (association, catégorie, type, jour), tenue à jour à chaque
+-- écriture de transaction. Montants en centimes entiers ; catégorie 0 = sans catégorie.
+
+CREATE TABLE IF NOT EXISTS ledger_aggregates (
+    association_id bigint not null,
+    category_id bigint not null,
+    type varchar(16) not null check (type in ('INCOME','EXPENSE')),
+    bucketDate date not null,
+    totalCents bigint not null,
+    transactionCount bigint not null,
+    primary key (association_id, category_id, type, bucketDate)
+);
+
+-- Solde d'une association sur une période
+CREATE INDEX IF NOT EXISTS ix_ledger_aggregates_association_date ON ledger_aggregates (association_id, bucketDate);
+
+-- Alimentation initiale à partir des transactions actives
+INSERT INTO ledger_aggregates (association_id, category_id, type, bucketDate, totalCents, transactionCount)
+SELECT association_id,
+       COALESCE(category_id, 0),
+       CASE WHEN type = 'EXPENSE' OR (type IS NULL AND amount < 0) THEN 'EXPENSE' ELSE 'INCOME' END,
+       transactionDate,
+       SUM(CAST(ROUND(ABS(amount) * 100, 0) AS INTEGER)),
+       COUNT(*)
+FROM financial_transactions
+WHERE is_active = 1
+GROUP BY association_id, COALESCE(category_id, 0),
+         CASE WHEN type = 'EXPENSE' OR (type IS NULL AND amount < 0) THEN 'EXPENSE' ELSE 'INCOME' END,
+         transactionDate;
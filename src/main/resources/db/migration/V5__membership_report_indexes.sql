@@ -0,0 +1,7 @@
+-- Rapport des adhésions : index couvrants, les agrégats se calculent sans lire la table members.
+
+-- Comptes par association, type et statut (leaveDate nulle = membre actif)
+CREATE INDEX IF NOT EXISTS ix_members_report ON members (association_id, type, leaveDate, is_active);
+
+-- Cohortes par date d'adhésion
+CREATE INDEX IF NOT EXISTS ix_members_join_date ON members (joinDate, leaveDate, is_active);
@@ -0,0 +1,26 @@
+-- Rapports exécutés en arrière-plan : demande, statut et rapport produit, conservés jusqu'à la purge
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    id integer,
+    is_active boolean,
+    created_by varchar(255),
+    created_date timestamp,
+    last_modified_by varchar(255),
+    last_modified_date timestamp,
+    type varchar(16) not null check (type in ('ACTIVITY','FINANCIAL','MEMBERSHIP')),
+    format varchar(8) not null check (format in ('JSON','CSV')),
+    associationId bigint,
+    periodStart date,
+    periodEnd date,
+    dedupKey varchar(255) not null,
+    status varchar(16) not null check (status in ('QUEUED','RUNNING','COMPLETED','FAILED')),
+    requestedBy varchar(255) not null,
+    startedAt timestamp,
+    completedAt timestamp,
+    errorMessage varchar(1000),
+    result text,
+    primary key (id)
+);
+
+-- Reprise des demandes en attente au démarrage, purge des demandes terminées
+CREATE INDEX IF NOT EXISTS ix_report_jobs_status ON report_jobs (status, completedAt);
@@ -0,0 +1,3 @@
+-- Jetons de rafraîchissement des utilisateurs supprimés avant que leur suppression n'emporte leurs jetons.
+
+DELETE FROM refresh_tokens WHERE user_id NOT IN (SELECT id FROM users);
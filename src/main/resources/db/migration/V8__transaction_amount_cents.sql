@@ -0,0 +1,19 @@
+-- Montants arrondis au centime, comme l'entité les enregistre désormais, puis agrégats du grand livre
+-- recalculés sur ces montants : le suivi incrémental et les recalculs SQL partent de la même valeur.
+
+UPDATE financial_transactions SET amount = ROUND(amount, 2) WHERE amount <> ROUND(amount, 2);
+
+DELETE FROM ledger_aggregates;
+
+INSERT INTO ledger_aggregates (association_id, category_id, type, bucketDate, totalCents, transactionCount)
+SELECT association_id,
+       COALESCE(category_id, 0),
+       CASE WHEN type = 'EXPENSE' OR (type IS NULL AND amount < 0) THEN 'EXPENSE' ELSE 'INCOME' END,
+       transactionDate,
+       SUM(CAST(ROUND(ABS(amount) * 100, 0) AS INTEGER)),
+       COUNT(*)
+FROM financial_transactions
+WHERE is_active = 1
+GROUP BY association_id, COALESCE(category_id, 0),
+         CASE WHEN type = 'EXPENSE' OR (type IS NULL AND amount < 0) THEN 'EXPENSE' ELSE 'INCOME' END,
+         transactionDate;
@@ -0,0 +1,198 @@
+package com.org.testApi.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compare, sur un fichier SQLite en mode WAL, les deux façons de compter les participants du rapport
+ * d'activité : chargement de la collection de chaque activité (une requête et N utilisateurs par activité,
+ * comme {@code activity.getParticipants().size()}) contre une seule requête {@code LEFT JOIN ... GROUP BY}.
+ * <p>
+ * Lancement : {@code mvn test -Dbenchmark=true -Dtest=ActivityReportBenchmarkTest}
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ActivityReportBenchmarkTest {
+
+    private static final int ACTIVITIES = 10_000;
+    private static final int PARTICIPANTS_PER_ACTIVITY = 100;
+    private static final int USERS = 5_000;
+    private static final String[] TYPES = {"CONFERENCE", "WORKSHOP", "MEETING", "PROJECT", "TRAINING", "SOCIAL_EVENT", "OTHER"};
+    private static final String[] STATUSES = {"PLANNED", "ONGOING", "COMPLETED", "CANCELLED"};
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private Path databaseFile;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        databaseFile = Files.createTempFile("activity-report-benchmark", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode = WAL");
+            statement.execute("PRAGMA synchronous = NORMAL");
+            statement.execute("CREATE TABLE users (id INTEGER PRIMARY KEY, username VARCHAR(255), email VARCHAR(255), "
+                    + "firstName VARCHAR(255), lastName VARCHAR(255), is_active BOOLEAN)");
+            statement.execute("CREATE TABLE activities (id INTEGER PRIMARY KEY, title VARCHAR(100), type VARCHAR(255), "
+                    + "status VARCHAR(255), location VARCHAR(100), startDateTime TIMESTAMP, association_id BIGINT, "
+                    + "project_id BIGINT, is_active BOOLEAN)");
+            statement.execute("CREATE TABLE activity_participants (activity_id BIGINT NOT NULL, user_id BIGINT NOT NULL)");
+            // Index de V2__query_indexes.sql
+            statement.execute("CREATE INDEX ix_activity_participants_activity_user ON activity_participants (activity_id, user_id)");
+            statement.execute("CREATE INDEX ix_activities_start ON activities (startDateTime)");
+        }
+        connection.setAutoCommit(false);
+        seed();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+        Files.deleteIfExists(databaseFile);
+        Files.deleteIfExists(Path.of(databaseFile + "-wal"));
+        Files.deleteIfExists(Path.of(databaseFile + "-shm"));
+    }
+
+    @Test
+    void participantCounting() throws SQLException {
+        LocalDateTime from = FIRST_START;
+        LocalDateTime to = FIRST_START.plusDays(ACTIVITIES);
+
+        // Préchauffage du cache de pages SQLite et du JIT
+        loadCollections(from, to);
+        groupBy(from, to);
+
+        long start = System.nanoTime();
+        Map<String, long[]> perActivity = loadCollections(from, to);
+        long collectionNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Map<String, long[]> grouped = groupBy(from, to);
+        long groupByNanos = System.nanoTime() - start;
+
+        assertEquals(perActivity.keySet(), grouped.keySet());
+        perActivity.forEach((type, counts) -> {
+            assertEquals(counts[0], grouped.get(type)[0], type + " activities");
+            assertEquals(counts[1], grouped.get(type)[1], type + " participants");
+        });
+        System.out.printf("rapport d'activité : %d activités x %d participants, collections %d ms, "
+                        + "LEFT JOIN GROUP BY %d ms (x%.1f)%n",
+                ACTIVITIES, PARTICIPANTS_PER_ACTIVITY, collectionNanos / 1_000_000, groupByNanos / 1_000_000,
+                (double) collectionNanos / groupByNanos);
+    }
+
+    // Ancien rapport : les activités, puis la collection de participants de chacune
+    private Map<String, long[]> loadCollections(LocalDateTime from, LocalDateTime to) throws SQLException {
+        List<Object[]> activities = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id, title, type, status, location, "
+                + "startDateTime, association_id, project_id, is_active FROM activities WHERE startDateTime BETWEEN ? AND ?")) {
+            statement.setString(1, from.toString());
+            statement.setString(2, to.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    activities.add(new Object[]{resultSet.getLong(1), resultSet.getString(3)});
+                }
+            }
+        }
+        Map<String, long[]> byType = new TreeMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT u.id, u.username, u.email, u.firstName, "
+                + "u.lastName, u.is_active FROM activity_participants ap JOIN users u ON u.id = ap.user_id "
+                + "WHERE ap.activity_id = ?")) {
+            for (Object[] activity : activities) {
+                statement.setLong(1, (Long) activity[0]);
+                long participants = 0;
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(2);
+                        participants++;
+                    }
+                }
+                long[] counts = byType.computeIfAbsent((String) activity[1], type -> new long[2]);
+                counts[0]++;
+                counts[1] += participants;
+            }
+        }
+        return byType;
+    }
+
+    // Équivalent SQL de ActivityRepository#countByTypeStatusLocationAndProject
+    private Map<String, long[]> groupBy(LocalDateTime from, LocalDateTime to) throws SQLException {
+        Map<String, long[]> byType = new TreeMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT a.type, a.status, a.location, "
+                + "a.project_id, COUNT(DISTINCT a.id), COUNT(ap.user_id) FROM activities a "
+                + "LEFT JOIN activity_participants ap ON ap.activity_id = a.id "
+                + "WHERE a.startDateTime BETWEEN ? AND ? AND a.is_active = 1 "
+                + "GROUP BY a.type, a.status, a.location, a.project_id")) {
+            statement.setString(1, from.toString());
+            statement.setString(2, to.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long[] counts = byType.computeIfAbsent(resultSet.getString(1), type -> new long[2]);
+                    counts[0] += resultSet.getLong(5);
+                    counts[1] += resultSet.getLong(6);
+                }
+            }
+        }
+        return byType;
+    }
+
+    private void seed() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (id, username, email, firstName, lastName, is_active) VALUES (?, ?, ?, 'Prénom', 'Nom', 1)")) {
+            for (int i = 1; i <= USERS; i++) {
+                statement.setLong(1, i);
+                statement.setString(2, "user" + i);
+                statement.setString(3, "user" + i + "@example.com");
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (PreparedStatement activity = connection.prepareStatement("INSERT INTO activities (id, title, type, status, "
+                + "location, startDateTime, association_id, project_id, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1)");
+             PreparedStatement participant = connection.prepareStatement(
+                     "INSERT INTO activity_participants (activity_id, user_id) VALUES (?, ?)")) {
+            for (int i = 1; i <= ACTIVITIES; i++) {
+                activity.setLong(1, i);
+                activity.setString(2, "Activité " + i);
+                activity.setString(3, TYPES[i % TYPES.length]);
+                activity.setString(4, STATUSES[i % STATUSES.length]);
+                activity.setString(5, "Salle " + (i % 12));
+                activity.setString(6, FIRST_START.plusDays(i - 1).toString());
+                activity.setLong(7, i % 20 + 1);
+                if (i % 3 == 0) {
+                    activity.setNull(8, Types.BIGINT);
+                } else {
+                    activity.setLong(8, i % 40 + 1);
+                }
+                activity.addBatch();
+                for (int j = 0; j < PARTICIPANTS_PER_ACTIVITY; j++) {
+                    participant.setLong(1, i);
+                    participant.setLong(2, (i * 7L + j) % USERS + 1);
+                    participant.addBatch();
+                }
+                participant.executeBatch();
+            }
+            activity.executeBatch();
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,147 @@
+package com.org.testApi.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compare, sur un fichier SQLite en mode WAL, l'insertion ligne à ligne avec clé IDENTITY
+ * (un aller-retour par ligne pour relire la clé générée) et l'insertion en batch JDBC
+ * avec des identifiants réservés par blocs, comme le fait désormais Hibernate.
+ * <p>
+ * Lancement : {@code mvn test -Dbenchmark=true -Dtest=BulkInsertBenchmarkTest}
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH_SIZE = 50;
+
+    private Path databaseFile;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        databaseFile = Files.createTempFile("bulk-insert-benchmark", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode = WAL");
+            statement.execute("PRAGMA synchronous = NORMAL");
+            statement.execute("CREATE TABLE membership_fees (id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                    + "member_id BIGINT, amount NUMERIC, payment_date DATE, payment_method VARCHAR(255), is_active BOOLEAN)");
+            statement.execute("CREATE TABLE financial_transactions (id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                    + "association_id BIGINT, amount NUMERIC, transaction_date DATE, type VARCHAR(255), is_active BOOLEAN)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+        Files.deleteIfExists(databaseFile);
+        Files.deleteIfExists(Path.of(databaseFile + "-wal"));
+        Files.deleteIfExists(Path.of(databaseFile + "-shm"));
+    }
+
+    @Test
+    void membershipFees() throws SQLException {
+        String sql = "INSERT INTO membership_fees (%s member_id, amount, payment_date, payment_method, is_active) "
+                + "VALUES (%s ?, ?, ?, ?, 1)";
+        compare("membership_fees", sql, (statement, i, offset) -> {
+            statement.setLong(offset, i % 500);
+            statement.setBigDecimal(offset + 1, BigDecimal.valueOf(2500, 2));
+            statement.setString(offset + 2, LocalDate.of(2024, 1, 1).plusDays(i % 365).toString());
+            statement.setString(offset + 3, "CASH");
+        });
+    }
+
+    @Test
+    void financialTransactions() throws SQLException {
+        String sql = "INSERT INTO financial_transactions (%s association_id, amount, transaction_date, type, is_active) "
+                + "VALUES (%s ?, ?, ?, ?, 1)";
+        compare("financial_transactions", sql, (statement, i, offset) -> {
+            statement.setLong(offset, i % 20);
+            statement.setBigDecimal(offset + 1, BigDecimal.valueOf(10_000 + i, 2));
+            statement.setString(offset + 2, LocalDate.of(2024, 1, 1).plusDays(i % 365).toString());
+            statement.setString(offset + 3, i % 3 == 0 ? "EXPENSE" : "INCOME");
+        });
+    }
+
+    private void compare(String table, String sqlTemplate, RowBinder binder) throws SQLException {
+        long identityNanos = insertWithIdentity(String.format(sqlTemplate, "", ""), binder);
+        clear(table);
+        long batchedNanos = insertBatchedWithAllocatedIds(String.format(sqlTemplate, "id,", "?,"), binder);
+
+        assertEquals(ROWS, count(table));
+        System.out.printf("%s: %d lignes, IDENTITY %d ms, batch pooled-lo %d ms (x%.1f)%n",
+                table, ROWS, identityNanos / 1_000_000, batchedNanos / 1_000_000,
+                (double) identityNanos / batchedNanos);
+    }
+
+    private long insertWithIdentity(String sql, RowBinder binder) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                binder.bind(statement, i, 1);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    private long insertBatchedWithAllocatedIds(String sql, RowBinder binder) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setLong(1, i + 1L);
+                binder.bind(statement, i, 2);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    private void clear(String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM " + table);
+        }
+        connection.commit();
+    }
+
+    private long count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int row, int offset) throws SQLException;
+    }
+}
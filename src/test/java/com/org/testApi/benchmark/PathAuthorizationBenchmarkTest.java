@@ -0,0 +1,143 @@
+package com.org.testApi.benchmark;
+
+import com.org.testApi.config.PathAuthorizationManager;
+import com.org.testApi.config.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mesure le coût d'autorisation par requête : ancienne liste ordonnée de {@code requestMatchers}
+ * (motifs Ant évalués un à un) contre l'arbre de chemins de {@link PathAuthorizationManager}.
+ * <p>
+ * Lancement : {@code mvn test -Dbenchmark=true -Dtest=PathAuthorizationBenchmarkTest}
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PathAuthorizationBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    private static final Authentication MEMBER = UsernamePasswordAuthenticationToken.authenticated(
+            "membre", "", AuthorityUtils.createAuthorityList("ROLE_MEMBER"));
+    private static final Authentication ADMIN = UsernamePasswordAuthenticationToken.authenticated(
+            "admin", "", AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_MEMBER"));
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    void compareWithOrderedMatchers() {
+        PathAuthorizationManager manager = new SecurityConfig(null, null).pathAuthorizationManager();
+        List<MockHttpServletRequest> requests = List.of(
+                request("POST", "/api/auth/login"),
+                request("GET", "/swagger-ui/index.html"),
+                request("GET", "/api/members/42"),
+                request("GET", "/api/members/payload/42"),
+                request("GET", "/api/associations/7/members"),
+                request("GET", "/api/users/3"),
+                request("POST", "/api/users/3/roles/1"),
+                request("GET", "/api/roles"),
+                request("GET", "/api/loans/overdue"),
+                request("GET", "/api/financial-transactions"));
+        List<Supplier<Authentication>> users = List.of(() -> MEMBER, () -> ADMIN);
+
+        for (MockHttpServletRequest request : requests) {
+            for (Supplier<Authentication> user : users) {
+                assertEquals(ordered(user, request), manager.decide(user, request).isGranted(),
+                        request.getMethod() + " " + request.getRequestURI());
+            }
+        }
+
+        run(requests, users, WARMUP, (user, request) -> ordered(user, request));
+        run(requests, users, WARMUP, (user, request) -> manager.decide(user, request).isGranted());
+
+        long start = System.nanoTime();
+        run(requests, users, ITERATIONS, (user, request) -> ordered(user, request));
+        long orderedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        run(requests, users, ITERATIONS, (user, request) -> manager.decide(user, request).isGranted());
+        long trieNanos = System.nanoTime() - start;
+
+        System.out.printf("autorisation : liste ordonnée %d ns/requête, arbre de chemins %d ns/requête (x%.1f)%n",
+                orderedNanos / ITERATIONS, trieNanos / ITERATIONS, (double) orderedNanos / trieNanos);
+    }
+
+    private static int run(List<MockHttpServletRequest> requests, List<Supplier<Authentication>> users, int iterations,
+                           Decision decision) {
+        int granted = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (decision.granted(users.get(i % users.size()), requests.get(i % requests.size()))) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);
+        return request;
+    }
+
+    @FunctionalInterface
+    private interface Decision {
+        boolean granted(Supplier<Authentication> authentication, MockHttpServletRequest request);
+    }
+
+    // Reproduction de la chaîne précédente de SecurityConfig : premier motif correspondant,
+    // puis @PreAuthorize("hasRole('ADMIN')") sur l'attribution des rôles
+
+    private static final Predicate<Authentication> IS_ADMIN = auth -> auth.getAuthorities().stream()
+            .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    private static final Predicate<Authentication> IS_AUTHENTICATED = Authentication::isAuthenticated;
+    private static final Predicate<Authentication> PERMIT_ALL = auth -> true;
+
+    private static final List<Map.Entry<String[], Predicate<Authentication>>> ORDERED_RULES = List.of(
+            Map.entry(new String[]{"/api/auth/register/batch"}, IS_ADMIN),
+            Map.entry(new String[]{"/", "/api/auth/**"}, PERMIT_ALL),
+            Map.entry(new String[]{"/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html"}, PERMIT_ALL),
+            Map.entry(new String[]{"/error"}, PERMIT_ALL),
+            Map.entry(new String[]{"/actuator/health"}, PERMIT_ALL),
+            Map.entry(new String[]{"/h2-console/**"}, PERMIT_ALL),
+            Map.entry(new String[]{"/api/roles/**"}, IS_ADMIN),
+            Map.entry(new String[]{"/api/admin/**"}, IS_ADMIN),
+            Map.entry(new String[]{"/api/associations/**"}, IS_AUTHENTICATED),
+            Map.entry(new String[]{"/api/users/**"}, IS_AUTHENTICATED),
+            Map.entry(new String[]{"/api/users/payload", "/api/users/payload/**"}, IS_AUTHENTICATED),
+            Map.entry(new String[]{"/api/events/**"}, IS_AUTHENTICATED),
+            Map.entry(new String[]{"/api/members/**"}, IS_AUTHENTICATED),
+            Map.entry(new String[]{"/api/members/payload", "/api/members/payload/**"}, IS_AUTHENTICATED));
+
+    private boolean ordered(Supplier<Authentication> authentication, MockHttpServletRequest request) {
+        String path = request.getServletPath();
+        Predicate<Authentication> access = IS_AUTHENTICATED;
+        search:
+        for (Map.Entry<String[], Predicate<Authentication>> rule : ORDERED_RULES) {
+            for (String pattern : rule.getKey()) {
+                if (antPathMatcher.match(pattern, path)) {
+                    access = rule.getValue();
+                    break search;
+                }
+            }
+        }
+        if (access != PERMIT_ALL && !access.test(authentication.get())) {
+            return false;
+        }
+        boolean roleAssignment = ("POST".equals(request.getMethod()) || "DELETE".equals(request.getMethod()))
+                && antPathMatcher.match("/api/users/*/roles/*", path);
+        return !roleAssignment || IS_ADMIN.test(authentication.get());
+    }
+}
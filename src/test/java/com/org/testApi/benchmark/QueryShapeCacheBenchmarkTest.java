@@ -0,0 +1,126 @@
+package com.org.testApi.benchmark;
+
+import com.org.testApi.models.Association;
+import com.org.testApi.repository.AssociationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compare l'ancienne implémentation Criteria de {@code findByAttributes} / {@code findByAttributeContains}
+ * (requête reconstruite et réinterprétée à chaque appel) aux formes JPQL mises en cache.
+ * <p>
+ * Lancement : {@code mvn test -Dbenchmark=true -Dtest=QueryShapeCacheBenchmarkTest}
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/query-shape-benchmark.db")
+class QueryShapeCacheBenchmarkTest {
+
+    private static final int ASSOCIATIONS = 2_000;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void compareWithCriteriaQueries() {
+        if (associationRepository.count() < ASSOCIATIONS) {
+            List<Association> associations = new ArrayList<>();
+            for (int i = 0; i < ASSOCIATIONS; i++) {
+                associations.add(Association.builder()
+                        .name("Association " + i)
+                        .location("Ville " + (i % 50))
+                        .legalStatus("ASBL")
+                        .build());
+            }
+            associationRepository.saveAll(associations);
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        report("égalité", readOnly,
+                i -> criteriaEquals(Map.of("location", "Ville " + (i % 50), "legalStatus", "ASBL")).size(),
+                i -> associationRepository.findByAttributes(Map.of("location", "Ville " + (i % 50), "legalStatus", "ASBL")).size());
+        report("sous-chaîne", readOnly,
+                i -> criteriaContains("name", "ation " + (i % 100)).size(),
+                i -> associationRepository.findByAttributeContains("name", "ation " + (i % 100)).size());
+        report("préfixe", readOnly,
+                i -> criteriaContains("name", "Association " + (i % 100)).size(),
+                i -> associationRepository.findByAttributeStartsWith("name", "Association " + (i % 100)).size());
+    }
+
+    private void report(String label, TransactionTemplate readOnly, IntFunction<Integer> criteria, IntFunction<Integer> cached) {
+        assertEquals(run(readOnly, criteria, 1), run(readOnly, cached, 1));
+        run(readOnly, criteria, WARMUP);
+        run(readOnly, cached, WARMUP);
+
+        long start = System.nanoTime();
+        run(readOnly, criteria, ITERATIONS);
+        long criteriaNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        run(readOnly, cached, ITERATIONS);
+        long cachedNanos = System.nanoTime() - start;
+
+        System.out.printf("%s : Criteria %d µs/requête, forme en cache %d µs/requête (x%.1f)%n", label,
+                criteriaNanos / 1_000 / ITERATIONS, cachedNanos / 1_000 / ITERATIONS,
+                (double) criteriaNanos / cachedNanos);
+    }
+
+    private int run(TransactionTemplate readOnly, IntFunction<Integer> query, int iterations) {
+        Integer total = readOnly.execute(status -> {
+            int sum = 0;
+            for (int i = 0; i < iterations; i++) {
+                sum += query.apply(i);
+                entityManager.clear();
+            }
+            return sum;
+        });
+        return total == null ? 0 : total;
+    }
+
+    // Reproduction de l'implémentation précédente de BaseRepositoryImpl
+
+    private List<Association> criteriaEquals(Map<String, Object> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Association> query = cb.createQuery(Association.class);
+        Root<Association> root = query.from(Association.class);
+        query.where(attributes.entrySet().stream()
+                .map(entry -> cb.equal(root.get(entry.getKey()), entry.getValue()))
+                .toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<Association> criteriaContains(String attribute, String value) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Association> query = cb.createQuery(Association.class);
+        Root<Association> root = query.from(Association.class);
+        query.where(cb.like(cb.lower(root.get(attribute)), "%" + value.toLowerCase() + "%"));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.org.testApi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathAuthorizationManagerTest {
+
+    private static final Authentication MEMBER = UsernamePasswordAuthenticationToken.authenticated(
+            "membre", "", AuthorityUtils.createAuthorityList("ROLE_MEMBER"));
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken(
+            "key", "anonymous", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    private final PathAuthorizationManager manager = PathAuthorizationManager.builder()
+            .hasRole("ADMIN", "/api/users/**")
+            .hasRole("MEMBER", "/api/users/me")
+            .hasRole(HttpMethod.GET, "MEMBER", "/api/members/*")
+            .hasRole("ADMIN", "/api/members/*")
+            .authenticated("/api/members/*/fees")
+            .permitAll("/api/auth/**")
+            .build();
+
+    @Test
+    void literalSegmentWinsOverWildcardsWhateverTheOrder() {
+        assertEquals("/api/users/me", manager.ruleFor("GET", "/api/users/me").pattern());
+        assertEquals("/api/users/**", manager.ruleFor("GET", "/api/users/42").pattern());
+        assertEquals("/api/members/*/fees", manager.ruleFor("GET", "/api/members/7/fees").pattern());
+    }
+
+    @Test
+    void doubleWildcardCoversZeroOrMoreSegments() {
+        assertEquals("/api/users/**", manager.ruleFor("DELETE", "/api/users").pattern());
+        assertEquals("/api/users/**", manager.ruleFor("POST", "/api/users/3/roles/1").pattern());
+        assertEquals(PathAuthorizationManager.Access.PERMIT_ALL, manager.ruleFor("POST", "/api/auth/login").access());
+    }
+
+    @Test
+    void methodRuleIsPreferredToAnyMethodRule() {
+        PathAuthorizationManager.Rule get = manager.ruleFor("GET", "/api/members/7");
+        PathAuthorizationManager.Rule delete = manager.ruleFor("DELETE", "/api/members/7");
+
+        assertEquals("ROLE_MEMBER", get.authority());
+        assertEquals("ROLE_ADMIN", delete.authority());
+    }
+
+    @Test
+    void uncoveredPathsRequireAuthentication() {
+        assertSame(PathAuthorizationManager.Rule.DEFAULT, manager.ruleFor("GET", "/api/roles"));
+        assertSame(PathAuthorizationManager.Rule.DEFAULT, manager.ruleFor("GET", "/api/members/7/fees/2"));
+        assertSame(PathAuthorizationManager.Rule.DEFAULT, manager.ruleFor("GET", "/"));
+    }
+
+    @Test
+    void decisionsFollowTheMatchedRule() {
+        assertTrue(manager.decide(() -> ANONYMOUS, request("POST", "/api/auth/login")).isGranted());
+        assertFalse(manager.decide(() -> ANONYMOUS, request("GET", "/api/roles")).isGranted());
+        assertTrue(manager.decide(() -> MEMBER, request("GET", "/api/members/7")).isGranted());
+        assertFalse(manager.decide(() -> MEMBER, request("DELETE", "/api/members/7")).isGranted());
+    }
+
+    @Test
+    void invalidOrConflictingPatternsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PathAuthorizationManager.builder().permitAll("/api/**/x"));
+        assertThrows(IllegalArgumentException.class, () -> PathAuthorizationManager.builder().permitAll("/api/user*"));
+        assertThrows(IllegalStateException.class, () -> PathAuthorizationManager.builder()
+                .permitAll("/api/roles")
+                .hasRole("ADMIN", "/api/roles"));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package com.org.testApi.repository.search;
+
+import com.org.testApi.models.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchQueryTemplateTest {
+
+    private final SearchQueryTemplate<Member> template = SearchQueryTemplate.builder(Member.class, "m")
+            .keyFilter("associationId", "m.association.id = :associationId")
+            .sortable("memberCode", "m.memberCode")
+            .sortable("leaveDate", "m.leaveDate")
+            .sortable("joinDate", "m.joinDate")
+            .sortable("association", "m.association.name")
+            .defaultSort(Sort.by("memberCode"))
+            .build();
+
+    @SuppressWarnings("unchecked")
+    private final TypedQuery<Member> query = mock(TypedQuery.class);
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+
+    @Test
+    void repeatedAndDecoratedOrdersShareTheirShape() {
+        String plain = jpql(Sort.by(Sort.Order.asc("memberCode"), Sort.Order.desc("joinDate")));
+        String repeated = jpql(Sort.by(Sort.Order.asc("memberCode"), Sort.Order.asc("memberCode"),
+                Sort.Order.desc("joinDate"), Sort.Order.asc("memberCode")));
+        String decorated = jpql(Sort.by(Sort.Order.asc("memberCode").ignoreCase().nullsLast(),
+                Sort.Order.desc("joinDate")));
+
+        assertEquals("SELECT m FROM Member m WHERE 1=1 ORDER BY m.memberCode ASC, m.joinDate DESC, m.id ASC", plain);
+        assertSame(plain, repeated);
+        assertSame(plain, decorated);
+    }
+
+    @Test
+    void tooManyOrdersAreRejected() {
+        Sort sort = Sort.by("memberCode", "leaveDate", "joinDate", "association");
+
+        assertThrows(IllegalArgumentException.class, () -> template.bind().list(entityManager, sort));
+    }
+
+    @Test
+    void unknownPropertyIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> template.bind().list(entityManager, Sort.by("user")));
+    }
+
+    private String jpql(Sort sort) {
+        when(entityManager.createQuery(anyString(), eq(Member.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+        template.bind().list(entityManager, sort);
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, atLeastOnce()).createQuery(captor.capture(), any(Class.class));
+        return captor.getValue();
+    }
+}
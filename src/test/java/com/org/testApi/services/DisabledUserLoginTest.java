@@ -0,0 +1,76 @@
+package com.org.testApi.services;
+
+import com.org.testApi.models.User;
+import com.org.testApi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Un compte désactivé reste refusé quand ses détails sont servis par le cache d'authentification.
+ */
+class DisabledUserLoginTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final AuthenticationCache authenticationCache =
+            new AuthenticationCache(100, Duration.ofMinutes(15), 100, Duration.ofMinutes(5));
+
+    private final UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl();
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private final DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDetailsService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userDetailsService, "authenticationCache", authenticationCache);
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+    }
+
+    @Test
+    void disabledUserIsRefusedOnEveryAttempt() {
+        User user = User.builder().username("alice").email("alice@example.org")
+                .password(passwordEncoder.encode("secret")).build();
+        user.setActive(false);
+        when(userRepository.findWithRolesByUsername("alice")).thenReturn(Optional.of(user));
+
+        assertThrows(DisabledException.class, () -> provider.authenticate(login("alice", "secret")));
+        assertThrows(DisabledException.class, () -> provider.authenticate(login("alice", "secret")));
+
+        // La seconde tentative a bien été servie par le cache
+        verify(userRepository, times(1)).findWithRolesByUsername("alice");
+        assertFalse(authenticationCache.getUser("alice").isEnabled());
+    }
+
+    @Test
+    void cachedCopyKeepsItsPasswordAfterASuccessfulLogin() {
+        User user = User.builder().username("bob").email("bob@example.org")
+                .password(passwordEncoder.encode("secret")).build();
+        when(userRepository.findWithRolesByUsername("bob")).thenReturn(Optional.of(user));
+
+        assertTrue(provider.authenticate(login("bob", "secret")).isAuthenticated());
+        assertTrue(provider.authenticate(login("bob", "secret")).isAuthenticated());
+    }
+
+    private static UsernamePasswordAuthenticationToken login(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
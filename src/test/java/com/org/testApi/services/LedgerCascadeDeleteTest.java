@@ -0,0 +1,124 @@
+package com.org.testApi.services;
+
+import com.org.testApi.models.Association;
+import com.org.testApi.models.FinancialTransaction;
+import com.org.testApi.models.Project;
+import com.org.testApi.repository.AssociationRepository;
+import com.org.testApi.repository.FinancialTransactionRepository;
+import com.org.testApi.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Les transactions supprimées en cascade avec leur projet ou leur association sortent aussi du grand livre,
+ * et le grand livre concorde avec son recalcul SQL. Base SQLite temporaire, migrée au démarrage du contexte.
+ */
+@SpringBootTest
+class LedgerCascadeDeleteTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    private static Path database;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @Autowired
+    private FinancialTransactionService financialTransactionService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private AssociationService associationService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        database = Files.createTempFile("ledger-cascade", ".db");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+        Files.deleteIfExists(database);
+        Files.deleteIfExists(Path.of(database + "-wal"));
+        Files.deleteIfExists(Path.of(database + "-shm"));
+    }
+
+    @Test
+    void deletingProjectRemovesItsTransactionsFromTheBalance() {
+        Association association = associationRepository.save(Association.builder().name("Projet supprimé").build());
+        Project project = projectRepository.save(Project.builder().name("Chantier").association(association).build());
+        transaction(association, null, FinancialTransaction.TransactionType.INCOME, "100.00");
+        transaction(association, project, FinancialTransaction.TransactionType.INCOME, "40.00");
+        transaction(association, project, FinancialTransaction.TransactionType.EXPENSE, "15.00");
+        assertEquals(new BigDecimal("125.00"), balance(association));
+
+        projectService.deleteProject(project.getId());
+
+        assertEquals(new BigDecimal("100.00"), balance(association));
+        assertEquals(new BigDecimal("100.00"), financialTransactionRepository.sumIncomeByAssociationId(association.getId()));
+        assertTrue(ledgerService.verify().isEmpty());
+    }
+
+    @Test
+    void deletingAssociationEmptiesItsBuckets() {
+        Association association = associationRepository.save(Association.builder().name("Association supprimée").build());
+        transaction(association, null, FinancialTransaction.TransactionType.INCOME, "60.00");
+        transaction(association, null, FinancialTransaction.TransactionType.EXPENSE, "20.00");
+        assertEquals(new BigDecimal("40.00"), balance(association));
+
+        associationService.deleteAssociation(association.getId());
+
+        assertNull(balance(association));
+        assertTrue(ledgerService.verify().isEmpty());
+    }
+
+    @Test
+    void amountsBeyondTheCentAreRoundedTheSameWayEverywhere() {
+        Association association = associationRepository.save(Association.builder().name("Demi-centime").build());
+        FinancialTransaction saved = transaction(association, null, FinancialTransaction.TransactionType.INCOME, "1.005");
+
+        assertEquals(new BigDecimal("1.01"), saved.getAmount());
+        assertEquals(new BigDecimal("1.01"), balance(association));
+        assertTrue(ledgerService.verify().isEmpty());
+    }
+
+    private FinancialTransaction transaction(Association association, Project project, FinancialTransaction.TransactionType type,
+                             String amount) {
+        return financialTransactionService.saveFinancialTransaction(FinancialTransaction.builder()
+                .association(association)
+                .project(project)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .transactionDate(DAY)
+                .build());
+    }
+
+    private BigDecimal balance(Association association) {
+        return financialTransactionRepository.calculateBalanceForPeriod(association.getId(), DAY, DAY);
+    }
+}
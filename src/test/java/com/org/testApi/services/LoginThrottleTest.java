@@ -0,0 +1,60 @@
+package com.org.testApi.services;
+
+import com.org.testApi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoginThrottleTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    // 3 tentatives par utilisateur, 5 par adresse IP, un jeton rendu par minute : pas de remplissage pendant le test
+    private final LoginThrottle throttle = new LoginThrottle(userRepository, 3, 1, 5, 1, 100);
+
+    @Test
+    void usernameBucketRejectsOnceEmpty() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("alice", null);
+        }
+
+        LoginThrottledException e = assertThrows(LoginThrottledException.class, () -> throttle.acquire("alice", null));
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+        assertDoesNotThrow(() -> throttle.acquire("bob", null));
+    }
+
+    @Test
+    void ipBucketIsSharedAcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("user" + i, "203.0.113.7");
+        }
+
+        assertThrows(LoginThrottledException.class, () -> throttle.acquire("other", "203.0.113.7"));
+        assertDoesNotThrow(() -> throttle.acquire("other", "203.0.113.8"));
+    }
+
+    @Test
+    void persistedFailuresStartWithAPartialBucket() {
+        when(userRepository.findLoginAttemptsByUsername("carol")).thenReturn(Optional.of(2));
+
+        throttle.acquire("carol", null);
+
+        assertThrows(LoginThrottledException.class, () -> throttle.acquire("carol", null));
+    }
+
+    @Test
+    void successfulLoginRefillsTheUserBucket() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("dave", null);
+        }
+        throttle.reset("dave");
+
+        assertDoesNotThrow(() -> throttle.acquire("dave", null));
+    }
+}
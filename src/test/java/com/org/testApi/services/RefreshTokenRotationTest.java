@@ -0,0 +1,123 @@
+package com.org.testApi.services;
+
+import com.org.testApi.config.JwtKeyManager;
+import com.org.testApi.models.RefreshToken;
+import com.org.testApi.models.User;
+import com.org.testApi.payload.TokenResponse;
+import com.org.testApi.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rotation des jetons de rafraîchissement : un jeton déjà consommé, ou dont l'utilisateur n'existe plus,
+ * révoque sa session et les jetons d'accès qui en sont issus.
+ */
+class RefreshTokenRotationTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+
+    private final AuthServiceImpl authService = new AuthServiceImpl(null, Duration.ofMinutes(15), Duration.ofDays(14));
+
+    private final User user = User.builder().username("alice").email("alice@example.org").password("secret").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(authService, "refreshTokenRepository", refreshTokenRepository);
+        ReflectionTestUtils.setField(authService, "jwtKeyManager", new JwtKeyManager("", "", "PKCS12", ""));
+        ReflectionTestUtils.setField(authService, "authenticationCache",
+                new AuthenticationCache(100, Duration.ofMinutes(15), 100, Duration.ofMinutes(5)));
+        user.setId(1L);
+    }
+
+    @Test
+    void validTokenIsConsumedAndRotatedInItsSession() {
+        RefreshToken stored = stored("refresh-1", "session-1", user, false);
+        when(refreshTokenRepository.consume(eq(stored.getId()), any())).thenReturn(1);
+
+        TokenResponse response = authService.refreshTokens("refresh-1");
+
+        assertNotNull(authService.verifyToken(response.getAccessToken()));
+        assertEquals("session-1", savedToken().getSessionId());
+        verify(refreshTokenRepository, never()).revokeSession(any(), any());
+    }
+
+    @Test
+    void reusedTokenRevokesItsSession() {
+        TokenResponse issued = authService.issueTokens(user);
+        String sessionId = savedToken().getSessionId();
+        assertNotNull(authService.verifyToken(issued.getAccessToken()));
+        stored("refresh-1", sessionId, user, true);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refreshTokens("refresh-1"));
+
+        verify(refreshTokenRepository).revokeSession(eq(sessionId), any());
+        verify(refreshTokenRepository, never()).consume(anyLong(), any());
+        assertNull(authService.verifyToken(issued.getAccessToken()));
+    }
+
+    @Test
+    void tokenConsumedConcurrentlyIsTreatedAsReuse() {
+        RefreshToken stored = stored("refresh-1", "session-1", user, false);
+        when(refreshTokenRepository.consume(eq(stored.getId()), any())).thenReturn(0);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refreshTokens("refresh-1"));
+
+        verify(refreshTokenRepository).revokeSession(eq("session-1"), any());
+    }
+
+    @Test
+    void orphanTokenIsRejectedWithoutError() {
+        RefreshToken stored = stored("refresh-1", "session-1", null, false);
+        when(refreshTokenRepository.consume(eq(stored.getId()), any())).thenReturn(1);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refreshTokens("refresh-1"));
+
+        verify(refreshTokenRepository).revokeSession(eq("session-1"), any());
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> authService.refreshTokens("unknown"));
+    }
+
+    private RefreshToken stored(String token, String sessionId, User owner, boolean revoked) {
+        RefreshToken stored = RefreshToken.builder()
+                .tokenHash(AuthenticationCache.fingerprint(token))
+                .sessionId(sessionId)
+                .user(owner)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .revoked(revoked)
+                .build();
+        stored.setId(10L);
+        when(refreshTokenRepository.findByTokenHash(AuthenticationCache.fingerprint(token)))
+                .thenReturn(Optional.of(stored));
+        return stored;
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,74 @@
+package com.org.testApi.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenDenyListTest {
+
+    private static final long VALIDITY_SECONDS = 900;
+
+    private final TokenDenyList denyList = new TokenDenyList(VALIDITY_SECONDS);
+
+    @Test
+    void revokedTokenIsDeniedByItsId() {
+        Instant now = Instant.now();
+        denyList.revokeToken("jti-1", now.plusSeconds(60));
+
+        assertTrue(denyList.isRevoked("jti-1", null, "alice", now));
+        assertFalse(denyList.isRevoked("jti-2", null, "alice", now));
+    }
+
+    @Test
+    void revokedSessionDeniesAllItsTokens() {
+        denyList.revokeSession("session-1");
+
+        assertTrue(denyList.isRevoked("jti-1", "session-1", "alice", Instant.now()));
+        assertFalse(denyList.isRevoked("jti-1", "session-2", "alice", Instant.now()));
+    }
+
+    @Test
+    void userRevocationDeniesEarlierTokensOnly() {
+        Instant now = Instant.now();
+        denyList.revokeUser("alice");
+
+        assertTrue(denyList.isRevoked("old", null, "alice", now.minusSeconds(1)));
+        assertTrue(denyList.isRevoked("unknown-iat", null, "alice", null));
+        assertFalse(denyList.isRevoked("new", null, "alice", now.plusSeconds(2)));
+        assertFalse(denyList.isRevoked("other", null, "bob", now.minusSeconds(1)));
+    }
+
+    @Test
+    void tokenIssuedInTheRevocationSecondIsDeniedOnlyIfIssuedBefore() throws InterruptedException {
+        Instant before = Instant.now();
+        denyList.tokenIssued("before", "alice", before, before.plusSeconds(VALIDITY_SECONDS));
+        Thread.sleep(2);
+        denyList.revokeUser("alice");
+        Thread.sleep(2);
+        Instant after = Instant.now();
+        denyList.tokenIssued("after", "alice", after, after.plusSeconds(VALIDITY_SECONDS));
+
+        // iat n'est qu'à la seconde, comme dans le jeton signé
+        assertTrue(denyList.isRevoked("before", null, "alice", before.truncatedTo(ChronoUnit.SECONDS)));
+        assertFalse(denyList.isRevoked("after", null, "alice", after.truncatedTo(ChronoUnit.SECONDS)));
+    }
+
+    @Test
+    void expiredEntriesArePurged() {
+        Instant now = Instant.now();
+        denyList.revokeToken("expired", now.minusSeconds(10));
+        // La purge a lieu toutes les 256 révocations
+        for (int i = 1; i < 256; i++) {
+            denyList.revokeToken("live-" + i, now.plusSeconds(60));
+        }
+
+        assertFalse(denyList.isRevoked("expired", null, "alice", now));
+        assertTrue(denyList.isRevoked("live-1", null, "alice", now));
+        assertEquals(255, denyList.size());
+    }
+}